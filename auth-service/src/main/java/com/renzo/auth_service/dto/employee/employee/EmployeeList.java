@@ -5,6 +5,7 @@ import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
 import lombok.*;
 
+import java.time.LocalDateTime;
 import java.util.UUID;
 
 @Getter
@@ -37,4 +38,7 @@ public class EmployeeList {
 
     @Schema(description = "URL of employee's profile image", example = "https://example.com/profile.jpg", nullable = true)
     private String imageUrl;
+
+    @Schema(description = "Timestamp when employee was last updated", example = "2023-01-20T15:45:00")
+    private LocalDateTime updatedAt;
 }
\ No newline at end of file
@@ -6,6 +6,7 @@ import jakarta.ws.rs.core.Response;
 import org.keycloak.admin.client.CreatedResponseUtil;
 import org.keycloak.admin.client.Keycloak;
 import org.keycloak.admin.client.KeycloakBuilder;
+import org.keycloak.admin.client.resource.RealmResource;
 import org.keycloak.admin.client.resource.UserResource;
 import org.keycloak.admin.client.resource.UsersResource;
 import org.keycloak.representations.idm.CredentialRepresentation;
@@ -18,6 +19,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
 
 @Service
 public class KeycloakService {
@@ -36,6 +38,11 @@ public class KeycloakService {
 
     private Keycloak keycloak;
 
+    // The admin client's TokenManager refreshes the token inside a synchronized method, which pins a
+    // virtual thread's carrier for the whole HTTP round trip. Refreshing up front under a ReentrantLock
+    // lets waiting virtual threads unmount, and the synchronized call then finds a valid token.
+    private final ReentrantLock tokenLock = new ReentrantLock();
+
     @PostConstruct
     public void init() {
         this.keycloak = KeycloakBuilder.builder()
@@ -65,7 +72,7 @@ public class KeycloakService {
             userRep.setAttributes(Collections.singletonMap("locale", Arrays.asList("en")));
 
             // 2. Create the user
-            Response response = keycloak.realm(realm).users().create(userRep);
+            Response response = realmResource().users().create(userRep);
             if (response.getStatus() != 201) {
                 throw new RuntimeException("Failed to create user: " + response.getStatusInfo().getReasonPhrase());
             }
@@ -74,7 +81,7 @@ public class KeycloakService {
             response.close(); // Important: close the response
 
             // 3. Get user resource for further operations
-            UserResource userResource = keycloak.realm(realm).users().get(userId);
+            UserResource userResource = realmResource().users().get(userId);
 
             // 4. Set permanent password
             CredentialRepresentation cred = new CredentialRepresentation();
@@ -94,7 +101,7 @@ public class KeycloakService {
             try {
                 String roleName = request.getRole();
                 List<RoleRepresentation> roles =
-                        Collections.singletonList(keycloak.realm(realm).roles().get(roleName).toRepresentation());
+                        Collections.singletonList(realmResource().roles().get(roleName).toRepresentation());
                 userResource.roles().realmLevel().add(roles);
             } catch (Exception e) {
                 // If role doesn't exist, log but don't fail the user creation
@@ -116,7 +123,7 @@ public class KeycloakService {
     }
 
     public boolean isEmailExisting(String email){
-        UsersResource usersResource = keycloak.realm(realm).users();
+        UsersResource usersResource = realmResource().users();
 
         // Search for users by email
         List<UserRepresentation> users = usersResource.search(email);
@@ -125,7 +132,7 @@ public class KeycloakService {
     }
 
     public List<String> getUserRoles(String userId) {
-        UserResource userResource = keycloak.realm(realm).users().get(userId);
+        UserResource userResource = realmResource().users().get(userId);
 
         List<String> roleNames = new ArrayList<>();
 
@@ -134,7 +141,7 @@ public class KeycloakService {
                 .forEach(role -> roleNames.add(role.getName()));
 
         // Client roles
-        keycloak.realm(realm).clients().findAll().forEach(client -> {
+        realmResource().clients().findAll().forEach(client -> {
             userResource.roles().clientLevel(client.getId()).listAll()
                     .forEach(role -> roleNames.add(role.getName()));
         });
@@ -143,9 +150,19 @@ public class KeycloakService {
     }
 
     public String getUsername(String userId){
-        UserResource userResource = keycloak.realm(realm).users().get(userId);
+        UserResource userResource = realmResource().users().get(userId);
         UserRepresentation user = userResource.toRepresentation();
 
         return  user.getUsername();
     }
+
+    private RealmResource realmResource() {
+        tokenLock.lock();
+        try {
+            keycloak.tokenManager().getAccessToken();
+        } finally {
+            tokenLock.unlock();
+        }
+        return keycloak.realm(realm);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,33 @@
+package com.renzomendoza.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Entry point of benchmarks.jar. Accepts the usual JMH command line and always
+ * adds the GC profiler, so every run reports gc.alloc.rate.norm (bytes allocated
+ * per operation) next to the timings. Results are written to jmh-result.json
+ * unless another result file is given.
+ * <p>
+ * Example: {@code java -jar benchmarks/target/benchmarks.jar EmployeeMapper -f 1}
+ */
+public final class BenchmarkRunner {
+
+    private BenchmarkRunner() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        CommandLineOptions commandLine = new CommandLineOptions(args);
+        ChainedOptionsBuilder options = new OptionsBuilder()
+                .parent(commandLine)
+                .addProfiler(GCProfiler.class);
+        if (!commandLine.getResultFormat().hasValue()) {
+            options.resultFormat(ResultFormatType.JSON).result("jmh-result.json");
+        }
+        new Runner(options.build()).run();
+    }
+}
@@ -0,0 +1,90 @@
+package com.renzomendoza.benchmarks;
+
+import com.renzomendoza.employee_service.dto.AddressDto;
+import com.renzomendoza.employee_service.dto.ContactInformationDto;
+import com.renzomendoza.employee_service.dto.EmergencyContactDto;
+import com.renzomendoza.employee_service.dto.employee.EmployeeCreateDto;
+import com.renzomendoza.employee_service.dto.employee.EmployeeList;
+import com.renzomendoza.employee_service.dto.employee.EmployeeRequestDto;
+import com.renzomendoza.employee_service.model.Address;
+import com.renzomendoza.employee_service.model.ContactInformation;
+import com.renzomendoza.employee_service.model.EmergencyContact;
+import com.renzomendoza.employee_service.model.EmployeeProfile;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Realistically filled employee objects shared by the benchmarks
+ */
+final class EmployeeFixtures {
+
+    private EmployeeFixtures() {
+    }
+
+    static EmployeeProfile profile(int i) {
+        return EmployeeProfile.builder()
+                .id(UUID.nameUUIDFromBytes(("employee-" + i).getBytes()))
+                .firstName("First" + i)
+                .middleName("Middle")
+                .lastName("Last" + i)
+                .nameSuffix("Jr.")
+                .gender("Female")
+                .jobTitle("Software Engineer")
+                .department("Engineering")
+                .imageUrl("https://example.com/profiles/" + i + ".jpg")
+                .hiredDate(LocalDate.of(2020, 1, 15))
+                .birthDate(LocalDate.of(1990, 6, 30))
+                .address(new Address("123 Main St", "Springfield", "IL", "62701"))
+                .contactInformation(new ContactInformation("+1-555-0100", "employee" + i + "@company.com"))
+                .emergencyContact(new EmergencyContact("Jane", "Doe", "Spouse", "+1-555-0101"))
+                .createdAt(LocalDateTime.of(2024, 1, 1, 9, 0))
+                .updatedAt(LocalDateTime.of(2024, 6, 1, 17, 30))
+                .createdBy("hr@company.com")
+                .modifiedBy("hr@company.com")
+                .build();
+    }
+
+    static EmployeeCreateDto createDto(int i) {
+        return EmployeeCreateDto.builder()
+                .id(UUID.nameUUIDFromBytes(("employee-" + i).getBytes()))
+                .firstName("First" + i)
+                .middleName("Middle")
+                .lastName("Last" + i)
+                .nameSuffix("Jr.")
+                .gender("Female")
+                .jobTitle("Software Engineer")
+                .department("Engineering")
+                .imageUrl("https://example.com/profiles/" + i + ".jpg")
+                .hiredDate(LocalDate.of(2020, 1, 15))
+                .birthDate(LocalDate.of(1990, 6, 30))
+                .addressDto(new AddressDto("123 Main St", "Springfield", "IL", "62701"))
+                .contactInformationDto(new ContactInformationDto("+1-555-0100", "employee" + i + "@company.com"))
+                .emergencyContactDto(new EmergencyContactDto("Jane", "Doe", "Spouse", "+1-555-0101"))
+                .build();
+    }
+
+    static EmployeeRequestDto requestDto(int i) {
+        return EmployeeRequestDto.builder()
+                .firstName("Updated" + i)
+                .lastName("Last" + i)
+                .jobTitle("Staff Engineer")
+                .department("Engineering")
+                .addressDto(new AddressDto("456 Oak Ave", "Springfield", "IL", "62702"))
+                .build();
+    }
+
+    static List<EmployeeList> summaries(int count) {
+        List<EmployeeList> rows = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            EmployeeProfile profile = profile(i);
+            rows.add(new EmployeeList(profile.getId(), profile.getFirstName(), profile.getMiddleName(),
+                    profile.getLastName(), profile.getJobTitle(), profile.getDepartment(),
+                    profile.getImageUrl(), profile.getUpdatedAt()));
+        }
+        return rows;
+    }
+}
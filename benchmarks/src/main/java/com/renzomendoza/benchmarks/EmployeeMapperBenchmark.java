@@ -0,0 +1,60 @@
+package com.renzomendoza.benchmarks;
+
+import com.renzomendoza.employee_service.dto.employee.EmployeeCreateDto;
+import com.renzomendoza.employee_service.dto.employee.EmployeeList;
+import com.renzomendoza.employee_service.dto.employee.EmployeeRequestDto;
+import com.renzomendoza.employee_service.dto.employee.EmployeeResponse;
+import com.renzomendoza.employee_service.mapper.EmployeeMapper;
+import com.renzomendoza.employee_service.mapper.EmployeeMapperImpl;
+import com.renzomendoza.employee_service.model.EmployeeProfile;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * MapStruct conversions run on every employee request
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class EmployeeMapperBenchmark {
+
+    private final EmployeeMapper mapper = new EmployeeMapperImpl();
+
+    private EmployeeProfile profile;
+    private EmployeeCreateDto createDto;
+    private EmployeeRequestDto requestDto;
+
+    @Setup
+    public void setUp() {
+        profile = EmployeeFixtures.profile(1);
+        createDto = EmployeeFixtures.createDto(1);
+        requestDto = EmployeeFixtures.requestDto(1);
+    }
+
+    @Benchmark
+    public EmployeeResponse employeeToEmployeeResponse() {
+        return mapper.employeeToEmployeeResponse(profile);
+    }
+
+    @Benchmark
+    public EmployeeList employeeToEmployeeList() {
+        return mapper.employeeToEmployeeList(profile);
+    }
+
+    @Benchmark
+    public EmployeeProfile employeeCreateToEmployee() {
+        return mapper.employeeCreateToEmployee(createDto);
+    }
+
+    @Benchmark
+    public EmployeeProfile updateEmployeeFromRequest() {
+        // Fresh target each time so the update does the same work on every invocation
+        EmployeeProfile target = EmployeeFixtures.profile(1);
+        mapper.updateEmployeeFromRequest(requestDto, target);
+        return target;
+    }
+}
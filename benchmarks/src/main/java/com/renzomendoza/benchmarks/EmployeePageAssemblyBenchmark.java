@@ -0,0 +1,65 @@
+package com.renzomendoza.benchmarks;
+
+import com.renzomendoza.employee_service.dto.EmployeePage;
+import com.renzomendoza.employee_service.dto.employee.EmployeeList;
+import com.renzomendoza.employee_service.mapper.EmployeeMapper;
+import com.renzomendoza.employee_service.mapper.EmployeeMapperImpl;
+import com.renzomendoza.employee_service.model.EmployeeProfile;
+import com.renzomendoza.employee_service.utils.EmployeeETags;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * What the list endpoints do between the repository and Jackson: wrap the
+ * rows in a page, compute the weak ETag and copy into EmployeePage. The
+ * entity-mapping variant is the cost list pages paid before projections.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class EmployeePageAssemblyBenchmark {
+
+    @Param({"10", "100"})
+    public int pageSize;
+
+    private final EmployeeMapper mapper = new EmployeeMapperImpl();
+
+    private Pageable pageable;
+    private List<EmployeeList> rows;
+    private List<EmployeeProfile> entities;
+
+    @Setup
+    public void setUp() {
+        pageable = PageRequest.of(0, pageSize);
+        rows = EmployeeFixtures.summaries(pageSize);
+        entities = new ArrayList<>(pageSize);
+        for (int i = 0; i < pageSize; i++) {
+            entities.add(EmployeeFixtures.profile(i));
+        }
+    }
+
+    @Benchmark
+    public EmployeePage assembleFromProjection(Blackhole blackhole) {
+        Page<EmployeeList> page = new PageImpl<>(rows, pageable, 10_000);
+        blackhole.consume(EmployeeETags.weak(page.getContent(), page.getTotalElements()));
+        return new EmployeePage(page.getContent(), page.getPageable(), page.getTotalElements());
+    }
+
+    @Benchmark
+    public EmployeePage assembleFromEntities(Blackhole blackhole) {
+        Page<EmployeeList> page = new PageImpl<>(entities, pageable, 10_000).map(mapper::employeeToEmployeeList);
+        blackhole.consume(EmployeeETags.weak(page.getContent(), page.getTotalElements()));
+        return new EmployeePage(page.getContent(), page.getPageable(), page.getTotalElements());
+    }
+}
@@ -0,0 +1,75 @@
+package com.renzomendoza.benchmarks;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.renzomendoza.employee_service.dto.EmployeePage;
+import com.renzomendoza.employee_service.dto.employee.EmployeeCreateDto;
+import com.renzomendoza.employee_service.dto.employee.EmployeeList;
+import com.renzomendoza.employee_service.dto.employee.EmployeeResponse;
+import com.renzomendoza.employee_service.mapper.EmployeeMapperImpl;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Jackson work done by the message converters, with an ObjectMapper built the
+ * same way Spring Boot builds the one used by MVC
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EmployeeSerializationBenchmark {
+
+    @Param({"10", "100"})
+    public int pageSize;
+
+    private ObjectWriter writer;
+    private ObjectReader createDtoReader;
+
+    private EmployeeResponse response;
+    private EmployeeList summary;
+    private EmployeePage page;
+    private byte[] createDtoJson;
+
+    @Setup
+    public void setUp() throws JsonProcessingException {
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        writer = objectMapper.writer();
+        createDtoReader = objectMapper.readerFor(EmployeeCreateDto.class);
+
+        response = new EmployeeMapperImpl().employeeToEmployeeResponse(EmployeeFixtures.profile(1));
+        List<EmployeeList> rows = EmployeeFixtures.summaries(pageSize);
+        summary = rows.get(0);
+        page = new EmployeePage(rows, PageRequest.of(0, pageSize), 10_000);
+        createDtoJson = objectMapper.writeValueAsBytes(EmployeeFixtures.createDto(1));
+    }
+
+    @Benchmark
+    public byte[] serializeEmployeeResponse() throws JsonProcessingException {
+        return writer.writeValueAsBytes(response);
+    }
+
+    @Benchmark
+    public byte[] serializeEmployeeList() throws JsonProcessingException {
+        return writer.writeValueAsBytes(summary);
+    }
+
+    @Benchmark
+    public byte[] serializeEmployeePage() throws JsonProcessingException {
+        return writer.writeValueAsBytes(page);
+    }
+
+    @Benchmark
+    public EmployeeCreateDto deserializeEmployeeCreateDto() throws IOException {
+        return createDtoReader.readValue(createDtoJson);
+    }
+}
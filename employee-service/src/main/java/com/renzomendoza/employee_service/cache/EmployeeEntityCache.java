@@ -0,0 +1,91 @@
+package com.renzomendoza.employee_service.cache;
+
+import com.renzomendoza.employee_service.event.EmployeeChangedEvent;
+import com.renzomendoza.employee_service.event.EmployeesImportedEvent;
+import com.renzomendoza.employee_service.model.EmployeeProfile;
+import com.renzomendoza.employee_service.repository.EmployeeRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Cache;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.UUID;
+
+/**
+ * Evicts employees from the Hibernate second-level cache when Hibernate cannot
+ * see the change itself: the native {@code delete ... returning} statements, PATCH
+ * updates of uncached employees, CSV imports merged over plain JDBC, and writes made
+ * by other replicas (reported through LISTEN/NOTIFY). Entity updates and inserts
+ * through the persistence context keep the cache current on their own.
+ * <p>
+ * Cached job-title queries are dropped along with the entity, since a removed
+ * employee may appear in any of them. Evictions are no-ops when the cache is off.
+ */
+@Component
+public class EmployeeEntityCache {
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    public EmployeeEntityCache(EntityManagerFactory entityManagerFactory) {
+        this.entityManagerFactory = entityManagerFactory;
+    }
+
+    // After commit, so a concurrent load cannot put the deleted row back
+    @TransactionalEventListener
+    public void onEmployeeChanged(EmployeeChangedEvent event) {
+        if (event.type() == EmployeeChangedEvent.ChangeType.DELETED) {
+            evict(event.employeeId());
+        }
+    }
+
+    // The import's merge bypasses Hibernate, so cached job-title queries cannot know about its rows
+    @TransactionalEventListener
+    public void onEmployeesImported(EmployeesImportedEvent event) {
+        evictQueries();
+    }
+
+    /**
+     * Whether loading the employee would be served by the cache rather than a query
+     */
+    public boolean contains(UUID employeeId) {
+        return cache().containsEntity(EmployeeProfile.class, employeeId);
+    }
+
+    /**
+     * Evicts the employee once the current transaction commits, after a row update Hibernate
+     * did not see; a load that read the old row meanwhile cannot leave it cached
+     */
+    public void evictAfterCommit(UUID employeeId) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                cache().evictEntityData(EmployeeProfile.class, employeeId);
+            }
+        });
+    }
+
+    public void evict(UUID employeeId) {
+        Cache cache = cache();
+        cache.evictEntityData(EmployeeProfile.class, employeeId);
+        cache.evictQueryRegion(EmployeeRepository.JOB_TITLE_QUERY_REGION);
+    }
+
+    /**
+     * Drops cached job-title queries after rows were inserted outside the persistence context
+     */
+    public void evictQueries() {
+        cache().evictQueryRegion(EmployeeRepository.JOB_TITLE_QUERY_REGION);
+    }
+
+    public void evictAll() {
+        Cache cache = cache();
+        cache.evictEntityData(EmployeeProfile.class);
+        cache.evictQueryRegion(EmployeeRepository.JOB_TITLE_QUERY_REGION);
+    }
+
+    private Cache cache() {
+        return entityManagerFactory.getCache().unwrap(Cache.class);
+    }
+}
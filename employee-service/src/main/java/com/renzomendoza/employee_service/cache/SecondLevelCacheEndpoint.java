@@ -0,0 +1,80 @@
+package com.renzomendoza.employee_service.cache;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+
+import javax.cache.Cache;
+import javax.cache.CacheManager;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * {@code /actuator/secondlevelcache}: hits, misses and puts per Hibernate
+ * second-level cache region, with the current and maximum number of entries.
+ */
+@Endpoint(id = "secondlevelcache")
+public class SecondLevelCacheEndpoint {
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final CacheManager cacheManager;
+    private final SecondLevelCacheProperties properties;
+
+    public SecondLevelCacheEndpoint(EntityManagerFactory entityManagerFactory,
+                                    CacheManager cacheManager,
+                                    SecondLevelCacheProperties properties) {
+        this.entityManagerFactory = entityManagerFactory;
+        this.cacheManager = cacheManager;
+        this.properties = properties;
+    }
+
+    @ReadOperation
+    public Map<String, RegionStatistics> regions() {
+        Statistics statistics = statistics();
+        Map<String, RegionStatistics> regions = new TreeMap<>();
+        for (String region : properties.getRegions().keySet()) {
+            regions.put(region, regionStatistics(statistics, region));
+        }
+        return regions;
+    }
+
+    @ReadOperation
+    public RegionStatistics region(@Selector String region) {
+        if (!properties.getRegions().containsKey(region)) {
+            return null;
+        }
+        return regionStatistics(statistics(), region);
+    }
+
+    private RegionStatistics regionStatistics(Statistics statistics, String region) {
+        CacheRegionStatistics hibernate = statistics.getCacheRegionStatistics(region);
+        long hits = hibernate != null ? hibernate.getHitCount() : 0;
+        long misses = hibernate != null ? hibernate.getMissCount() : 0;
+        long puts = hibernate != null ? hibernate.getPutCount() : 0;
+        long requests = hits + misses;
+        return new RegionStatistics(hits, misses, puts,
+                requests == 0 ? 0.0 : (double) hits / requests,
+                estimatedSize(region),
+                properties.getRegions().get(region).getMaximumSize());
+    }
+
+    private long estimatedSize(String region) {
+        Cache<Object, Object> cache = cacheManager.getCache(region);
+        if (cache == null) {
+            return 0;
+        }
+        return cache.unwrap(com.github.benmanes.caffeine.cache.Cache.class).estimatedSize();
+    }
+
+    private Statistics statistics() {
+        return entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    public record RegionStatistics(long hits, long misses, long puts, double hitRatio,
+                                   long entries, long maximumEntries) {
+    }
+}
@@ -0,0 +1,61 @@
+package com.renzomendoza.employee_service.cache;
+
+import com.renzomendoza.employee_service.model.EmployeeProfile;
+import com.renzomendoza.employee_service.repository.EmployeeRepository;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Hibernate second-level cache regions, bound from {@code employee.second-level-cache}.
+ * <p>
+ * Every region Hibernate uses must be listed: a region missing here fails startup
+ * rather than being created unbounded. A region given in config replaces its
+ * default below as a whole; the other defaults stay.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "employee.second-level-cache")
+public class SecondLevelCacheProperties {
+
+    /**
+     * Hibernate's region for query-space timestamps. It must outlive any cached query result.
+     */
+    public static final String UPDATE_TIMESTAMPS_REGION = "default-update-timestamps-region";
+
+    /**
+     * Hibernate's region for cacheable queries that do not name one
+     */
+    public static final String DEFAULT_QUERY_RESULTS_REGION = "default-query-results-region";
+
+    private boolean enabled = true;
+
+    private Map<String, Region> regions = new LinkedHashMap<>(Map.of(
+            EmployeeProfile.CACHE_REGION, new Region(10_000, Duration.ofMinutes(30)),
+            EmployeeRepository.JOB_TITLE_QUERY_REGION, new Region(1_000, Duration.ofMinutes(5)),
+            DEFAULT_QUERY_RESULTS_REGION, new Region(1_000, Duration.ofMinutes(5)),
+            UPDATE_TIMESTAMPS_REGION, new Region(1_000, null)));
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Region {
+
+        /**
+         * Entries kept before the least valuable are evicted
+         */
+        private long maximumSize = 1_000;
+
+        /**
+         * Time to live of an entry; unset means entries stay until evicted for size or invalidated
+         */
+        private Duration expireAfterWrite;
+    }
+}
@@ -0,0 +1,23 @@
+package com.renzomendoza.employee_service.config;
+
+import org.springframework.boot.autoconfigure.cache.CacheManagerCustomizer;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    /**
+     * Mapped EmployeeResponse by employee id. Size and TTL come from spring.cache.caffeine.spec.
+     */
+    public static final String EMPLOYEE_CACHE = "employees";
+
+    @Bean
+    public CacheManagerCustomizer<CaffeineCacheManager> transactionAwareCacheManager() {
+        // Defer puts and evictions to after commit so a concurrent read cannot re-cache a row mid-update
+        return cacheManager -> cacheManager.setTransactionAware(true);
+    }
+}
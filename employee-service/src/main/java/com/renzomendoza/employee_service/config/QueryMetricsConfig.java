@@ -0,0 +1,93 @@
+package com.renzomendoza.employee_service.config;
+
+import com.renzomendoza.employee_service.metrics.QueryMetricsListener;
+import com.renzomendoza.employee_service.metrics.QueryMetricsProperties;
+import com.renzomendoza.employee_service.metrics.QueryStatsInterceptor;
+import com.renzomendoza.employee_service.metrics.RepositoryMethodContext;
+import com.renzomendoza.employee_service.metrics.RequestQueryStatsFilter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.config.MeterFilter;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+
+import javax.sql.DataSource;
+
+/**
+ * JDBC-level query instrumentation.
+ * <p>
+ * The application DataSource is wrapped in a datasource-proxy that reports every
+ * execution to {@link QueryMetricsListener}, and every Spring Data repository
+ * proxy records which method is running, so statements are timed per repository
+ * method and SQL shape. A Hibernate interceptor and a servlet filter add
+ * per-request statement, entity-load and flush counts.
+ */
+@Configuration
+@EnableConfigurationProperties(QueryMetricsProperties.class)
+@ConditionalOnProperty(name = "employee.jdbc.query-metrics.enabled", havingValue = "true", matchIfMissing = true)
+public class QueryMetricsConfig {
+
+    @Bean
+    public QueryMetricsListener queryMetricsListener(MeterRegistry meterRegistry, QueryMetricsProperties properties) {
+        return new QueryMetricsListener(meterRegistry, properties);
+    }
+
+    /**
+     * Labels every repository proxy's calls and wraps the DataSource JPA uses. Only the bean named
+     * dataSource is wrapped, so with read replicas statements are measured once at the routing proxy.
+     */
+    @Bean
+    public static BeanPostProcessor queryMetricsPostProcessor(ObjectProvider<QueryMetricsListener> listener) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof RepositoryFactoryBeanSupport<?, ?, ?> factoryBean) {
+                    factoryBean.addRepositoryFactoryCustomizer(factory -> factory.addRepositoryProxyPostProcessor(
+                            (proxyFactory, repositoryInformation) -> proxyFactory.addAdvice(
+                                    RepositoryMethodContext.interceptorFor(repositoryInformation.getRepositoryInterface()))));
+                }
+                return bean;
+            }
+
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && "dataSource".equals(beanName)) {
+                    return ProxyDataSourceBuilder.create(dataSource)
+                            .name("employee")
+                            .listener(listener.getObject())
+                            .build();
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer queryStatsHibernateInterceptor() {
+        return properties -> properties.put(AvailableSettings.INTERCEPTOR, new QueryStatsInterceptor());
+    }
+
+    @Bean
+    public FilterRegistrationBean<RequestQueryStatsFilter> requestQueryStatsFilter(MeterRegistry meterRegistry) {
+        FilterRegistrationBean<RequestQueryStatsFilter> registration =
+                new FilterRegistrationBean<>(new RequestQueryStatsFilter(meterRegistry));
+        // Ahead of Spring Security, so requests it rejects are recorded as well
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 10);
+        return registration;
+    }
+
+    @Bean
+    public MeterFilter queryTimerShapeLimit(QueryMetricsProperties properties) {
+        return MeterFilter.maximumAllowableTags(QueryMetricsListener.TIMER, "sql", properties.getMaxSqlShapes(),
+                MeterFilter.deny());
+    }
+}
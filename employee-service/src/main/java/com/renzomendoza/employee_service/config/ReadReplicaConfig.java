@@ -0,0 +1,122 @@
+package com.renzomendoza.employee_service.config;
+
+import com.renzomendoza.employee_service.datasource.ReadReplicaDataSource;
+import com.renzomendoza.employee_service.datasource.ReadReplicaProperties;
+import com.renzomendoza.employee_service.datasource.ReadYourWritesTracker;
+import com.renzomendoza.employee_service.datasource.ReplicaAwareJpaDialect;
+import com.renzomendoza.employee_service.datasource.ReplicaLagMonitor;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.domain.AuditorAware;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Routes read-only transactions to read replicas.
+ * <p>
+ * The application DataSource is a {@link LazyConnectionDataSourceProxy}: it only
+ * fetches a physical connection at the first statement, by which point the
+ * transaction manager has marked the connection read-only, and it sends
+ * read-only connections to the {@link ReadReplicaDataSource}. Everything else,
+ * including Flyway, writes and the LISTEN/NOTIFY connection, stays on the primary.
+ * <p>
+ * Reads that fill a shared cache must not come from a lagging replica: the employee
+ * cache is filled by read-write transactions, and {@link ReplicaAwareJpaDialect} stops
+ * read-only ones from putting into the Hibernate second-level cache.
+ */
+@Configuration
+@EnableConfigurationProperties(ReadReplicaProperties.class)
+@ConditionalOnProperty(name = "employee.datasource.read-replicas.enabled", havingValue = "true")
+public class ReadReplicaConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties dataSourceProperties) {
+        return dataSourceProperties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean
+    public ReplicaPools replicaPools(ReadReplicaProperties properties) {
+        Map<String, DataSource> pools = new LinkedHashMap<>();
+        for (ReadReplicaProperties.Replica replica : properties.getReplicas()) {
+            HikariDataSource pool = new HikariDataSource();
+            pool.setPoolName("replica-" + replica.getName());
+            pool.setJdbcUrl(replica.getUrl());
+            pool.setUsername(replica.getUsername());
+            pool.setPassword(replica.getPassword());
+            pool.setMaximumPoolSize(replica.getMaximumPoolSize());
+            pool.setMinimumIdle(replica.getMinimumIdle());
+            pool.setConnectionTimeout(replica.getConnectionTimeout().toMillis());
+            pool.setReadOnly(true);
+            // Start even if a replica is down; the lag monitor keeps it out of rotation until it answers
+            pool.setInitializationFailTimeout(-1);
+            pools.put(replica.getName(), pool);
+        }
+        return new ReplicaPools(Collections.unmodifiableMap(pools));
+    }
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(ReplicaPools replicaPools, ReadReplicaProperties properties) {
+        return new ReplicaLagMonitor(replicaPools.pools(), properties.getMaxLag(), properties.getLagCheckInterval());
+    }
+
+    @Bean
+    public ReadYourWritesTracker readYourWritesTracker(AuditorAware<String> auditorAware,
+                                                       ReadReplicaProperties properties) {
+        return new ReadYourWritesTracker(auditorAware, properties.getReadYourWritesWindow());
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(HikariDataSource primaryDataSource,
+                                 ReplicaPools replicaPools,
+                                 ReplicaLagMonitor replicaLagMonitor,
+                                 ReadYourWritesTracker readYourWritesTracker) {
+        LazyConnectionDataSourceProxy proxy = new LazyConnectionDataSourceProxy(primaryDataSource);
+        proxy.setReadOnlyDataSource(new ReadReplicaDataSource(
+                primaryDataSource, replicaPools.pools(), replicaLagMonitor, readYourWritesTracker));
+        // Known defaults, so the proxy does not borrow a connection at startup to find them out
+        proxy.setDefaultAutoCommit(true);
+        proxy.setDefaultTransactionIsolation(Connection.TRANSACTION_READ_COMMITTED);
+        return proxy;
+    }
+
+    @Bean
+    public static BeanPostProcessor replicaAwareJpaDialectPostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                // Set on the factory rather than the transaction manager, which copies the factory's dialect
+                if (bean instanceof LocalContainerEntityManagerFactoryBean factoryBean) {
+                    factoryBean.setJpaDialect(new ReplicaAwareJpaDialect());
+                }
+                return bean;
+            }
+        };
+    }
+
+    /**
+     * Owns the replica pools so they are closed with the context
+     */
+    public record ReplicaPools(Map<String, DataSource> pools) implements DisposableBean {
+
+        @Override
+        public void destroy() {
+            pools.values().forEach(pool -> ((HikariDataSource) pool).close());
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.renzomendoza.employee_service.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import com.renzomendoza.employee_service.cache.SecondLevelCacheEndpoint;
+import com.renzomendoza.employee_service.cache.SecondLevelCacheProperties;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cache.jcache.MissingCacheStrategy;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.util.OptionalLong;
+
+/**
+ * Hibernate second-level cache on JCache, backed by Caffeine.
+ * <p>
+ * The JCache CacheManager is built here from {@link SecondLevelCacheProperties},
+ * one size-bounded Caffeine cache per region, and handed to Hibernate directly,
+ * so regions are tuned from config-service like any other property. It is kept
+ * separate from the Spring {@code cacheManager} used by {@code @Cacheable}.
+ */
+@Configuration
+@EnableConfigurationProperties(SecondLevelCacheProperties.class)
+@ConditionalOnProperty(name = "employee.second-level-cache.enabled", havingValue = "true", matchIfMissing = true)
+public class SecondLevelCacheConfig {
+
+    @Bean(destroyMethod = "close")
+    public CacheManager hibernateCacheManager(SecondLevelCacheProperties properties) {
+        CacheManager cacheManager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName())
+                .getCacheManager();
+        properties.getRegions().forEach((name, region) -> {
+            CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+            configuration.setMaximumSize(OptionalLong.of(region.getMaximumSize()));
+            if (region.getExpireAfterWrite() != null) {
+                configuration.setExpireAfterWrite(OptionalLong.of(region.getExpireAfterWrite().toNanos()));
+            }
+            // Hibernate caches immutable disassembled state, so copying on every get and put buys nothing
+            configuration.setStoreByValue(false);
+            configuration.setStatisticsEnabled(true);
+            // The provider shares one manager per JVM, so another context (e.g. in tests) may hold the region
+            if (cacheManager.getCache(name) != null) {
+                cacheManager.destroyCache(name);
+            }
+            cacheManager.createCache(name, configuration);
+        });
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheHibernateProperties(CacheManager hibernateCacheManager) {
+        return properties -> {
+            properties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, true);
+            properties.put(AvailableSettings.USE_QUERY_CACHE, true);
+            properties.put(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+            properties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+            // Every region must be configured above; never let Hibernate create an unbounded one
+            properties.put(ConfigSettings.MISSING_CACHE_STRATEGY, MissingCacheStrategy.FAIL.getExternalRepresentation());
+            // Feeds the per-region counters of the secondlevelcache actuator endpoint
+            properties.put(AvailableSettings.GENERATE_STATISTICS, true);
+        };
+    }
+
+    @Bean
+    public SecondLevelCacheEndpoint secondLevelCacheEndpoint(EntityManagerFactory entityManagerFactory,
+                                                             CacheManager hibernateCacheManager,
+                                                             SecondLevelCacheProperties properties) {
+        return new SecondLevelCacheEndpoint(entityManagerFactory, hibernateCacheManager, properties);
+    }
+}
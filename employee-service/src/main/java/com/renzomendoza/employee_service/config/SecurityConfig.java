@@ -11,6 +11,8 @@ import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationConverter;
 import org.springframework.security.web.SecurityFilterChain;
 
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -76,26 +78,46 @@ public class SecurityConfig {
         return converter;
     }
 
+    // Per method, patterns are matched in the order listed: specific paths before "/*"
     private static final Map<HttpMethod, Map<String, String>> SECURED_ENDPOINTS = Map.of(
-            HttpMethod.GET, Map.of(
+            HttpMethod.GET, endpoints(
                     "/api/v1/employees", "ROLE_VIEW_EMPLOYEE_LIST",
-                    "/api/v1/employees/*", "ROLE_VIEW_EMPLOYEE_DETAIL",
                     "/api/v1/employees/sorted", "ROLE_VIEW_EMPLOYEE_LIST",
                     "/api/v1/employees/search", "ROLE_VIEW_EMPLOYEE_LIST",
-                    "/api/v1/employees/job-title", "ROLE_VIEW_EMPLOYEE_LIST"
+                    "/api/v1/employees/filter", "ROLE_VIEW_EMPLOYEE_LIST",
+                    "/api/v1/employees/facets", "ROLE_VIEW_EMPLOYEE_LIST",
+                    "/api/v1/employees/stream", "ROLE_VIEW_EMPLOYEE_LIST",
+                    "/api/v1/employees/job-title", "ROLE_VIEW_EMPLOYEE_LIST",
+                    "/api/v1/employees/import/*", "ROLE_VIEW_EMPLOYEE_UPDATE",
+                    "/api/v1/employees/*", "ROLE_VIEW_EMPLOYEE_DETAIL"
             ),
-            HttpMethod.PATCH, Map.of(
+            HttpMethod.PATCH, endpoints(
                     "/api/v1/employees/*/emergency-contact", "ROLE_VIEW_EMPLOYEE_UPDATE",
                     "/api/v1/employees/*/contact", "ROLE_VIEW_EMPLOYEE_UPDATE",
                     "/api/v1/employees/*/address", "ROLE_VIEW_EMPLOYEE_UPDATE"
             ),
-            HttpMethod.PUT, Map.of(
+            HttpMethod.PUT, endpoints(
                     "/api/v1/employees/*", "ROLE_VIEW_EMPLOYEE_UPDATE"
             ),
-            HttpMethod.DELETE, Map.of(
+            HttpMethod.DELETE, endpoints(
+                    "/api/v1/employees", "ROLE_VIEW_EMPLOYEE_DELETE",
                     "/api/v1/employees/*", "ROLE_VIEW_EMPLOYEE_DELETE"
+            ),
+            HttpMethod.POST, endpoints(
+                    "/api/v1/employees/batch-delete", "ROLE_VIEW_EMPLOYEE_DELETE",
+                    "/api/v1/employees/batch-get", "ROLE_VIEW_EMPLOYEE_DETAIL",
+                    // Creating employees, one at a time or in bulk; there is no separate create role
+                    "/api/v1/employees", "ROLE_VIEW_EMPLOYEE_UPDATE",
+                    "/api/v1/employees/bulk", "ROLE_VIEW_EMPLOYEE_UPDATE",
+                    "/api/v1/employees/import", "ROLE_VIEW_EMPLOYEE_UPDATE"
             )
     );
 
-
+    private static Map<String, String> endpoints(String... patternsAndRoles) {
+        Map<String, String> endpoints = new LinkedHashMap<>();
+        for (int i = 0; i < patternsAndRoles.length; i += 2) {
+            endpoints.put(patternsAndRoles[i], patternsAndRoles[i + 1]);
+        }
+        return Collections.unmodifiableMap(endpoints);
+    }
 }
@@ -3,12 +3,28 @@ package com.renzomendoza.employee_service.controller;
 import com.renzomendoza.employee_service.dto.AddressDto;
 import com.renzomendoza.employee_service.dto.ContactInformationDto;
 import com.renzomendoza.employee_service.dto.EmergencyContactDto;
+import com.renzomendoza.employee_service.dto.EmployeeCursorPage;
+import com.renzomendoza.employee_service.dto.EmployeeFacets;
+import com.renzomendoza.employee_service.dto.EmployeeFilter;
 import com.renzomendoza.employee_service.dto.EmployeePage;
+import com.renzomendoza.employee_service.dto.ExportFormat;
+import com.renzomendoza.employee_service.dto.bulk.EmployeeBatchDeleteResult;
+import com.renzomendoza.employee_service.dto.bulk.EmployeeBatchGetResult;
+import com.renzomendoza.employee_service.dto.bulk.EmployeeBulkResult;
+import com.renzomendoza.employee_service.dto.bulk.EmployeeImportStatus;
 import com.renzomendoza.employee_service.dto.employee.EmployeeCreateDto;
 import com.renzomendoza.employee_service.dto.employee.EmployeeList;
 import com.renzomendoza.employee_service.dto.employee.EmployeeRequestDto;
 import com.renzomendoza.employee_service.dto.employee.EmployeeResponse;
+import com.renzomendoza.employee_service.dto.sync.EmployeeChanges;
+import com.renzomendoza.employee_service.event.EmployeeEventStream;
+import com.renzomendoza.employee_service.repository.EmployeeField;
+import com.renzomendoza.employee_service.service.EmployeeBulkService;
+import com.renzomendoza.employee_service.service.EmployeeChangeFeedService;
+import com.renzomendoza.employee_service.service.EmployeeExportService;
+import com.renzomendoza.employee_service.service.EmployeeImportService;
 import com.renzomendoza.employee_service.service.EmployeeService;
+import com.renzomendoza.employee_service.utils.EmployeeETags;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -18,13 +34,25 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springdoc.core.annotations.ParameterObject;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Sort;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.net.URI;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 
 @RestController
@@ -34,6 +62,11 @@ import java.util.UUID;
 public class EmployeeController {
 
     private final EmployeeService employeeService;
+    private final EmployeeBulkService employeeBulkService;
+    private final EmployeeExportService employeeExportService;
+    private final EmployeeImportService employeeImportService;
+    private final EmployeeChangeFeedService employeeChangeFeedService;
+    private final EmployeeEventStream employeeEventStream;
 
     @Operation(summary = "Create a new employee", description = "Creates a new employee with the provided details")
     @ApiResponses(value = {
@@ -47,18 +80,90 @@ public class EmployeeController {
         return ResponseEntity.status(HttpStatus.CREATED).body(createdEmployee);
     }
 
+    @Operation(summary = "Create employees in bulk",
+            description = "Creates many employees in chunked, JDBC-batched transactions. Each item is validated and " +
+                    "reported individually; invalid items do not prevent the others from being created.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "201", description = "All employees created",
+                    content = @Content(schema = @Schema(implementation = EmployeeBulkResult.class))),
+            @ApiResponse(responseCode = "207", description = "Some items failed, see the per-item results",
+                    content = @Content(schema = @Schema(implementation = EmployeeBulkResult.class))),
+            @ApiResponse(responseCode = "413", description = "Too many items in one request")
+    })
+    @PostMapping(value = "/bulk", consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<EmployeeBulkResult> createEmployees(@RequestBody List<EmployeeCreateDto> employeeCreateDtos) {
+        EmployeeBulkResult result = employeeBulkService.createEmployees(employeeCreateDtos);
+        HttpStatus status = result.getFailed() == 0 ? HttpStatus.CREATED : HttpStatus.MULTI_STATUS;
+        return ResponseEntity.status(status).body(result);
+    }
+
     @Operation(summary = "Get employee by ID", description = "Returns a single employee by their unique ID")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Employee found",
                     content = @Content(schema = @Schema(implementation = EmployeeResponse.class))),
+            @ApiResponse(responseCode = "304", description = "Employee unchanged since the given ETag"),
             @ApiResponse(responseCode = "404", description = "Employee not found")
     })
     @GetMapping(value = "/{employeeId}", produces = MediaType.APPLICATION_JSON_VALUE)
     public ResponseEntity<EmployeeResponse> getEmployeeById(
             @Parameter(description = "ID of the employee to be retrieved", required = true)
-            @PathVariable UUID employeeId) {
+            @PathVariable UUID employeeId,
+            WebRequest request) {
+        if (isNotModified(employeeId, request)) {
+            return null;
+        }
+
         EmployeeResponse employee = employeeService.getEmployeeById(employeeId);
-        return ResponseEntity.ok(employee);
+        String eTag = EmployeeETags.of(employee.getUpdatedAt());
+        if (eTag == null) {
+            return ResponseEntity.ok(employee);
+        }
+        return ResponseEntity.ok().eTag(eTag).body(employee);
+    }
+
+    @Operation(summary = "Get selected fields of an employee",
+            description = "Returns only the listed properties of the employee. Only their columns are read, " +
+                    "so name and avatar lookups skip the address, contact and audit data entirely.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Employee found"),
+            @ApiResponse(responseCode = "304", description = "Employee unchanged since the given ETag"),
+            @ApiResponse(responseCode = "400", description = "Unsupported field"),
+            @ApiResponse(responseCode = "404", description = "Employee not found")
+    })
+    @GetMapping(value = "/{employeeId}", params = "fields", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<Map<String, Object>> getEmployeeFieldsById(
+            @Parameter(description = "ID of the employee to be retrieved", required = true)
+            @PathVariable UUID employeeId,
+
+            @Parameter(description = "Comma-separated EmployeeResponse properties to return; id is always included",
+                    example = "firstName,lastName,imageUrl")
+            @RequestParam String fields,
+            WebRequest request) {
+        Set<EmployeeField> selected = EmployeeField.parse(fields);
+        if (isNotModified(employeeId, request)) {
+            return null;
+        }
+
+        Map<String, Object> employee = employeeService.getEmployeeFields(employeeId, selected);
+        // Only a response that carries updatedAt can carry its ETag
+        String eTag = EmployeeETags.of((LocalDateTime) employee.get(EmployeeField.UPDATED_AT.getName()));
+        if (eTag == null) {
+            return ResponseEntity.ok(employee);
+        }
+        return ResponseEntity.ok().eTag(eTag).body(employee);
+    }
+
+    @Operation(summary = "Get employees by ids",
+            description = "Looks up many employees in one request. Items follow the request order and ids that " +
+                    "match no employee are reported as NOT_FOUND instead of failing the request.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Batch get completed",
+                    content = @Content(schema = @Schema(implementation = EmployeeBatchGetResult.class))),
+            @ApiResponse(responseCode = "413", description = "Too many ids in one request")
+    })
+    @PostMapping(value = "/batch-get", consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<EmployeeBatchGetResult> getEmployeesByIds(@RequestBody List<UUID> ids) {
+        return ResponseEntity.ok(employeeService.getEmployeesByIds(ids));
     }
 
     @Operation(summary = "Get all employees", description = "Returns a paginated list of all employees")
@@ -75,10 +180,154 @@ public class EmployeeController {
             @RequestParam(defaultValue = "10") int size) {
 
         Page<EmployeeList> employees = employeeService.getAllEmployees(page, size);
-        return ResponseEntity.ok(new EmployeePage(employees.getContent(), employees.getPageable(), employees.getTotalElements()));
+        return withPageETag(employees, new EmployeePage(employees.getContent(), employees.getPageable(), employees.getTotalElements()));
+    }
+
+    @Operation(summary = "Get selected fields of all employees",
+            description = "Paginated list of all employees with only the listed properties")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved page"),
+            @ApiResponse(responseCode = "400", description = "Unsupported field")
+    })
+    @GetMapping(params = {"fields", "!after"}, produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<Page<Map<String, Object>>> getAllEmployeeFields(
+            @Parameter(description = "Comma-separated EmployeeResponse properties to return; id is always included",
+                    example = "firstName,lastName,imageUrl")
+            @RequestParam String fields,
+
+            @Parameter(description = "Page number (0-based)", example = "0")
+            @RequestParam(defaultValue = "0") int page,
+
+            @Parameter(description = "Number of items per page", example = "10")
+            @RequestParam(defaultValue = "10") int size) {
+        return ResponseEntity.ok(employeeService.getEmployeeFieldsPage(
+                new EmployeeFilter(), EmployeeField.parse(fields), page, size, null, null));
+    }
+
+    @Operation(summary = "Get employees by cursor",
+            description = "Returns a slice of employees ordered by last name, starting after the given cursor. " +
+                    "Pass an empty 'after' for the first slice and the returned nextCursor for the following ones.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved slice",
+                    content = @Content(schema = @Schema(implementation = EmployeeCursorPage.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid cursor provided")
+    })
+    @GetMapping(params = "after", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<EmployeeCursorPage> getEmployeesAfter(
+            @Parameter(description = "Opaque cursor returned by the previous slice (empty for the first slice)")
+            @RequestParam String after,
+
+            @Parameter(description = "Number of items per slice", example = "10")
+            @RequestParam(defaultValue = "10") int size) {
+        EmployeeCursorPage employees = employeeService.getEmployeesAfter(after, size);
+        return ResponseEntity.ok()
+                .eTag(EmployeeETags.weak(employees.getContent(), employees.isHasNext() ? 1 : 0))
+                .body(employees);
+    }
+
+    @Operation(summary = "Export all employees",
+            description = "Streams every employee as NDJSON (one EmployeeResponse per line) or CSV")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Export stream started")
+    })
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportEmployees(
+            @Parameter(description = "Output format", example = "NDJSON")
+            @RequestParam(defaultValue = "NDJSON") ExportFormat format) {
+        StreamingResponseBody body = outputStream -> employeeExportService.export(format, outputStream);
+        return ResponseEntity.ok()
+                .contentType(format.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=\"employees." + format.name().toLowerCase() + "\"")
+                .body(body);
     }
 
-    @Operation(summary = "Get sorted employees", description = "Returns a paginated and sorted list of employees")
+    @Operation(summary = "Import employees from CSV",
+            description = "Queues a CSV file in the layout of the CSV export for import and returns its job. " +
+                    "Each row is validated like a create request; valid rows are loaded with COPY and created " +
+                    "together when the whole file has been read. Poll the job for progress and rejected rows.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "202", description = "Import queued",
+                    content = @Content(schema = @Schema(implementation = EmployeeImportStatus.class))),
+            @ApiResponse(responseCode = "400", description = "Empty file or unknown columns")
+    })
+    @PostMapping(value = "/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE,
+            produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<EmployeeImportStatus> importEmployees(
+            @Parameter(description = "CSV file with a header row", required = true)
+            @RequestPart("file") MultipartFile file) {
+        EmployeeImportStatus job = employeeImportService.submit(file);
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/v1/employees/import/" + job.getJobId()))
+                .body(job);
+    }
+
+    @Operation(summary = "Get CSV import progress",
+            description = "Rows read and rejected so far; once COMPLETED, the number of employees created " +
+                    "and the rejected rows with their errors")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Import job found",
+                    content = @Content(schema = @Schema(implementation = EmployeeImportStatus.class))),
+            @ApiResponse(responseCode = "404", description = "Import job not found or expired")
+    })
+    @GetMapping(value = "/import/{jobId}", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<EmployeeImportStatus> getImportStatus(
+            @Parameter(description = "Job id returned when the file was submitted", required = true)
+            @PathVariable UUID jobId) {
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noStore())
+                .body(employeeImportService.getStatus(jobId));
+    }
+
+    @Operation(summary = "Get employee changes",
+            description = "Delta sync: employees created, updated or deleted since the given token, oldest first. " +
+                    "Omit 'since' for a full first sync, then pass the returned nextToken; call again right away " +
+                    "while hasMore is true. A token older than the tombstone retention is refused with 410. " +
+                    "A change is returned only once every transaction that was running when it was made has " +
+                    "finished, so a long write transaction anywhere in the database holds the feed back until it ends.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved changes",
+                    content = @Content(schema = @Schema(implementation = EmployeeChanges.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid change token"),
+            @ApiResponse(responseCode = "410", description = "Token too old; sync again without 'since'")
+    })
+    @GetMapping(value = "/changes", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<EmployeeChanges> getEmployeeChanges(
+            @Parameter(description = "nextToken of the previous call (omit for the first sync)")
+            @RequestParam(required = false) String since,
+
+            @Parameter(description = "Maximum number of changes to return", example = "500")
+            @RequestParam(defaultValue = "500") int limit) {
+        return ResponseEntity.ok(employeeChangeFeedService.getChangesSince(since, limit));
+    }
+
+    @Operation(summary = "Stream employee changes",
+            description = "Server-Sent Events: one 'employee' event per create, update and delete, instead of " +
+                    "polling the list. On reconnect, EventSource sends Last-Event-ID and missed events are " +
+                    "replayed; a 'reset' event means they are gone and the client should reload its data. A CSV import " +
+                    "is announced with one 'reset' rather than an event per row.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Stream opened"),
+            @ApiResponse(responseCode = "503", description = "Too many open streams; retry later")
+    })
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamEmployeeChanges(
+            @Parameter(description = "Id of the last event received, sent by EventSource when it reconnects")
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noStore())
+                // Asks nginx-style proxies in front of the gateway not to buffer the stream
+                .header("X-Accel-Buffering", "no")
+                .body(employeeEventStream.subscribe(lastEventId));
+    }
+
+    @Operation(summary = "Get sorted employees",
+            description = "Returns a paginated and sorted list of employees. Supported sort fields: firstName, " +
+                    "lastName, jobTitle, department, updatedAt")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved page"),
+            @ApiResponse(responseCode = "400", description = "Unsupported sort field")
+    })
     @GetMapping(value = "/sorted", produces = MediaType.APPLICATION_JSON_VALUE)
     public ResponseEntity<Page<EmployeeList>> getAllEmployeesSorted(
             @Parameter(description = "Page number (0-based)", example = "0")
@@ -93,7 +342,61 @@ public class EmployeeController {
             @Parameter(description = "Sort direction", example = "ASC")
             @RequestParam(defaultValue = "ASC") Sort.Direction direction) {
         Page<EmployeeList> employees = employeeService.getAllEmployeesSorted(page, size, sortBy, direction);
-        return ResponseEntity.ok(employees);
+        return withPageETag(employees, employees);
+    }
+
+    @Operation(summary = "Get selected fields of sorted employees",
+            description = "Variant of /sorted returning only the listed properties")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved page"),
+            @ApiResponse(responseCode = "400", description = "Unsupported field or sort field")
+    })
+    @GetMapping(value = "/sorted", params = {"fields", "!after"}, produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<Page<Map<String, Object>>> getAllEmployeeFieldsSorted(
+            @Parameter(description = "Comma-separated EmployeeResponse properties to return; id is always included",
+                    example = "firstName,lastName,imageUrl")
+            @RequestParam String fields,
+
+            @Parameter(description = "Page number (0-based)", example = "0")
+            @RequestParam(defaultValue = "0") int page,
+
+            @Parameter(description = "Number of items per page", example = "10")
+            @RequestParam(defaultValue = "10") int size,
+
+            @Parameter(description = "Field to sort by", example = "firstName")
+            @RequestParam(defaultValue = "firstName") String sortBy,
+
+            @Parameter(description = "Sort direction", example = "ASC")
+            @RequestParam(defaultValue = "ASC") Sort.Direction direction) {
+        return ResponseEntity.ok(employeeService.getEmployeeFieldsPage(
+                new EmployeeFilter(), EmployeeField.parse(fields), page, size, sortBy, direction));
+    }
+
+    @Operation(summary = "Get sorted employees by cursor",
+            description = "Keyset-paginated variant of /sorted. Supported sort fields: firstName, lastName, " +
+                    "jobTitle, department, updatedAt. A cursor is only valid for the sort it was issued for.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved slice",
+                    content = @Content(schema = @Schema(implementation = EmployeeCursorPage.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid cursor or unsupported sort field")
+    })
+    @GetMapping(value = "/sorted", params = "after", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<EmployeeCursorPage> getAllEmployeesSortedAfter(
+            @Parameter(description = "Opaque cursor returned by the previous slice (empty for the first slice)")
+            @RequestParam String after,
+
+            @Parameter(description = "Number of items per slice", example = "10")
+            @RequestParam(defaultValue = "10") int size,
+
+            @Parameter(description = "Field to sort by", example = "firstName")
+            @RequestParam(defaultValue = "firstName") String sortBy,
+
+            @Parameter(description = "Sort direction", example = "ASC")
+            @RequestParam(defaultValue = "ASC") Sort.Direction direction) {
+        EmployeeCursorPage employees = employeeService.getAllEmployeesSortedAfter(after, size, sortBy, direction);
+        return ResponseEntity.ok()
+                .eTag(EmployeeETags.weak(employees.getContent(), employees.isHasNext() ? 1 : 0))
+                .body(employees);
     }
 
     @Operation(summary = "Update employee", description = "Updates an existing employee's information")
@@ -126,6 +429,32 @@ public class EmployeeController {
         return ResponseEntity.noContent().build();
     }
 
+    @Operation(summary = "Delete employees by ids",
+            description = "Deletes every listed employee in one statement and reports ids that did not exist")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Batch delete completed",
+                    content = @Content(schema = @Schema(implementation = EmployeeBatchDeleteResult.class))),
+            @ApiResponse(responseCode = "413", description = "Too many ids in one request")
+    })
+    @DeleteMapping(params = "ids", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<EmployeeBatchDeleteResult> deleteEmployees(
+            @Parameter(description = "Comma-separated ids of the employees to delete", required = true)
+            @RequestParam List<UUID> ids) {
+        return ResponseEntity.ok(employeeService.deleteEmployees(ids));
+    }
+
+    @Operation(summary = "Delete employees by ids (request body)",
+            description = "Same as DELETE /api/v1/employees?ids=..., for id lists too long for a query string")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Batch delete completed",
+                    content = @Content(schema = @Schema(implementation = EmployeeBatchDeleteResult.class))),
+            @ApiResponse(responseCode = "413", description = "Too many ids in one request")
+    })
+    @PostMapping(value = "/batch-delete", consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<EmployeeBatchDeleteResult> deleteEmployeesByBody(@RequestBody List<UUID> ids) {
+        return ResponseEntity.ok(employeeService.deleteEmployees(ids));
+    }
+
     @Operation(summary = "Update employee address", description = "Updates the address information for an employee")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Address updated successfully",
@@ -165,7 +494,7 @@ public class EmployeeController {
         return ResponseEntity.ok(updatedEmergencyContact);
     }
 
-    @Operation(summary = "Search employees by name", description = "Searches employees by first or last name (contains match)")
+    @Operation(summary = "Search employees by name", description = "Searches employees by first, middle or last name (case-insensitive contains match)")
     @GetMapping(value = "/search", produces = MediaType.APPLICATION_JSON_VALUE)
     public ResponseEntity<Page<EmployeeList>> searchEmployeesByName(
             @Parameter(description = "Name to search for (partial match allowed)", required = true, example = "John")
@@ -177,7 +506,96 @@ public class EmployeeController {
             @Parameter(description = "Number of items per page", example = "10")
             @RequestParam(defaultValue = "10") int size) {
         Page<EmployeeList> employees = employeeService.searchEmployeesByName(name, page, size);
-        return ResponseEntity.ok(employees);
+        return withPageETag(employees, employees);
+    }
+
+    @Operation(summary = "Search selected fields of employees by name",
+            description = "Variant of /search returning only the listed properties, with the same matches in the same order")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved page"),
+            @ApiResponse(responseCode = "400", description = "Unsupported field")
+    })
+    @GetMapping(value = "/search", params = "fields", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<Page<Map<String, Object>>> searchEmployeeFieldsByName(
+            @Parameter(description = "Name to search for (partial match allowed)", required = true, example = "John")
+            @RequestParam String name,
+
+            @Parameter(description = "Comma-separated EmployeeResponse properties to return; id is always included",
+                    example = "firstName,lastName,imageUrl")
+            @RequestParam String fields,
+
+            @Parameter(description = "Page number (0-based)", example = "0")
+            @RequestParam(defaultValue = "0") int page,
+
+            @Parameter(description = "Number of items per page", example = "10")
+            @RequestParam(defaultValue = "10") int size) {
+        return ResponseEntity.ok(employeeService.searchEmployeeFieldsByName(name, EmployeeField.parse(fields), page, size));
+    }
+
+    @Operation(summary = "Get employee facet counts",
+            description = "Returns the headcount per department and per job title, served from in-memory counters")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved facet counts",
+                    content = @Content(schema = @Schema(implementation = EmployeeFacets.class)))
+    })
+    @GetMapping(value = "/facets", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<EmployeeFacets> getEmployeeFacets() {
+        return ResponseEntity.ok(employeeService.getEmployeeFacets());
+    }
+
+    @Operation(summary = "Filter employees",
+            description = "Returns a page of employees matching every given criterion (department, job title, " +
+                    "name, hire date range, city, state). All filtering happens in a single database query.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved page"),
+            @ApiResponse(responseCode = "400", description = "Invalid filter or unsupported sort field")
+    })
+    @GetMapping(value = "/filter", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<Page<EmployeeList>> filterEmployees(
+            @ParameterObject EmployeeFilter filter,
+
+            @Parameter(description = "Page number (0-based)", example = "0")
+            @RequestParam(defaultValue = "0") int page,
+
+            @Parameter(description = "Number of items per page", example = "10")
+            @RequestParam(defaultValue = "10") int size,
+
+            @Parameter(description = "Field to sort by", example = "lastName")
+            @RequestParam(defaultValue = "lastName") String sortBy,
+
+            @Parameter(description = "Sort direction", example = "ASC")
+            @RequestParam(defaultValue = "ASC") Sort.Direction direction) {
+        Page<EmployeeList> employees = employeeService.getFilteredEmployees(filter, page, size, sortBy, direction);
+        return withPageETag(employees, employees);
+    }
+
+    @Operation(summary = "Filter selected fields of employees",
+            description = "Variant of /filter returning only the listed properties")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved page"),
+            @ApiResponse(responseCode = "400", description = "Invalid filter, unsupported field or sort field")
+    })
+    @GetMapping(value = "/filter", params = "fields", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<Page<Map<String, Object>>> filterEmployeeFields(
+            @ParameterObject EmployeeFilter filter,
+
+            @Parameter(description = "Comma-separated EmployeeResponse properties to return; id is always included",
+                    example = "firstName,lastName,imageUrl")
+            @RequestParam String fields,
+
+            @Parameter(description = "Page number (0-based)", example = "0")
+            @RequestParam(defaultValue = "0") int page,
+
+            @Parameter(description = "Number of items per page", example = "10")
+            @RequestParam(defaultValue = "10") int size,
+
+            @Parameter(description = "Field to sort by", example = "lastName")
+            @RequestParam(defaultValue = "lastName") String sortBy,
+
+            @Parameter(description = "Sort direction", example = "ASC")
+            @RequestParam(defaultValue = "ASC") Sort.Direction direction) {
+        return ResponseEntity.ok(employeeService.getEmployeeFieldsPage(
+                filter, EmployeeField.parse(fields), page, size, sortBy, direction));
     }
 
     @Operation(summary = "Get employees by job title", description = "Filters employees by their job title (exact match)")
@@ -192,6 +610,52 @@ public class EmployeeController {
             @Parameter(description = "Number of items per page", example = "10")
             @RequestParam(defaultValue = "10") int size) {
         Page<EmployeeList> employees = employeeService.getEmployeesByJobTitle(jobTitle, page, size);
-        return ResponseEntity.ok(employees);
+        return withPageETag(employees, employees);
+    }
+
+    @Operation(summary = "Get selected fields of employees by job title",
+            description = "Variant of /job-title returning only the listed properties")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved page"),
+            @ApiResponse(responseCode = "400", description = "Unsupported field")
+    })
+    @GetMapping(value = "/job-title", params = "fields", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<Page<Map<String, Object>>> getEmployeeFieldsByJobTitle(
+            @Parameter(description = "Job title to filter by", required = true, example = "Developer")
+            @RequestParam String jobTitle,
+
+            @Parameter(description = "Comma-separated EmployeeResponse properties to return; id is always included",
+                    example = "firstName,lastName,imageUrl")
+            @RequestParam String fields,
+
+            @Parameter(description = "Page number (0-based)", example = "0")
+            @RequestParam(defaultValue = "0") int page,
+
+            @Parameter(description = "Number of items per page", example = "10")
+            @RequestParam(defaultValue = "10") int size) {
+        EmployeeFilter filter = EmployeeFilter.builder().jobTitle(jobTitle).build();
+        return ResponseEntity.ok(employeeService.getEmployeeFieldsPage(
+                filter, EmployeeField.parse(fields), page, size, null, null));
+    }
+
+    /**
+     * Answers a revalidation from the version column alone, before anything is loaded or serialized
+     */
+    private boolean isNotModified(UUID employeeId, WebRequest request) {
+        if (request.getHeader(HttpHeaders.IF_NONE_MATCH) == null) {
+            return false;
+        }
+        String currentETag = employeeService.getEmployeeETag(employeeId);
+        return currentETag != null && request.checkNotModified(currentETag);
+    }
+
+    /**
+     * Attaches a weak ETag to a list page; Spring answers a matching If-None-Match
+     * with 304 before the body is serialized.
+     */
+    private static <T> ResponseEntity<T> withPageETag(Page<EmployeeList> employees, T body) {
+        return ResponseEntity.ok()
+                .eTag(EmployeeETags.weak(employees.getContent(), employees.getTotalElements()))
+                .body(body);
     }
 }
\ No newline at end of file
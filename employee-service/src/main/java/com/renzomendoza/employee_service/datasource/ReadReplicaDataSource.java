@@ -0,0 +1,71 @@
+package com.renzomendoza.employee_service.datasource;
+
+import org.springframework.jdbc.datasource.AbstractDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Hands out connections for read-only transactions. Replicas that are in
+ * rotation are used round-robin; the primary is used instead when none is,
+ * when the chosen replica refuses a connection, or when the current client
+ * wrote within the read-your-writes window.
+ */
+public class ReadReplicaDataSource extends AbstractDataSource {
+
+    private final DataSource primary;
+    private final Map<String, DataSource> replicas;
+    private final List<String> replicaNames;
+    private final ReplicaLagMonitor lagMonitor;
+    private final ReadYourWritesTracker readYourWrites;
+    private final AtomicInteger next = new AtomicInteger();
+
+    public ReadReplicaDataSource(DataSource primary,
+                                 Map<String, DataSource> replicas,
+                                 ReplicaLagMonitor lagMonitor,
+                                 ReadYourWritesTracker readYourWrites) {
+        this.primary = primary;
+        this.replicas = replicas;
+        this.replicaNames = List.copyOf(replicas.keySet());
+        this.lagMonitor = lagMonitor;
+        this.readYourWrites = readYourWrites;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        String replica = chooseReplica();
+        if (replica == null) {
+            return primary.getConnection();
+        }
+        try {
+            return replicas.get(replica).getConnection();
+        } catch (SQLException e) {
+            lagMonitor.markDown(replica, e);
+            return primary.getConnection();
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        // Pools are configured with their own credentials
+        return getConnection();
+    }
+
+    String chooseReplica() {
+        if (replicaNames.isEmpty() || readYourWrites.currentClientWroteRecently()) {
+            return null;
+        }
+        int start = Math.floorMod(next.getAndIncrement(), replicaNames.size());
+        for (int i = 0; i < replicaNames.size(); i++) {
+            String candidate = replicaNames.get((start + i) % replicaNames.size());
+            if (lagMonitor.isUsable(candidate)) {
+                return candidate;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,50 @@
+package com.renzomendoza.employee_service.datasource;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Read replicas for read-only transactions, bound from
+ * {@code employee.datasource.read-replicas}. The primary keeps using
+ * {@code spring.datasource} and {@code spring.datasource.hikari}.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "employee.datasource.read-replicas")
+public class ReadReplicaProperties {
+
+    private boolean enabled;
+
+    /**
+     * Replicas lagging further behind the primary than this are skipped
+     */
+    private Duration maxLag = Duration.ofSeconds(5);
+
+    private Duration lagCheckInterval = Duration.ofSeconds(2);
+
+    /**
+     * How long a client's reads stay on the primary after its own write. Tracked per
+     * instance, so it needs sticky sessions when several instances serve the same client.
+     */
+    private Duration readYourWritesWindow = Duration.ofSeconds(10);
+
+    private List<Replica> replicas = new ArrayList<>();
+
+    @Getter
+    @Setter
+    public static class Replica {
+
+        private String name;
+        private String url;
+        private String username;
+        private String password;
+        private int maximumPoolSize = 10;
+        private int minimumIdle = 2;
+        private Duration connectionTimeout = Duration.ofSeconds(2);
+    }
+}
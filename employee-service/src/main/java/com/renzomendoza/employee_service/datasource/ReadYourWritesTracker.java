@@ -0,0 +1,47 @@
+package com.renzomendoza.employee_service.datasource;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.renzomendoza.employee_service.event.EmployeeChangedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.AuditorAware;
+
+import java.time.Duration;
+
+/**
+ * Remembers which clients wrote recently, so their reads can be kept on the
+ * primary until the replicas have caught up with their own changes.
+ * Clients are identified by the same principal that auditing records.
+ * <p>
+ * The record is kept in this instance's memory only. With more than one instance
+ * behind the gateway, the guarantee holds only if a client's requests stick to one
+ * instance (session affinity on the principal); a read landing on another instance
+ * may be served by a replica that has not seen the write yet.
+ */
+public class ReadYourWritesTracker {
+
+    private final AuditorAware<String> auditorAware;
+    private final Cache<String, Boolean> recentWriters;
+
+    public ReadYourWritesTracker(AuditorAware<String> auditorAware, Duration window) {
+        this.auditorAware = auditorAware;
+        this.recentWriters = Caffeine.newBuilder()
+                .expireAfterWrite(window)
+                .maximumSize(100_000)
+                .build();
+    }
+
+    @EventListener
+    public void onEmployeeChanged(EmployeeChangedEvent event) {
+        auditorAware.getCurrentAuditor().ifPresent(client -> recentWriters.put(client, Boolean.TRUE));
+    }
+
+    /**
+     * Whether the client of the current request wrote within the window
+     */
+    public boolean currentClientWroteRecently() {
+        return auditorAware.getCurrentAuditor()
+                .map(client -> recentWriters.getIfPresent(client) != null)
+                .orElse(false);
+    }
+}
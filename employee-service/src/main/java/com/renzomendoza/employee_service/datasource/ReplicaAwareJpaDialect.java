@@ -0,0 +1,46 @@
+package com.renzomendoza.employee_service.datasource;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceException;
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.springframework.orm.jpa.vendor.HibernateJpaDialect;
+import org.springframework.transaction.TransactionDefinition;
+
+import java.sql.SQLException;
+
+/**
+ * Keeps read-only transactions from filling the Hibernate second-level cache. They may
+ * be served by a replica that has not caught up yet, and a stale entity or job-title
+ * result put in the shared cache would outlive the replica's lag. They still read from
+ * the cache; read-write transactions, which always run on the primary, fill it.
+ */
+public class ReplicaAwareJpaDialect extends HibernateJpaDialect {
+
+    @Override
+    public Object beginTransaction(EntityManager entityManager, TransactionDefinition definition)
+            throws PersistenceException, SQLException {
+        Object transactionData = super.beginTransaction(entityManager, definition);
+        if (!definition.isReadOnly()) {
+            return transactionData;
+        }
+        Session session = entityManager.unwrap(Session.class);
+        CacheMode previousCacheMode = session.getCacheMode();
+        session.setCacheMode(CacheMode.GET);
+        return new ReadOnlyTransactionData(transactionData, session, previousCacheMode);
+    }
+
+    @Override
+    public void cleanupTransaction(Object transactionData) {
+        if (transactionData instanceof ReadOnlyTransactionData readOnly) {
+            // The session outlives the transaction when it is bound to the request (open-in-view)
+            readOnly.session().setCacheMode(readOnly.previousCacheMode());
+            super.cleanupTransaction(readOnly.delegate());
+        } else {
+            super.cleanupTransaction(transactionData);
+        }
+    }
+
+    private record ReadOnlyTransactionData(Object delegate, Session session, CacheMode previousCacheMode) {
+    }
+}
@@ -0,0 +1,115 @@
+package com.renzomendoza.employee_service.datasource;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Polls every replica for its replay lag and marks it usable only while it is
+ * reachable, streaming from the primary and within {@code maxLag} of it. Replicas
+ * start out unusable until their first successful check.
+ */
+@Slf4j
+public class ReplicaLagMonitor implements SmartLifecycle {
+
+    // A replica with no streaming WAL receiver reports -1: it has stopped receiving changes, and its
+    // replayed position matching its received one says nothing about how far behind it is.
+    // Otherwise an idle primary sends no WAL, so a replica that has replayed everything it received
+    // counts as caught up. A stand-in that is not in recovery at all reports zero lag.
+    // The receiver's status is only visible with pg_read_all_stats; without it the row still shows.
+    private static final String LAG_QUERY = "select case " +
+            "when not pg_is_in_recovery() then 0 " +
+            "when not exists (select 1 from pg_stat_wal_receiver " +
+            "where coalesce(status, 'streaming') = 'streaming') then -1 " +
+            "when pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() then 0 " +
+            "else coalesce(extract(epoch from now() - pg_last_xact_replay_timestamp()) * 1000, 0) end";
+
+    private static final long NOT_STREAMING = -1;
+
+    private final Map<String, DataSource> replicas;
+    private final long maxLagMillis;
+    private final Duration interval;
+    private final Map<String, Boolean> usable = new ConcurrentHashMap<>();
+
+    private volatile boolean running;
+    private ScheduledExecutorService scheduler;
+
+    public ReplicaLagMonitor(Map<String, DataSource> replicas, Duration maxLag, Duration interval) {
+        this.replicas = replicas;
+        this.maxLagMillis = maxLag.toMillis();
+        this.interval = interval;
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "replica-lag-monitor");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(this::checkAll, 0, interval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    public boolean isUsable(String replica) {
+        return usable.getOrDefault(replica, false);
+    }
+
+    /**
+     * Takes a replica out of rotation after a failed connection; the next check may restore it
+     */
+    public void markDown(String replica, Exception cause) {
+        if (usable.put(replica, false) != Boolean.FALSE) {
+            log.warn("Replica {} is unavailable, routing its reads to the primary: {}", replica, cause.getMessage());
+        }
+    }
+
+    void checkAll() {
+        replicas.forEach(this::check);
+    }
+
+    private void check(String name, DataSource replica) {
+        try (Connection connection = replica.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet result = statement.executeQuery(LAG_QUERY)) {
+            result.next();
+            long lagMillis = result.getLong(1);
+            boolean withinLag = lagMillis != NOT_STREAMING && lagMillis <= maxLagMillis;
+            Boolean previous = usable.put(name, withinLag);
+            if (previous == null || previous != withinLag) {
+                if (lagMillis == NOT_STREAMING) {
+                    log.info("Replica {} is out of rotation (not streaming from the primary)", name);
+                } else {
+                    log.info("Replica {} is {} (lag {} ms, limit {} ms)", name,
+                            withinLag ? "in rotation" : "out of rotation", lagMillis, maxLagMillis);
+                }
+            }
+        } catch (SQLException | RuntimeException e) {
+            markDown(name, e);
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.renzomendoza.employee_service.dto;
+
+import com.renzomendoza.employee_service.dto.employee.EmployeeList;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Cursor-paginated slice of employees")
+public class EmployeeCursorPage {
+
+    @Schema(description = "Employees in this slice")
+    private List<EmployeeList> content;
+
+    @Schema(description = "Number of items requested", example = "10")
+    private int size;
+
+    @Schema(description = "Whether another slice follows this one")
+    private boolean hasNext;
+
+    @Schema(description = "Opaque cursor to pass as 'after' for the next slice", nullable = true)
+    private String nextCursor;
+}
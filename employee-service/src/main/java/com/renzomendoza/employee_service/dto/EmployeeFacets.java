@@ -0,0 +1,38 @@
+package com.renzomendoza.employee_service.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Headcount per department and per job title")
+public class EmployeeFacets {
+
+    @Schema(description = "Total number of employees", example = "1250")
+    private long total;
+
+    @Schema(description = "Headcount per department, largest first")
+    private List<FacetBucket> departments;
+
+    @Schema(description = "Headcount per job title, largest first")
+    private List<FacetBucket> jobTitles;
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Schema(description = "Number of employees sharing one value")
+    public static class FacetBucket {
+
+        @Schema(description = "Facet value (null for employees without one)", example = "Engineering", nullable = true)
+        private String value;
+
+        @Schema(description = "Number of employees with this value", example = "320")
+        private long count;
+    }
+}
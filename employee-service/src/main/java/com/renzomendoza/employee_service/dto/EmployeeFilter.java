@@ -0,0 +1,39 @@
+package com.renzomendoza.employee_service.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDate;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Employee filter criteria; every criterion is optional and all given ones must match")
+public class EmployeeFilter {
+
+    @Schema(description = "Department (exact match)", example = "Engineering")
+    private String department;
+
+    @Schema(description = "Job title (exact match)", example = "Developer")
+    private String jobTitle;
+
+    @Schema(description = "First, middle or last name (case-insensitive partial match)", example = "John")
+    private String name;
+
+    @Schema(description = "Earliest hire date (inclusive)", example = "2020-01-01")
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate hiredFrom;
+
+    @Schema(description = "Latest hire date (inclusive)", example = "2024-12-31")
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate hiredTo;
+
+    @Schema(description = "Address city (exact match)", example = "Springfield")
+    private String city;
+
+    @Schema(description = "Address state (exact match)", example = "IL")
+    private String state;
+}
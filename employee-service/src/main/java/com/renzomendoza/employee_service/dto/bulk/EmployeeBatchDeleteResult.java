@@ -0,0 +1,25 @@
+package com.renzomendoza.employee_service.dto.bulk;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.util.List;
+import java.util.UUID;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Outcome of a batch delete")
+public class EmployeeBatchDeleteResult {
+
+    @Schema(description = "Number of distinct ids received", example = "50")
+    private int requested;
+
+    @Schema(description = "Number of employees deleted", example = "49")
+    private int deleted;
+
+    @Schema(description = "Ids that did not match any employee")
+    private List<UUID> notFound;
+}
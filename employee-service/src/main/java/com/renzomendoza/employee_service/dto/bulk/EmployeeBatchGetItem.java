@@ -0,0 +1,38 @@
+package com.renzomendoza.employee_service.dto.bulk;
+
+import com.renzomendoza.employee_service.dto.employee.EmployeeResponse;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.util.UUID;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Lookup result for one requested id")
+public class EmployeeBatchGetItem {
+
+    public enum Status {
+        FOUND,
+        NOT_FOUND
+    }
+
+    @Schema(description = "Requested employee id")
+    private UUID id;
+
+    @Schema(description = "Whether an employee exists with this id", example = "FOUND")
+    private Status status;
+
+    @Schema(description = "The employee, absent when not found")
+    private EmployeeResponse employee;
+
+    public static EmployeeBatchGetItem found(UUID id, EmployeeResponse employee) {
+        return new EmployeeBatchGetItem(id, Status.FOUND, employee);
+    }
+
+    public static EmployeeBatchGetItem notFound(UUID id) {
+        return new EmployeeBatchGetItem(id, Status.NOT_FOUND, null);
+    }
+}
@@ -0,0 +1,24 @@
+package com.renzomendoza.employee_service.dto.bulk;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Outcome of a batch get")
+public class EmployeeBatchGetResult {
+
+    @Schema(description = "Number of ids received", example = "50")
+    private int requested;
+
+    @Schema(description = "Number of ids that matched an employee", example = "49")
+    private int found;
+
+    @Schema(description = "One entry per requested id, in request order")
+    private List<EmployeeBatchGetItem> items;
+}
@@ -0,0 +1,41 @@
+package com.renzomendoza.employee_service.dto.bulk;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.util.List;
+import java.util.UUID;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Outcome of a single item in a bulk request")
+public class EmployeeBulkItemResult {
+
+    public enum Status {
+        CREATED,
+        FAILED
+    }
+
+    @Schema(description = "Position of the item in the request (0-based)", example = "0")
+    private int index;
+
+    @Schema(description = "Employee's id, when one was assigned")
+    private UUID id;
+
+    @Schema(description = "Whether the item was persisted", example = "CREATED")
+    private Status status;
+
+    @Schema(description = "Validation or persistence errors for a failed item")
+    private List<String> errors;
+
+    public static EmployeeBulkItemResult created(int index, UUID id) {
+        return new EmployeeBulkItemResult(index, id, Status.CREATED, List.of());
+    }
+
+    public static EmployeeBulkItemResult failed(int index, UUID id, List<String> errors) {
+        return new EmployeeBulkItemResult(index, id, Status.FAILED, errors);
+    }
+}
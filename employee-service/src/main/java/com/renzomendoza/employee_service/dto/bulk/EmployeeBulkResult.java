@@ -0,0 +1,27 @@
+package com.renzomendoza.employee_service.dto.bulk;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Summary and per-item outcome of a bulk create")
+public class EmployeeBulkResult {
+
+    @Schema(description = "Number of items received", example = "1000")
+    private int requested;
+
+    @Schema(description = "Number of employees created", example = "998")
+    private int created;
+
+    @Schema(description = "Number of items rejected", example = "2")
+    private int failed;
+
+    @Schema(description = "Outcome per item, in request order")
+    private List<EmployeeBulkItemResult> items;
+}
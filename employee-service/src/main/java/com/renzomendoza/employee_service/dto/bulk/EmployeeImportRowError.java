@@ -0,0 +1,25 @@
+package com.renzomendoza.employee_service.dto.bulk;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.util.List;
+import java.util.UUID;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "A CSV row that was not imported")
+public class EmployeeImportRowError {
+
+    @Schema(description = "Row number in the file, counting the header as row 1", example = "2")
+    private int row;
+
+    @Schema(description = "Employee's id, when the row had a valid one")
+    private UUID id;
+
+    @Schema(description = "Validation or persistence errors for the row")
+    private List<String> errors;
+}
@@ -0,0 +1,64 @@
+package com.renzomendoza.employee_service.dto.bulk;
+
+import com.renzomendoza.employee_service.model.EmployeeImportJob;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Progress and per-row outcome of a CSV import")
+public class EmployeeImportStatus {
+
+    @Schema(description = "Import job id")
+    private UUID jobId;
+
+    @Schema(description = "QUEUED, RUNNING, then COMPLETED or FAILED", example = "RUNNING")
+    private EmployeeImportJob.Status status;
+
+    @Schema(description = "Name of the uploaded file", example = "employees.csv")
+    private String fileName;
+
+    @Schema(description = "Data rows read so far", example = "25000")
+    private int rowsRead;
+
+    @Schema(description = "Employees created; set once the job completes, as rows are committed all at once",
+            example = "24990")
+    private int rowsImported;
+
+    @Schema(description = "Rows rejected so far", example = "10")
+    private int rowsFailed;
+
+    @Schema(description = "Rejected rows in file order; capped, so rowsFailed may be larger")
+    private List<EmployeeImportRowError> errors;
+
+    @Schema(description = "Why the job failed as a whole; nothing was imported", nullable = true)
+    private String message;
+
+    @Schema(description = "When the import was submitted")
+    private LocalDateTime createdAt;
+
+    @Schema(description = "When the import finished", nullable = true)
+    private LocalDateTime finishedAt;
+
+    public static EmployeeImportStatus of(EmployeeImportJob job) {
+        return EmployeeImportStatus.builder()
+                .jobId(job.getId())
+                .status(job.getStatus())
+                .fileName(job.getFileName())
+                .rowsRead(job.getRowsRead())
+                .rowsImported(job.getRowsImported())
+                .rowsFailed(job.getRowsFailed())
+                .errors(job.getErrors() == null ? List.of() : job.getErrors())
+                .message(job.getMessage())
+                .createdAt(job.getCreatedAt())
+                .finishedAt(job.getFinishedAt())
+                .build();
+    }
+}
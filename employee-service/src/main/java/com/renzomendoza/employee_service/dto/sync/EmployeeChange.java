@@ -0,0 +1,42 @@
+package com.renzomendoza.employee_service.dto.sync;
+
+import com.renzomendoza.employee_service.dto.employee.EmployeeResponse;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "One change in the delta feed")
+public class EmployeeChange {
+
+    public enum Type {
+        UPSERTED,
+        DELETED
+    }
+
+    @Schema(description = "Employee's id")
+    private UUID id;
+
+    @Schema(description = "Whether the employee was created/updated or deleted", example = "UPSERTED")
+    private Type type;
+
+    @Schema(description = "updatedAt of the employee, or when it was deleted", example = "2023-01-20T15:45:00")
+    private LocalDateTime changedAt;
+
+    @Schema(description = "Current state of the employee, absent for deletions")
+    private EmployeeResponse employee;
+
+    public static EmployeeChange upserted(EmployeeResponse employee) {
+        return new EmployeeChange(employee.getId(), Type.UPSERTED, employee.getUpdatedAt(), employee);
+    }
+
+    public static EmployeeChange deleted(UUID id, LocalDateTime deletedAt) {
+        return new EmployeeChange(id, Type.DELETED, deletedAt, null);
+    }
+}
@@ -0,0 +1,24 @@
+package com.renzomendoza.employee_service.dto.sync;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Changes since a change token, oldest first")
+public class EmployeeChanges {
+
+    @Schema(description = "Changed and deleted employees, at most one entry per employee per page")
+    private List<EmployeeChange> changes;
+
+    @Schema(description = "Token to pass as 'since' on the next call")
+    private String nextToken;
+
+    @Schema(description = "Whether more changes are already available; if so, call again right away", example = "false")
+    private boolean hasMore;
+}
@@ -0,0 +1,27 @@
+package com.renzomendoza.employee_service.dto.sync;
+
+import com.renzomendoza.employee_service.dto.employee.EmployeeList;
+import com.renzomendoza.employee_service.event.EmployeeChangedEvent;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.util.UUID;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Data of one 'employee' event on the change stream")
+public class EmployeeStreamEvent {
+
+    @Schema(description = "Employee's id")
+    private UUID id;
+
+    @Schema(description = "Kind of change", example = "UPDATED")
+    private EmployeeChangedEvent.ChangeType type;
+
+    @Schema(description = "Summary after the change, when known; absent for deletions and for changes " +
+            "made through another replica")
+    private EmployeeList employee;
+}
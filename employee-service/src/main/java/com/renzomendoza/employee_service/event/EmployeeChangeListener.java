@@ -0,0 +1,217 @@
+package com.renzomendoza.employee_service.event;
+
+import com.renzomendoza.employee_service.cache.EmployeeEntityCache;
+import com.renzomendoza.employee_service.config.CacheConfig;
+import com.renzomendoza.employee_service.service.EmployeeFacetCounts;
+import com.renzomendoza.employee_service.service.EmployeeSearchIndex;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Keeps a dedicated connection (outside the Hikari pool) that LISTENs on
+ * {@link EmployeeChangeNotifier#CHANNEL} and evicts the local copy of every
+ * employee changed by any replica, this one included.
+ * <p>
+ * Notifications sent while the connection is down are lost, so the local cache
+ * is cleared and the facet counts recounted every time the listener (re)connects.
+ * Changes made by other replicas also mark the facet counts stale, since the
+ * notification does not say which buckets they moved, and evict the employee
+ * from the Hibernate second-level cache, which only sees this replica's writes.
+ * They are also reloaded into the search index, one query per poll, and forwarded
+ * to this replica's {@link EmployeeEventStream} subscribers.
+ * <p>
+ * Another replica's CSV import arrives as one notification naming its transaction: the
+ * caches are cleared, the facet counts marked stale, stream subscribers told to reset,
+ * and the rows that transaction wrote reloaded into the search index in batches.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "employee.cache.invalidation.enabled", havingValue = "true", matchIfMissing = true)
+public class EmployeeChangeListener implements SmartLifecycle {
+
+    private static final int POLL_TIMEOUT_MS = 5_000;
+    private static final long RECONNECT_DELAY_MS = 5_000;
+
+    private final DataSourceProperties dataSourceProperties;
+    private final CacheManager cacheManager;
+    private final EmployeeSearchIndex employeeSearchIndex;
+    private final EmployeeFacetCounts employeeFacetCounts;
+    private final EmployeeEntityCache employeeEntityCache;
+    private final EmployeeEventStream employeeEventStream;
+
+    private volatile boolean running;
+    private volatile Connection connection;
+    private Thread listenerThread;
+
+    public EmployeeChangeListener(DataSourceProperties dataSourceProperties,
+                                  CacheManager cacheManager,
+                                  EmployeeSearchIndex employeeSearchIndex,
+                                  EmployeeFacetCounts employeeFacetCounts,
+                                  EmployeeEntityCache employeeEntityCache,
+                                  EmployeeEventStream employeeEventStream) {
+        this.dataSourceProperties = dataSourceProperties;
+        this.cacheManager = cacheManager;
+        this.employeeSearchIndex = employeeSearchIndex;
+        this.employeeFacetCounts = employeeFacetCounts;
+        this.employeeEntityCache = employeeEntityCache;
+        this.employeeEventStream = employeeEventStream;
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        listenerThread = new Thread(this::listen, "employee-change-listener");
+        listenerThread.setDaemon(true);
+        listenerThread.start();
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        closeQuietly(connection);
+        if (listenerThread != null) {
+            listenerThread.interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void listen() {
+        while (running) {
+            try (Connection listening = DriverManager.getConnection(
+                    dataSourceProperties.determineUrl(),
+                    dataSourceProperties.determineUsername(),
+                    dataSourceProperties.determinePassword())) {
+                connection = listening;
+                try (Statement statement = listening.createStatement()) {
+                    statement.execute("LISTEN " + EmployeeChangeNotifier.CHANNEL);
+                }
+                clearLocalCache();
+                employeeFacetCounts.markStale();
+                log.info("Listening for employee changes on channel {}", EmployeeChangeNotifier.CHANNEL);
+
+                PGConnection pgConnection = listening.unwrap(PGConnection.class);
+                while (running) {
+                    PGNotification[] notifications = pgConnection.getNotifications(POLL_TIMEOUT_MS);
+                    if (notifications != null) {
+                        Set<UUID> remoteChanges = new LinkedHashSet<>();
+                        for (PGNotification notification : notifications) {
+                            UUID employeeId = evict(notification.getParameter());
+                            if (employeeId != null) {
+                                remoteChanges.add(employeeId);
+                            }
+                        }
+                        // One reload per poll; this replica's own changes are already in the index
+                        employeeSearchIndex.refresh(remoteChanges);
+                    }
+                }
+            } catch (SQLException e) {
+                if (!running) {
+                    return;
+                }
+                log.warn("Employee change listener disconnected, reconnecting in {} ms: {}",
+                        RECONNECT_DELAY_MS, e.getMessage());
+                try {
+                    Thread.sleep(RECONNECT_DELAY_MS);
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * Evicts the employee named by a notification and returns its id when the change
+     * came from another replica, for the caller to reload it into the search index
+     */
+    UUID evict(String payload) {
+        // <origin>:<type>:<id>, or <origin>:IMPORTED:<change xid>
+        String[] parts = payload.split(":");
+        if (parts.length == 3 && EmployeeChangeNotifier.IMPORTED.equals(parts[1])) {
+            imported(parts[0], parts[2], payload);
+            return null;
+        }
+        UUID employeeId = null;
+        EmployeeChangedEvent.ChangeType type = null;
+        if (parts.length == 3) {
+            try {
+                employeeId = UUID.fromString(parts[2]);
+                type = EmployeeChangedEvent.ChangeType.valueOf(parts[1]);
+            } catch (IllegalArgumentException e) {
+                employeeId = null;
+            }
+        }
+        if (employeeId == null) {
+            log.warn("Ignoring malformed employee change notification: {}", payload);
+            return null;
+        }
+        String origin = parts[0];
+        Cache cache = cacheManager.getCache(CacheConfig.EMPLOYEE_CACHE);
+        if (cache != null) {
+            cache.evict(employeeId);
+        }
+        if (EmployeeChangeNotifier.ORIGIN.equals(origin)) {
+            return null;
+        }
+        employeeFacetCounts.markStale();
+        employeeEntityCache.evict(employeeId);
+        employeeEventStream.publish(employeeId, type, null);
+        return employeeId;
+    }
+
+    private void imported(String origin, String changeXid, String payload) {
+        long xid;
+        try {
+            xid = Long.parseLong(changeXid);
+        } catch (NumberFormatException e) {
+            log.warn("Ignoring malformed employee change notification: {}", payload);
+            return;
+        }
+        // This replica applied the import's rows when it committed
+        if (EmployeeChangeNotifier.ORIGIN.equals(origin)) {
+            return;
+        }
+        clearLocalCache();
+        employeeFacetCounts.markStale();
+        employeeEventStream.reset();
+        employeeSearchIndex.refreshTransaction(xid);
+    }
+
+    private void clearLocalCache() {
+        Cache cache = cacheManager.getCache(CacheConfig.EMPLOYEE_CACHE);
+        if (cache != null) {
+            cache.clear();
+        }
+        employeeEntityCache.evictAll();
+    }
+
+    private static void closeQuietly(Connection connection) {
+        if (connection == null) {
+            return;
+        }
+        try {
+            connection.close();
+        } catch (SQLException ignored) {
+            // Closing only unblocks the listener thread during shutdown
+        }
+    }
+}
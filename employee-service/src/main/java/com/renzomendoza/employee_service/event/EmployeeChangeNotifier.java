@@ -0,0 +1,103 @@
+package com.renzomendoza.employee_service.event;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Array;
+import java.sql.PreparedStatement;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Publishes {@code NOTIFY employee_changed, '<origin>:<type>:<id>'} for every employee written in
+ * the current transaction, where origin identifies the replica that made the change. Ids are collected per transaction and sent in one
+ * statement just before commit; Postgres only delivers the notifications if the
+ * transaction commits.
+ * <p>
+ * A CSV import sends one {@code '<origin>:IMPORTED:<change xid>'} for all of its rows instead, so
+ * a large file does not flood the channel; receivers reload the rows that transaction wrote.
+ */
+@Component
+@ConditionalOnProperty(name = "employee.cache.invalidation.enabled", havingValue = "true", matchIfMissing = true)
+public class EmployeeChangeNotifier {
+
+    public static final String CHANNEL = "employee_changed";
+
+    /**
+     * Payload type of a bulk import, whose last part is the importing transaction's id
+     */
+    public static final String IMPORTED = "IMPORTED";
+
+    /**
+     * Identifies this replica in the notification payload
+     */
+    public static final String ORIGIN = UUID.randomUUID().toString();
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public EmployeeChangeNotifier(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @EventListener
+    public void onEmployeeChanged(EmployeeChangedEvent event) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        pendingIds().add(ORIGIN + ":" + event.type() + ":" + event.employeeId());
+    }
+
+    @EventListener
+    public void onEmployeesImported(EmployeesImportedEvent event) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        pendingIds().add(ORIGIN + ":" + IMPORTED + ":" + event.changeXid());
+    }
+
+    @SuppressWarnings("unchecked")
+    private Set<String> pendingIds() {
+        Set<String> ids = (Set<String>) TransactionSynchronizationManager.getResource(this);
+        if (ids == null) {
+            Set<String> newIds = new LinkedHashSet<>();
+            TransactionSynchronizationManager.bindResource(this, newIds);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void beforeCommit(boolean readOnly) {
+                    sendNotifications(newIds);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(EmployeeChangeNotifier.this);
+                }
+            });
+            ids = newIds;
+        }
+        return ids;
+    }
+
+    private void sendNotifications(Set<String> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+            Array payloads = connection.createArrayOf("text", ids.toArray());
+            try (PreparedStatement statement = connection.prepareStatement(
+                    "select pg_notify(?, payload) from unnest(?) as payload")) {
+                statement.setString(1, CHANNEL);
+                statement.setArray(2, payloads);
+                statement.execute();
+            } finally {
+                payloads.free();
+            }
+            return null;
+        });
+    }
+}
@@ -0,0 +1,49 @@
+package com.renzomendoza.employee_service.event;
+
+import com.renzomendoza.employee_service.dto.employee.EmployeeList;
+
+import java.util.UUID;
+
+/**
+ * Published by EmployeeService on every write. Listeners that keep derived
+ * state (search index, caches, facet counts) consume it after the transaction commits.
+ * <p>
+ * {@code previous} holds the grouping attributes the employee had before the
+ * change, when the writer knew them; it is null for creates and for updates that
+ * cannot have changed them.
+ */
+public record EmployeeChangedEvent(UUID employeeId, ChangeType type, EmployeeList summary, Facets previous) {
+
+    public enum ChangeType {
+        CREATED,
+        UPDATED,
+        DELETED
+    }
+
+    public record Facets(String department, String jobTitle) {
+
+        public static Facets of(EmployeeList employee) {
+            return new Facets(employee.getDepartment(), employee.getJobTitle());
+        }
+    }
+
+    public static EmployeeChangedEvent created(UUID employeeId, EmployeeList summary) {
+        return new EmployeeChangedEvent(employeeId, ChangeType.CREATED, summary, null);
+    }
+
+    public static EmployeeChangedEvent updated(UUID employeeId, EmployeeList summary) {
+        return new EmployeeChangedEvent(employeeId, ChangeType.UPDATED, summary, null);
+    }
+
+    public static EmployeeChangedEvent updated(UUID employeeId, Facets previous, EmployeeList summary) {
+        return new EmployeeChangedEvent(employeeId, ChangeType.UPDATED, summary, previous);
+    }
+
+    public static EmployeeChangedEvent deleted(UUID employeeId) {
+        return new EmployeeChangedEvent(employeeId, ChangeType.DELETED, null, null);
+    }
+
+    public static EmployeeChangedEvent deleted(UUID employeeId, Facets previous) {
+        return new EmployeeChangedEvent(employeeId, ChangeType.DELETED, null, previous);
+    }
+}
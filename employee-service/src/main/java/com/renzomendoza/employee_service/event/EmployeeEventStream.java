@@ -0,0 +1,298 @@
+package com.renzomendoza.employee_service.event;
+
+import com.renzomendoza.employee_service.dto.employee.EmployeeList;
+import com.renzomendoza.employee_service.dto.sync.EmployeeStreamEvent;
+import com.renzomendoza.employee_service.exception.StreamCapacityExceededException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Fans employee changes out to {@code /api/v1/employees/stream} subscribers.
+ * <p>
+ * Each subscriber gets a bounded queue drained by its own virtual thread, so one slow
+ * client never holds up a write or another client. A subscriber whose queue fills up
+ * is disconnected; its EventSource reconnects with Last-Event-ID and catches up from
+ * the replay buffer of recent events. A client that fell further behind, or whose id
+ * was issued by another replica or before a restart, gets a {@code reset} event
+ * instead and should reload what it shows.
+ * <p>
+ * Changes made through this replica arrive after commit with their summary; changes
+ * from other replicas are forwarded by {@link EmployeeChangeListener} without one.
+ * A CSV import sends every subscriber a single {@code reset} rather than an event per row.
+ */
+@Slf4j
+@Component
+public class EmployeeEventStream implements SmartLifecycle {
+
+    public static final String EVENT_NAME = "employee";
+    public static final String RESET_EVENT_NAME = "reset";
+
+    // Event ids are <instance>-<sequence>; the instance part tells ids of this process from older ones
+    private static final String INSTANCE = Long.toHexString(System.currentTimeMillis());
+
+    private final int bufferSize;
+    private final int replaySize;
+    private final int maxSubscribers;
+    private final Duration timeout;
+    private final Duration heartbeatInterval;
+
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final ArrayDeque<StreamEvent> replay = new ArrayDeque<>();
+    private long sequence;
+
+    private volatile boolean running;
+    private ScheduledExecutorService heartbeats;
+
+    public EmployeeEventStream(@Value("${employee.stream.buffer-size:256}") int bufferSize,
+                               @Value("${employee.stream.replay-size:1000}") int replaySize,
+                               @Value("${employee.stream.max-subscribers:1000}") int maxSubscribers,
+                               @Value("${employee.stream.timeout:30m}") Duration timeout,
+                               @Value("${employee.stream.heartbeat-interval:15s}") Duration heartbeatInterval) {
+        this.bufferSize = bufferSize;
+        this.replaySize = replaySize;
+        this.maxSubscribers = maxSubscribers;
+        this.timeout = timeout;
+        this.heartbeatInterval = heartbeatInterval;
+    }
+
+    /**
+     * Opens a stream, first replaying what the client missed after {@code lastEventId}
+     */
+    public SseEmitter subscribe(String lastEventId) {
+        // The timeout bounds a connection's lifetime so clients spread across replicas as they reconnect
+        Subscriber subscriber = new Subscriber(new SseEmitter(timeout.toMillis()), bufferSize);
+        synchronized (replay) {
+            // Checked and registered under the lock, so concurrent subscribes cannot overshoot the
+            // limit and no event falls between the replay and the live feed
+            if (subscribers.size() >= maxSubscribers) {
+                throw new StreamCapacityExceededException(maxSubscribers);
+            }
+            List<StreamEvent> missed = lastEventId == null || lastEventId.isBlank() ? List.of() : eventsAfter(lastEventId);
+            if (missed == null || missed.size() > bufferSize) {
+                subscriber.offer(StreamEvent.reset(sequence));
+            } else {
+                missed.forEach(subscriber::offer);
+            }
+            subscribers.add(subscriber);
+        }
+        subscriber.start();
+        return subscriber.emitter;
+    }
+
+    @TransactionalEventListener
+    public void onEmployeeChanged(EmployeeChangedEvent event) {
+        publish(event.employeeId(), event.type(), event.summary());
+    }
+
+    @TransactionalEventListener
+    public void onEmployeesImported(EmployeesImportedEvent event) {
+        reset();
+    }
+
+    /**
+     * Tells every subscriber to reload, in place of one event per employee of a bulk change.
+     * The replay buffer is dropped and the sequence moved on, so a client resuming from an
+     * earlier id gets the reset too.
+     */
+    public void reset() {
+        synchronized (replay) {
+            replay.clear();
+            StreamEvent reset = StreamEvent.reset(++sequence);
+            for (Subscriber subscriber : subscribers) {
+                if (!subscriber.offer(reset)) {
+                    subscriber.close();
+                }
+            }
+        }
+    }
+
+    public void publish(UUID employeeId, EmployeeChangedEvent.ChangeType type, EmployeeList summary) {
+        EmployeeStreamEvent data = new EmployeeStreamEvent(employeeId, type, summary);
+        synchronized (replay) {
+            StreamEvent event = new StreamEvent(++sequence, data);
+            replay.addLast(event);
+            if (replay.size() > replaySize) {
+                replay.removeFirst();
+            }
+            for (Subscriber subscriber : subscribers) {
+                if (!subscriber.offer(event)) {
+                    log.debug("Disconnecting slow employee stream subscriber after {} queued events", bufferSize);
+                    subscriber.close();
+                }
+            }
+        }
+    }
+
+    /**
+     * Events after the given id, or null when they are no longer (or never were) in the replay buffer
+     */
+    List<StreamEvent> eventsAfter(String lastEventId) {
+        int separator = lastEventId.lastIndexOf('-');
+        if (separator < 0 || !INSTANCE.equals(lastEventId.substring(0, separator))) {
+            return null;
+        }
+        long lastSequence;
+        try {
+            lastSequence = Long.parseLong(lastEventId.substring(separator + 1));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+        synchronized (replay) {
+            long oldest = replay.isEmpty() ? sequence + 1 : replay.getFirst().sequence();
+            if (lastSequence < oldest - 1 || lastSequence > sequence) {
+                return null;
+            }
+            List<StreamEvent> missed = new ArrayList<>();
+            for (StreamEvent event : replay) {
+                if (event.sequence() > lastSequence) {
+                    missed.add(event);
+                }
+            }
+            return missed;
+        }
+    }
+
+    int subscriberCount() {
+        return subscribers.size();
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        heartbeats = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "employee-stream-heartbeat");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long intervalMillis = heartbeatInterval.toMillis();
+        heartbeats.scheduleWithFixedDelay(this::sendHeartbeats, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (heartbeats != null) {
+            heartbeats.shutdownNow();
+        }
+        subscribers.forEach(Subscriber::close);
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    // Keeps idle connections open through proxies and finds clients that went away.
+    // A subscriber with a full queue is already about to be written to, or dropped.
+    private void sendHeartbeats() {
+        subscribers.forEach(subscriber -> subscriber.offer(StreamEvent.HEARTBEAT));
+    }
+
+    record StreamEvent(long sequence, EmployeeStreamEvent data) {
+
+        static final StreamEvent HEARTBEAT = new StreamEvent(-1, null);
+
+        /**
+         * A reset carries the sequence it was sent at as its id, so a client that reconnects
+         * right after it resumes from there instead of being reset again
+         */
+        static StreamEvent reset(long sequence) {
+            return new StreamEvent(sequence, null);
+        }
+
+        boolean isReset() {
+            return data == null && this != HEARTBEAT;
+        }
+
+        String id() {
+            return INSTANCE + "-" + sequence;
+        }
+    }
+
+    private final class Subscriber {
+
+        private final SseEmitter emitter;
+        private final BlockingQueue<StreamEvent> queue;
+        private volatile Thread sender;
+        private volatile boolean closed;
+
+        Subscriber(SseEmitter emitter, int capacity) {
+            this.emitter = emitter;
+            this.queue = new ArrayBlockingQueue<>(capacity);
+            emitter.onCompletion(this::close);
+            emitter.onTimeout(this::close);
+            emitter.onError(error -> close());
+        }
+
+        boolean offer(StreamEvent event) {
+            return !closed && queue.offer(event);
+        }
+
+        void start() {
+            sender = Thread.ofVirtual().name("employee-stream-subscriber").start(this::send);
+        }
+
+        // Never blocks: called while publishing, so it leaves completing the emitter to the
+        // sender thread, which may itself be stuck writing to the slow client
+        void close() {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            subscribers.remove(this);
+            Thread thread = sender;
+            if (thread != null) {
+                thread.interrupt();
+            }
+        }
+
+        private void send() {
+            try {
+                while (!closed) {
+                    StreamEvent event = queue.take();
+                    if (event == StreamEvent.HEARTBEAT) {
+                        emitter.send(SseEmitter.event().comment("heartbeat"));
+                    } else if (event.isReset()) {
+                        emitter.send(SseEmitter.event().id(event.id()).name(RESET_EVENT_NAME).data(""));
+                    } else {
+                        emitter.send(SseEmitter.event()
+                                .id(event.id())
+                                .name(EVENT_NAME)
+                                .data(event.data(), MediaType.APPLICATION_JSON));
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (IOException | IllegalStateException e) {
+                // The client went away; the container completes the emitter
+                log.debug("Employee stream subscriber disconnected: {}", e.getMessage());
+            } finally {
+                close();
+                try {
+                    emitter.complete();
+                } catch (IllegalStateException ignored) {
+                    // Already completed by the container
+                }
+            }
+        }
+    }
+}
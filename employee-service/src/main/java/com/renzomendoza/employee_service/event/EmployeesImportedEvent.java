@@ -0,0 +1,15 @@
+package com.renzomendoza.employee_service.event;
+
+import com.renzomendoza.employee_service.dto.employee.EmployeeList;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Published once by EmployeeImportService for all employees a CSV import created, in
+ * place of one {@link EmployeeChangedEvent} per row. Other replicas get a single
+ * notification naming the import's transaction ({@code changeXid}) and reload what it
+ * wrote from the database.
+ */
+public record EmployeesImportedEvent(UUID jobId, long changeXid, List<EmployeeList> summaries) {
+}
@@ -0,0 +1,11 @@
+package com.renzomendoza.employee_service.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.PAYLOAD_TOO_LARGE)
+public class BulkRequestTooLargeException extends RuntimeException {
+    public BulkRequestTooLargeException(int requested, int maxItems) {
+        super("Bulk request has " + requested + " items, the maximum is " + maxItems);
+    }
+}
@@ -0,0 +1,14 @@
+package com.renzomendoza.employee_service.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+import java.time.Duration;
+
+@ResponseStatus(HttpStatus.GONE)
+public class ChangeTokenExpiredException extends RuntimeException {
+    public ChangeTokenExpiredException(Duration retention) {
+        super("Change token is older than the " + retention.toDays() +
+                "-day tombstone retention; sync again without 'since'");
+    }
+}
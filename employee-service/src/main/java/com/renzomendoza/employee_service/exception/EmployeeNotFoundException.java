@@ -1,7 +1,11 @@
 package com.renzomendoza.employee_service.exception;
 
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
 import java.util.UUID;
 
+@ResponseStatus(HttpStatus.NOT_FOUND)
 public class EmployeeNotFoundException extends RuntimeException {
     public EmployeeNotFoundException(UUID employeeId) {
         super("Employee not found with ID: " + employeeId);
@@ -0,0 +1,13 @@
+package com.renzomendoza.employee_service.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+import java.util.UUID;
+
+@ResponseStatus(HttpStatus.NOT_FOUND)
+public class ImportJobNotFoundException extends RuntimeException {
+    public ImportJobNotFoundException(UUID jobId) {
+        super("Import job not found with ID: " + jobId);
+    }
+}
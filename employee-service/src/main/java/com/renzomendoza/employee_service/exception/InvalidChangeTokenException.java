@@ -0,0 +1,11 @@
+package com.renzomendoza.employee_service.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.BAD_REQUEST)
+public class InvalidChangeTokenException extends RuntimeException {
+    public InvalidChangeTokenException(String token) {
+        super("Invalid change token: " + token);
+    }
+}
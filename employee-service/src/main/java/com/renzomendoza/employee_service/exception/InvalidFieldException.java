@@ -0,0 +1,15 @@
+package com.renzomendoza.employee_service.exception;
+
+import com.renzomendoza.employee_service.repository.EmployeeField;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+import java.util.Arrays;
+
+@ResponseStatus(HttpStatus.BAD_REQUEST)
+public class InvalidFieldException extends RuntimeException {
+    public InvalidFieldException(String field) {
+        super("Unsupported field: " + field + ". Supported fields: " +
+                Arrays.stream(EmployeeField.values()).map(EmployeeField::getName).toList());
+    }
+}
@@ -0,0 +1,11 @@
+package com.renzomendoza.employee_service.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.BAD_REQUEST)
+public class InvalidPageSizeException extends RuntimeException {
+    public InvalidPageSizeException(int size) {
+        super("Page size must be at least 1, got " + size);
+    }
+}
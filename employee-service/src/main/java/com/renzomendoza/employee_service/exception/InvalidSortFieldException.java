@@ -0,0 +1,15 @@
+package com.renzomendoza.employee_service.exception;
+
+import com.renzomendoza.employee_service.repository.EmployeeSortField;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+import java.util.Arrays;
+
+@ResponseStatus(HttpStatus.BAD_REQUEST)
+public class InvalidSortFieldException extends RuntimeException {
+    public InvalidSortFieldException(String sortBy) {
+        super("Unsupported sort field: " + sortBy + ". Supported fields: " +
+                Arrays.stream(EmployeeSortField.values()).map(EmployeeSortField::getProperty).toList());
+    }
+}
@@ -0,0 +1,11 @@
+package com.renzomendoza.employee_service.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+public class StreamCapacityExceededException extends RuntimeException {
+    public StreamCapacityExceededException(int maxSubscribers) {
+        super("Employee stream is at its limit of " + maxSubscribers + " subscribers; retry later");
+    }
+}
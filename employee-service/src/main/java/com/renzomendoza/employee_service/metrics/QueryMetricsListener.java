@@ -0,0 +1,121 @@
+package com.renzomendoza.employee_service.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Times every JDBC execution and records it on {@code employee.jdbc.query},
+ * tagged with the calling repository method, the SQL shape and the outcome.
+ * Executions at or above the slow-query threshold are logged (sampled), with
+ * bind parameters redacted to their types unless configured otherwise.
+ */
+@Slf4j
+public class QueryMetricsListener implements QueryExecutionListener {
+
+    public static final String TIMER = "employee.jdbc.query";
+
+    // Hibernate reuses the same SQL strings, so shapes are computed once per distinct statement
+    private static final int MAX_CACHED_SHAPES = 2_000;
+
+    private final MeterRegistry meterRegistry;
+    private final QueryMetricsProperties properties;
+    private final long slowQueryNanos;
+    private final Map<String, String> shapes = new ConcurrentHashMap<>();
+
+    // The proxy's own elapsed time is in milliseconds; most statements here take less than one
+    private final ThreadLocal<long[]> startNanos = ThreadLocal.withInitial(() -> new long[1]);
+
+    public QueryMetricsListener(MeterRegistry meterRegistry, QueryMetricsProperties properties) {
+        this.meterRegistry = meterRegistry;
+        this.properties = properties;
+        this.slowQueryNanos = properties.getSlowQueryThreshold().toNanos();
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        startNanos.get()[0] = System.nanoTime();
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        long elapsedNanos = System.nanoTime() - startNanos.get()[0];
+        String method = RepositoryMethodContext.current();
+        String shape = shapeOf(queryInfoList);
+
+        Timer.builder(TIMER)
+                .description("JDBC statement executions by repository method and SQL shape")
+                .tag("method", method)
+                .tag("sql", shape)
+                .tag("outcome", execInfo.isSuccess() ? "success" : "error")
+                .register(meterRegistry)
+                .record(elapsedNanos, TimeUnit.NANOSECONDS);
+        RequestQueryStats.statementExecuted(elapsedNanos);
+
+        if (elapsedNanos >= slowQueryNanos && sampled()) {
+            log.warn("Slow query: {} ms in {}{}: {} params={}",
+                    TimeUnit.NANOSECONDS.toMillis(elapsedNanos), method,
+                    execInfo.isBatch() ? " (batch of " + execInfo.getBatchSize() + ")" : "",
+                    shape, describeParameters(queryInfoList));
+        }
+    }
+
+    private String shapeOf(List<QueryInfo> queryInfoList) {
+        String sql = queryInfoList.size() == 1
+                ? queryInfoList.get(0).getQuery()
+                : queryInfoList.stream().map(QueryInfo::getQuery).distinct().collect(Collectors.joining("; "));
+        String shape = shapes.get(sql);
+        if (shape == null) {
+            shape = SqlShapes.of(sql);
+            if (shapes.size() < MAX_CACHED_SHAPES) {
+                shapes.put(sql, shape);
+            }
+        }
+        return shape;
+    }
+
+    private boolean sampled() {
+        double rate = properties.getSlowQuerySampleRate();
+        return rate >= 1.0 || ThreadLocalRandom.current().nextDouble() < rate;
+    }
+
+    /**
+     * First parameter set of the first statement; batches only report how many more sets there were
+     */
+    String describeParameters(List<QueryInfo> queryInfoList) {
+        if (queryInfoList.isEmpty() || queryInfoList.get(0).getParametersList().isEmpty()) {
+            return "[]";
+        }
+        List<List<ParameterSetOperation>> sets = queryInfoList.get(0).getParametersList();
+        String first = sets.get(0).stream()
+                .filter(operation -> operation.getArgs() != null && operation.getArgs().length >= 2)
+                .map(operation -> operation.getArgs()[0] + "=" + describeValue(operation))
+                .collect(Collectors.joining(", ", "[", "]"));
+        return sets.size() > 1 ? first + " (+" + (sets.size() - 1) + " more)" : first;
+    }
+
+    private String describeValue(ParameterSetOperation operation) {
+        if (ParameterSetOperation.isSetNullParameterOperation(operation)) {
+            return "null";
+        }
+        Object value = operation.getArgs()[1];
+        if (value == null) {
+            return "null";
+        }
+        if (properties.isRedactParameters()) {
+            return "<" + value.getClass().getSimpleName() + ">";
+        }
+        return value instanceof CharSequence ? "'" + value + "'" : String.valueOf(value);
+    }
+}
@@ -0,0 +1,38 @@
+package com.renzomendoza.employee_service.metrics;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * JDBC query timing and the slow-query log, bound from {@code employee.jdbc.query-metrics}
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "employee.jdbc.query-metrics")
+public class QueryMetricsProperties {
+
+    private boolean enabled = true;
+
+    /**
+     * Statements taking at least this long are candidates for the slow-query log
+     */
+    private Duration slowQueryThreshold = Duration.ofMillis(200);
+
+    /**
+     * Fraction of slow statements actually logged, between 0 and 1
+     */
+    private double slowQuerySampleRate = 1.0;
+
+    /**
+     * Log bind parameters as their types only; turn off for local debugging
+     */
+    private boolean redactParameters = true;
+
+    /**
+     * Cap on distinct SQL shapes tagged on the query timer; further shapes are not recorded
+     */
+    private int maxSqlShapes = 200;
+}
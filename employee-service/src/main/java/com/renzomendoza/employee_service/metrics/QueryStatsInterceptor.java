@@ -0,0 +1,25 @@
+package com.renzomendoza.employee_service.metrics;
+
+import org.hibernate.Interceptor;
+import org.hibernate.type.Type;
+
+import java.util.Iterator;
+
+/**
+ * Session-factory-wide Hibernate interceptor counting entity loads and flushes
+ * into the current request's {@link RequestQueryStats}. Stateless, so one
+ * instance is shared by all sessions.
+ */
+public class QueryStatsInterceptor implements Interceptor {
+
+    @Override
+    public boolean onLoad(Object entity, Object id, Object[] state, String[] propertyNames, Type[] types) {
+        RequestQueryStats.entityLoaded();
+        return false;
+    }
+
+    @Override
+    public void preFlush(Iterator<Object> entities) {
+        RequestQueryStats.flushed();
+    }
+}
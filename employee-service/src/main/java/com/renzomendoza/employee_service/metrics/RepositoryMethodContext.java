@@ -0,0 +1,47 @@
+package com.renzomendoza.employee_service.metrics;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+
+/**
+ * Remembers which repository method the current thread is executing, so the
+ * JDBC listener can attribute each statement to it. Installed on every Spring
+ * Data repository proxy; statements issued outside a repository call, such as
+ * the flush at commit, are attributed to {@link #NONE}.
+ */
+public final class RepositoryMethodContext {
+
+    public static final String NONE = "none";
+
+    private static final ThreadLocal<String> CURRENT = new ThreadLocal<>();
+
+    private RepositoryMethodContext() {
+    }
+
+    public static String current() {
+        String method = CURRENT.get();
+        return method != null ? method : NONE;
+    }
+
+    /**
+     * Interceptor for one repository interface, labelling calls {@code Interface.method}
+     */
+    public static MethodInterceptor interceptorFor(Class<?> repositoryInterface) {
+        String prefix = repositoryInterface.getSimpleName() + ".";
+        return invocation -> call(prefix + invocation.getMethod().getName(), invocation);
+    }
+
+    private static Object call(String method, MethodInvocation invocation) throws Throwable {
+        String outer = CURRENT.get();
+        // Keep the outermost label when a repository method calls another (e.g. a fragment delegating)
+        if (outer != null) {
+            return invocation.proceed();
+        }
+        CURRENT.set(method);
+        try {
+            return invocation.proceed();
+        } finally {
+            CURRENT.remove();
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.renzomendoza.employee_service.metrics;
+
+/**
+ * Database work done while serving one HTTP request: JDBC statements and their
+ * total time, entities Hibernate hydrated, and flushes. Bound to the request
+ * thread by {@link RequestQueryStatsFilter}; work done on other threads (async
+ * exports, background jobs) is not counted.
+ */
+public final class RequestQueryStats {
+
+    private static final ThreadLocal<RequestQueryStats> CURRENT = new ThreadLocal<>();
+
+    private int statements;
+    private long statementNanos;
+    private int entitiesLoaded;
+    private int flushes;
+
+    static RequestQueryStats begin() {
+        RequestQueryStats stats = new RequestQueryStats();
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    static void end() {
+        CURRENT.remove();
+    }
+
+    static void statementExecuted(long elapsedNanos) {
+        RequestQueryStats stats = CURRENT.get();
+        if (stats != null) {
+            stats.statements++;
+            stats.statementNanos += elapsedNanos;
+        }
+    }
+
+    static void entityLoaded() {
+        RequestQueryStats stats = CURRENT.get();
+        if (stats != null) {
+            stats.entitiesLoaded++;
+        }
+    }
+
+    static void flushed() {
+        RequestQueryStats stats = CURRENT.get();
+        if (stats != null) {
+            stats.flushes++;
+        }
+    }
+
+    public int getStatements() {
+        return statements;
+    }
+
+    public long getStatementNanos() {
+        return statementNanos;
+    }
+
+    public int getEntitiesLoaded() {
+        return entitiesLoaded;
+    }
+
+    public int getFlushes() {
+        return flushes;
+    }
+}
@@ -0,0 +1,77 @@
+package com.renzomendoza.employee_service.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Collects {@link RequestQueryStats} for each HTTP request and records them per
+ * route: statements, JDBC time, entities loaded and flushes. The same numbers
+ * are logged at DEBUG for each request, which makes N+1 patterns easy to spot.
+ */
+@Slf4j
+public class RequestQueryStatsFilter extends OncePerRequestFilter {
+
+    private final MeterRegistry meterRegistry;
+
+    public RequestQueryStatsFilter(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        RequestQueryStats stats = RequestQueryStats.begin();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            RequestQueryStats.end();
+            record(request, stats);
+        }
+    }
+
+    private void record(HttpServletRequest request, RequestQueryStats stats) {
+        // The matched pattern keeps the uri tag bounded; unmatched requests (404s, static) share one value
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern != null ? pattern.toString() : "UNKNOWN";
+        String method = request.getMethod();
+
+        summary("employee.request.statements", "JDBC statements executed per HTTP request", method, uri)
+                .record(stats.getStatements());
+        summary("employee.request.entities.loaded", "Entities hydrated by Hibernate per HTTP request", method, uri)
+                .record(stats.getEntitiesLoaded());
+        summary("employee.request.flushes", "Hibernate flushes per HTTP request", method, uri)
+                .record(stats.getFlushes());
+        Timer.builder("employee.request.jdbc")
+                .description("Total JDBC execution time per HTTP request")
+                .tag("method", method)
+                .tag("uri", uri)
+                .register(meterRegistry)
+                .record(stats.getStatementNanos(), TimeUnit.NANOSECONDS);
+
+        if (log.isDebugEnabled()) {
+            log.debug("{} {}: {} statements in {} ms, {} entities loaded, {} flushes",
+                    method, request.getRequestURI(), stats.getStatements(),
+                    TimeUnit.NANOSECONDS.toMillis(stats.getStatementNanos()),
+                    stats.getEntitiesLoaded(), stats.getFlushes());
+        }
+    }
+
+    private DistributionSummary summary(String name, String description, String method, String uri) {
+        return DistributionSummary.builder(name)
+                .description(description)
+                .tag("method", method)
+                .tag("uri", uri)
+                .register(meterRegistry);
+    }
+}
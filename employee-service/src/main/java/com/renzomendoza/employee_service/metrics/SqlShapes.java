@@ -0,0 +1,28 @@
+package com.renzomendoza.employee_service.metrics;
+
+import java.util.regex.Pattern;
+
+/**
+ * Reduces a SQL statement to its shape: literals become {@code ?}, IN lists of
+ * any length become {@code in (?)} and whitespace is collapsed, so statements
+ * differing only in values share one timer.
+ */
+final class SqlShapes {
+
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("(?<![\\w.])-?\\d+(?:\\.\\d+)?(?![\\w.])");
+    private static final Pattern IN_LIST = Pattern.compile("(?i)\\bin\\s*\\(\\s*\\?(?:\\s*,\\s*\\?)*\\s*\\)");
+    private static final Pattern VALUES_ROWS = Pattern.compile("(?i)\\bvalues\\s*(\\([^()]*\\))(?:\\s*,\\s*\\([^()]*\\))+");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private SqlShapes() {
+    }
+
+    static String of(String sql) {
+        String shape = STRING_LITERAL.matcher(sql).replaceAll("?");
+        shape = NUMBER_LITERAL.matcher(shape).replaceAll("?");
+        shape = IN_LIST.matcher(shape).replaceAll("in (?)");
+        shape = VALUES_ROWS.matcher(shape).replaceAll("values $1");
+        return WHITESPACE.matcher(shape).replaceAll(" ").trim();
+    }
+}
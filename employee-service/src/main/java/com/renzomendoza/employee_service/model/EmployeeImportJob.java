@@ -0,0 +1,51 @@
+package com.renzomendoza.employee_service.model;
+
+import com.renzomendoza.employee_service.dto.bulk.EmployeeImportRowError;
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+// Schema is owned by the Flyway migrations in db/migration
+@Table(name = "employee_import_job")
+@Entity
+public class EmployeeImportJob {
+
+    public enum Status {
+        QUEUED,
+        RUNNING,
+        COMPLETED,
+        FAILED
+    }
+
+    @Id
+    private UUID id;
+
+    @Enumerated(EnumType.STRING)
+    private Status status;
+
+    private String fileName;
+
+    private int rowsRead;
+    private int rowsImported;
+    private int rowsFailed;
+
+    @JdbcTypeCode(SqlTypes.JSON)
+    private List<EmployeeImportRowError> errors;
+
+    // Why the whole job failed, when it did
+    private String message;
+
+    private String createdBy;
+    private LocalDateTime createdAt;
+    private LocalDateTime finishedAt;
+}
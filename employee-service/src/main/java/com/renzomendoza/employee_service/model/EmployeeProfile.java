@@ -2,6 +2,9 @@ package com.renzomendoza.employee_service.model;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.DynamicUpdate;
 import org.springframework.data.annotation.CreatedBy;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedBy;
@@ -17,11 +20,21 @@ import java.util.UUID;
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
+// Schema and indexes are owned by the Flyway migrations in db/migration
 @Table(name = "employee_profile")
 @Entity
 @EntityListeners(AuditingEntityListener.class)
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = EmployeeProfile.CACHE_REGION)
+// PATCH endpoints change one section at a time; update only the columns that changed
+@DynamicUpdate
 public class EmployeeProfile {
 
+    /**
+     * Hibernate second-level cache region holding employee entities
+     */
+    public static final String CACHE_REGION = "employee-profile";
+
     @Id
     // Set new ID using the service
     private UUID id;
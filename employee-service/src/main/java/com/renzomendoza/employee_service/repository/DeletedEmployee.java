@@ -0,0 +1,16 @@
+package com.renzomendoza.employee_service.repository;
+
+import java.util.UUID;
+
+/**
+ * Row returned by the delete statements, carrying what listeners need to know
+ * about an employee that no longer exists
+ */
+public interface DeletedEmployee {
+
+    UUID getId();
+
+    String getDepartment();
+
+    String getJobTitle();
+}
@@ -0,0 +1,24 @@
+package com.renzomendoza.employee_service.repository;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Position and kind of one change in the delta feed: a live employee or a tombstone
+ */
+public interface EmployeeChangeRow {
+
+    UUID getId();
+
+    /**
+     * Id of the transaction that made the change
+     */
+    long getChangeXid();
+
+    boolean isDeleted();
+
+    /**
+     * updatedAt of a live employee, or when a deleted one was removed
+     */
+    LocalDateTime getChangedAt();
+}
@@ -0,0 +1,16 @@
+package com.renzomendoza.employee_service.repository;
+
+/**
+ * One bucket of the facet seed query. Rows grouped by job title have
+ * {@code byJobTitle = 1}; rows grouped by department have 0.
+ */
+public interface EmployeeFacetCount {
+
+    int getByJobTitle();
+
+    String getDepartment();
+
+    String getJobTitle();
+
+    long getCount();
+}
@@ -0,0 +1,78 @@
+package com.renzomendoza.employee_service.repository;
+
+import com.renzomendoza.employee_service.exception.InvalidFieldException;
+
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Fields a client may pick with {@code ?fields=}. Names are the EmployeeResponse
+ * JSON properties; each maps to the entity attribute selected for it, so a sparse
+ * request only reads the columns it returns. Embedded values select all their columns.
+ */
+public enum EmployeeField {
+
+    ID("id", "id"),
+    FIRST_NAME("firstName", "firstName"),
+    MIDDLE_NAME("middleName", "middleName"),
+    LAST_NAME("lastName", "lastName"),
+    NAME_SUFFIX("nameSuffix", "nameSuffix"),
+    GENDER("gender", "gender"),
+    JOB_TITLE("jobTitle", "jobTitle"),
+    DEPARTMENT("department", "department"),
+    IMAGE_URL("imageUrl", "imageUrl"),
+    HIRED_DATE("hiredDate", "hiredDate"),
+    BIRTH_DATE("birthDate", "birthDate"),
+    ADDRESS("addressDto", "address"),
+    CONTACT_INFORMATION("contactInformationDto", "contactInformation"),
+    EMERGENCY_CONTACT("emergencyContactDto", "emergencyContact"),
+    CREATED_AT("createdAt", "createdAt"),
+    UPDATED_AT("updatedAt", "updatedAt"),
+    CREATED_BY("createdBy", "createdBy"),
+    MODIFIED_BY("modifiedBy", "modifiedBy");
+
+    private final String name;
+    private final String property;
+
+    EmployeeField(String name, String property) {
+        this.name = name;
+        this.property = property;
+    }
+
+    /**
+     * JSON property name, as accepted in {@code fields}
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Entity attribute selected for this field
+     */
+    public String getProperty() {
+        return property;
+    }
+
+    /**
+     * Parses a comma-separated {@code fields} value. The id is always included so
+     * every row stays addressable.
+     */
+    public static Set<EmployeeField> parse(String fields) {
+        Set<EmployeeField> parsed = EnumSet.of(ID);
+        for (String name : fields.split(",")) {
+            String trimmed = name.trim();
+            if (!trimmed.isEmpty()) {
+                parsed.add(fromName(trimmed));
+            }
+        }
+        return parsed;
+    }
+
+    public static EmployeeField fromName(String name) {
+        return Arrays.stream(values())
+                .filter(field -> field.name.equals(name))
+                .findFirst()
+                .orElseThrow(() -> new InvalidFieldException(name));
+    }
+}
@@ -0,0 +1,32 @@
+package com.renzomendoza.employee_service.repository;
+
+import com.renzomendoza.employee_service.model.EmployeeImportJob;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public interface EmployeeImportJobRepository extends JpaRepository<EmployeeImportJob, UUID> {
+
+    /**
+     * Records progress in its own transaction, so status polls see it while the file is still being read
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    @Modifying
+    @Query("update EmployeeImportJob j set j.status = :status, j.rowsRead = :rowsRead, j.rowsFailed = :rowsFailed " +
+            "where j.id = :id")
+    int updateProgress(@Param("id") UUID id,
+                       @Param("status") EmployeeImportJob.Status status,
+                       @Param("rowsRead") int rowsRead,
+                       @Param("rowsFailed") int rowsFailed);
+
+    @Transactional
+    @Modifying
+    @Query("delete from EmployeeImportJob j where j.finishedAt < :cutoff")
+    int deleteFinishedBefore(@Param("cutoff") LocalDateTime cutoff);
+}
@@ -1,16 +1,190 @@
 package com.renzomendoza.employee_service.repository;
 
+import com.renzomendoza.employee_service.dto.employee.EmployeeList;
+import com.renzomendoza.employee_service.model.Address;
+import com.renzomendoza.employee_service.model.ContactInformation;
+import com.renzomendoza.employee_service.model.EmergencyContact;
 import com.renzomendoza.employee_service.model.EmployeeProfile;
-import io.micrometer.observation.ObservationFilter;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
-public interface EmployeeRepository extends JpaRepository<EmployeeProfile, UUID> {
+public interface EmployeeRepository extends JpaRepository<EmployeeProfile, UUID>, EmployeeRepositoryCustom {
 
-    Page<EmployeeProfile> findByJobTitle(String jobTitle, Pageable pageable);
+    // Summary queries select only the EmployeeList columns, so list pages never hydrate entities
+    String EMPLOYEE_LIST_SELECT = "select new com.renzomendoza.employee_service.dto.employee.EmployeeList(" +
+            "e.id, e.firstName, e.middleName, e.lastName, e.jobTitle, e.department, e.imageUrl, e.updatedAt) " +
+            "from EmployeeProfile e ";
 
-    Page<EmployeeProfile> findByFirstNameContainingOrLastNameContaining(String name, String name1, Pageable pageable);
+    // ILIKE is served by the pg_trgm indexes on the three name columns
+    String NAME_MATCH = "where e.firstName ilike concat('%', :pattern, '%') escape '\\' " +
+            "or e.middleName ilike concat('%', :pattern, '%') escape '\\' " +
+            "or e.lastName ilike concat('%', :pattern, '%') escape '\\' ";
+
+    /**
+     * Hibernate query cache region for job-title listings
+     */
+    String JOB_TITLE_QUERY_REGION = "employee-by-job-title";
+
+    /**
+     * Version-only lookup backing conditional GETs
+     */
+    @Query("select e.updatedAt from EmployeeProfile e where e.id = :id")
+    Optional<LocalDateTime> findUpdatedAtById(@Param("id") UUID id);
+
+    @Query(EMPLOYEE_LIST_SELECT + "where e.id = :id")
+    Optional<EmployeeList> findSummaryById(@Param("id") UUID id);
+
+    /**
+     * Loads every employee whose id is in the array. The ids travel as one array parameter,
+     * so all chunk sizes share a single statement and plan, unlike an expanded IN list.
+     */
+    @Query(value = "select * from employee_profile where id = any(:ids)", nativeQuery = true)
+    List<EmployeeProfile> findAllByIdArray(@Param("ids") UUID[] ids);
+
+    @Query(value = EMPLOYEE_LIST_SELECT,
+            countQuery = "select count(e) from EmployeeProfile e")
+    Page<EmployeeList> findAllSummaries(Pageable pageable);
+
+    /**
+     * Served from the query cache; entries are dropped whenever employee_profile is written
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = JOB_TITLE_QUERY_REGION)
+    })
+    @Query(value = EMPLOYEE_LIST_SELECT + "where e.jobTitle = :jobTitle",
+            countQuery = "select count(e) from EmployeeProfile e where e.jobTitle = :jobTitle")
+    Page<EmployeeList> findSummariesByJobTitle(@Param("jobTitle") String jobTitle, Pageable pageable);
+
+    /**
+     * Database side of the name search, for queries the in-memory index cannot answer; matches
+     * and ranks like EmployeeSearchIndex: case-insensitive contains on first, middle or last
+     * name, exact matches first, then prefix matches, then by last name, first name and id.
+     * {@code needle} is the lower-cased query, {@code pattern} the same with LIKE wildcards escaped.
+     */
+    @Query(value = EMPLOYEE_LIST_SELECT + NAME_MATCH +
+            "order by case " +
+            "when lower(e.firstName) = :needle or lower(e.middleName) = :needle or lower(e.lastName) = :needle then 0 " +
+            "when e.firstName ilike concat(:pattern, '%') escape '\\' " +
+            "or e.middleName ilike concat(:pattern, '%') escape '\\' " +
+            "or e.lastName ilike concat(:pattern, '%') escape '\\' then 1 " +
+            "else 2 end, lower(e.lastName) nulls last, lower(e.firstName) nulls last, e.id",
+            countQuery = "select count(e) from EmployeeProfile e " + NAME_MATCH)
+    Page<EmployeeList> searchSummariesByName(@Param("needle") String needle,
+                                             @Param("pattern") String pattern,
+                                             Pageable pageable);
+
+    // Read-free PATCH updates of one embedded section, for employees not in the second-level cache.
+    // Like the deletes below they run as queries with RETURNING: a @Modifying update would make
+    // Hibernate empty the whole entity region. Auditing is bypassed, so the audit columns are passed in.
+    // An empty result means the employee did not exist.
+
+    @Query(value = "update employee_profile set street = :#{#address.street}, city = :#{#address.city}, " +
+            "state = :#{#address.state}, zip_code = :#{#address.zipCode}, " +
+            "updated_at = :updatedAt, modified_by = :modifiedBy where id = :id returning id", nativeQuery = true)
+    Optional<UUID> updateAddressRow(@Param("id") UUID id,
+                                    @Param("address") Address address,
+                                    @Param("updatedAt") LocalDateTime updatedAt,
+                                    @Param("modifiedBy") String modifiedBy);
+
+    @Query(value = "update employee_profile set phone_number = :#{#contact.phoneNumber}, " +
+            "email = :#{#contact.email}, " +
+            "updated_at = :updatedAt, modified_by = :modifiedBy where id = :id returning id", nativeQuery = true)
+    Optional<UUID> updateContactInformationRow(@Param("id") UUID id,
+                                               @Param("contact") ContactInformation contactInformation,
+                                               @Param("updatedAt") LocalDateTime updatedAt,
+                                               @Param("modifiedBy") String modifiedBy);
+
+    @Query(value = "update employee_profile set emergency_contact_first_name = :#{#emergency.firstName}, " +
+            "emergency_contact_last_name = :#{#emergency.lastName}, " +
+            "emergency_contact_relationship = :#{#emergency.relationship}, " +
+            "emergency_contact_phone_number = :#{#emergency.phoneNumber}, " +
+            "updated_at = :updatedAt, modified_by = :modifiedBy where id = :id returning id", nativeQuery = true)
+    Optional<UUID> updateEmergencyContactRow(@Param("id") UUID id,
+                                             @Param("emergency") EmergencyContact emergencyContact,
+                                             @Param("updatedAt") LocalDateTime updatedAt,
+                                             @Param("modifiedBy") String modifiedBy);
+
+    /**
+     * Deletes by primary key in one statement; an empty result means the employee did not exist
+     */
+    @Query(value = "delete from employee_profile where id = :id " +
+            "returning id, department, job_title as \"jobTitle\"", nativeQuery = true)
+    Optional<DeletedEmployee> deleteRowById(@Param("id") UUID id);
+
+    /**
+     * Deletes many employees in one statement and returns the ones that actually existed.
+     * Like {@link #findAllByIdArray}, the ids are bound as one array parameter.
+     */
+    @Query(value = "delete from employee_profile where id = any(:ids) " +
+            "returning id, department, job_title as \"jobTitle\"", nativeQuery = true)
+    List<DeletedEmployee> deleteRowsByIdArray(@Param("ids") UUID[] ids);
+
+    /**
+     * Employees and tombstones changed after the (changeXid, id) position, oldest first. Only
+     * transactions older than the snapshot's xmin are included: they have all finished, so
+     * nothing can later commit behind the returned positions.
+     */
+    @Query(value = "select id, cast(cast(change_xid as text) as bigint) as \"changeXid\", false as \"deleted\", " +
+            "updated_at as \"changedAt\" from employee_profile " +
+            "where change_xid < pg_snapshot_xmin(pg_current_snapshot()) " +
+            "and (change_xid, id) > (cast(cast(:changeXid as text) as xid8), :id) " +
+            "union all " +
+            "select id, cast(cast(change_xid as text) as bigint), true, deleted_at from employee_tombstone " +
+            "where change_xid < pg_snapshot_xmin(pg_current_snapshot()) " +
+            "and (change_xid, id) > (cast(cast(:changeXid as text) as xid8), :id) " +
+            "order by 2, 1 limit :limit", nativeQuery = true)
+    List<EmployeeChangeRow> findChangesAfter(@Param("changeXid") long changeXid,
+                                             @Param("id") UUID id,
+                                             @Param("limit") int limit);
+
+    /**
+     * Employees last written by the given transaction, such as every row of one CSV import
+     */
+    @Query(value = "select id from employee_profile where change_xid = cast(cast(:changeXid as text) as xid8)",
+            nativeQuery = true)
+    List<UUID> findIdsByChangeXid(@Param("changeXid") long changeXid);
+
+    /**
+     * Drops tombstones older than the cutoff; clients that synced before it must resync in full
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "delete from employee_tombstone where deleted_at < :cutoff", nativeQuery = true)
+    int deleteTombstonesBefore(@Param("cutoff") LocalDateTime cutoff);
+
+    /**
+     * Headcount per department and per job title in a single pass over the table
+     */
+    @Query(value = "select grouping(department) as \"byJobTitle\", department, job_title as \"jobTitle\", " +
+            "count(*) as \"count\" from employee_profile " +
+            "group by grouping sets ((department), (job_title))", nativeQuery = true)
+    List<EmployeeFacetCount> countFacets();
+
+    /**
+     * Forward-only scan of the whole directory for exports. Must be consumed inside a
+     * transaction so the driver streams rows with a server-side cursor. The rows bypass the
+     * second-level cache, which would otherwise trade its working set for the whole table.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_MODE, value = "IGNORE")
+    })
+    @Query("select e from EmployeeProfile e order by e.id")
+    Stream<EmployeeProfile> streamAll();
 }
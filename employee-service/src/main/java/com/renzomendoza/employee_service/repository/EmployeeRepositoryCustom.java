@@ -0,0 +1,50 @@
+package com.renzomendoza.employee_service.repository;
+
+import com.renzomendoza.employee_service.dto.employee.EmployeeList;
+import com.renzomendoza.employee_service.model.EmployeeProfile;
+import com.renzomendoza.employee_service.utils.EmployeeCursor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+public interface EmployeeRepositoryCustom {
+
+    /**
+     * Keyset slice ordered by (sortField, id) in the given direction, starting after
+     * the cursor position (or from the beginning when the cursor is null). Rows with a
+     * null sort key come last ascending and first descending, as Postgres orders them;
+     * each block is read as its own range of the (sortField, id) index.
+     */
+    List<EmployeeList> findKeysetPage(EmployeeSortField sortField, Sort.Direction direction,
+                                      EmployeeCursor after, int limit);
+
+    /**
+     * Page of EmployeeList projections matching the specification. Only the summary
+     * columns are selected, and the count query is skipped when the page shows it is unnecessary.
+     */
+    Page<EmployeeList> findSummaries(Specification<EmployeeProfile> specification, Pageable pageable);
+
+    /**
+     * Only the given fields of one employee, read with a tuple query over just their columns
+     */
+    Optional<Map<EmployeeField, Object>> findFieldsById(UUID id, Set<EmployeeField> fields);
+
+    /**
+     * Page of rows holding only the given fields of the employees matching the specification
+     */
+    Page<Map<EmployeeField, Object>> findFields(Specification<EmployeeProfile> specification,
+                                                Set<EmployeeField> fields, Pageable pageable);
+
+    /**
+     * Sparse counterpart of {@link EmployeeRepository#searchSummariesByName}: the same matches in
+     * the same order, exact matches first, then prefix matches, then by last name, first name and id
+     */
+    Page<Map<EmployeeField, Object>> findFieldsByName(String name, Set<EmployeeField> fields, Pageable pageable);
+}
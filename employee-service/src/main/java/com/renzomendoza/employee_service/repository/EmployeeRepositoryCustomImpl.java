@@ -0,0 +1,211 @@
+package com.renzomendoza.employee_service.repository;
+
+import com.renzomendoza.employee_service.dto.employee.EmployeeList;
+import com.renzomendoza.employee_service.model.EmployeeProfile;
+import com.renzomendoza.employee_service.utils.EmployeeCursor;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Order;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import org.hibernate.query.criteria.HibernateCriteriaBuilder;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.BiFunction;
+
+public class EmployeeRepositoryCustomImpl implements EmployeeRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<EmployeeList> findKeysetPage(EmployeeSortField sortField, Sort.Direction direction,
+                                             EmployeeCursor after, int limit) {
+        // Rows with a key and the null block are read as two separate ranges of the (column, id)
+        // index; an OR across them would make Postgres scan and filter from the start instead.
+        // Nulls come last ascending and first descending, as Postgres orders them.
+        boolean nullsFirst = !direction.isAscending();
+        boolean startInNullBlock = after == null ? nullsFirst : after.sortKey() == null;
+        List<EmployeeList> rows = new ArrayList<>(
+                findKeysetRange(sortField, direction, startInNullBlock, after, limit));
+        // A short page continues into the other block from its start, when that block comes next
+        if (rows.size() < limit && startInNullBlock == nullsFirst) {
+            rows.addAll(findKeysetRange(sortField, direction, !startInNullBlock, null, limit - rows.size()));
+        }
+        return rows;
+    }
+
+    private List<EmployeeList> findKeysetRange(EmployeeSortField sortField, Sort.Direction direction,
+                                               boolean nullBlock, EmployeeCursor after, int limit) {
+        // The property path comes from the whitelist enum, never from request input
+        String path = "e." + sortField.getProperty();
+        String order = direction.isAscending() ? "asc" : "desc";
+        String comparison = direction.isAscending() ? ">" : "<";
+
+        StringBuilder jpql = new StringBuilder(EmployeeRepository.EMPLOYEE_LIST_SELECT);
+        if (nullBlock) {
+            jpql.append("where ").append(path).append(" is null ");
+            if (after != null) {
+                jpql.append("and e.id ").append(comparison).append(" :id ");
+            }
+            jpql.append("order by e.id ").append(order);
+        } else {
+            if (after != null) {
+                jpql.append("where (").append(path).append(", e.id) ").append(comparison).append(" (:sortKey, :id) ");
+            } else {
+                jpql.append("where ").append(path).append(" is not null ");
+            }
+            jpql.append("order by ").append(path).append(' ').append(order).append(", e.id ").append(order);
+        }
+
+        TypedQuery<EmployeeList> query = entityManager.createQuery(jpql.toString(), EmployeeList.class);
+        if (after != null) {
+            if (!nullBlock) {
+                query.setParameter("sortKey", sortField.parseKey(after.sortKey()));
+            }
+            query.setParameter("id", after.id());
+        }
+        return query.setMaxResults(limit).getResultList();
+    }
+
+    @Override
+    public Page<EmployeeList> findSummaries(Specification<EmployeeProfile> specification, Pageable pageable) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+
+        CriteriaQuery<EmployeeList> select = cb.createQuery(EmployeeList.class);
+        Root<EmployeeProfile> root = select.from(EmployeeProfile.class);
+        select.select(cb.construct(EmployeeList.class,
+                root.get("id"), root.get("firstName"), root.get("middleName"), root.get("lastName"),
+                root.get("jobTitle"), root.get("department"), root.get("imageUrl"), root.get("updatedAt")));
+        Predicate predicate = specification.toPredicate(root, select, cb);
+        if (predicate != null) {
+            select.where(predicate);
+        }
+        select.orderBy(QueryUtils.toOrders(pageable.getSort(), root, cb));
+
+        TypedQuery<EmployeeList> query = entityManager.createQuery(select);
+        if (pageable.isPaged()) {
+            query.setFirstResult((int) pageable.getOffset());
+            query.setMaxResults(pageable.getPageSize());
+        }
+        List<EmployeeList> content = query.getResultList();
+
+        return PageableExecutionUtils.getPage(content, pageable, () -> count(specification));
+    }
+
+    @Override
+    public Optional<Map<EmployeeField, Object>> findFieldsById(UUID id, Set<EmployeeField> fields) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> select = cb.createTupleQuery();
+        Root<EmployeeProfile> root = select.from(EmployeeProfile.class);
+        selectFields(select, root, fields);
+        select.where(cb.equal(root.get("id"), id));
+
+        return entityManager.createQuery(select).getResultStream()
+                .findFirst()
+                .map(tuple -> toRow(tuple, fields));
+    }
+
+    @Override
+    public Page<Map<EmployeeField, Object>> findFields(Specification<EmployeeProfile> specification,
+                                                       Set<EmployeeField> fields, Pageable pageable) {
+        return findFields(specification, fields, pageable,
+                (root, cb) -> QueryUtils.toOrders(pageable.getSort(), root, cb));
+    }
+
+    @Override
+    public Page<Map<EmployeeField, Object>> findFieldsByName(String name, Set<EmployeeField> fields, Pageable pageable) {
+        String needle = name.trim().toLowerCase(Locale.ROOT);
+        String prefix = EmployeeSpecifications.escapeLike(needle) + "%";
+        return findFields(EmployeeSpecifications.nameContains(name), fields, pageable, (root, cb) -> {
+            HibernateCriteriaBuilder hcb = (HibernateCriteriaBuilder) cb;
+            List<Expression<String>> names = List.of(
+                    root.get("firstName"), root.get("middleName"), root.get("lastName"));
+            Expression<Integer> rank = cb.<Integer>selectCase()
+                    .when(cb.or(names.stream()
+                            .map(part -> cb.equal(cb.lower(part), needle))
+                            .toArray(Predicate[]::new)), 0)
+                    .when(cb.or(names.stream()
+                            .map(part -> hcb.ilike(part, prefix, '\\'))
+                            .toArray(Predicate[]::new)), 1)
+                    .otherwise(2);
+            return List.of(cb.asc(rank),
+                    hcb.asc(cb.lower(root.get("lastName")), false),
+                    hcb.asc(cb.lower(root.get("firstName")), false),
+                    cb.asc(root.get("id")));
+        });
+    }
+
+    private Page<Map<EmployeeField, Object>> findFields(Specification<EmployeeProfile> specification,
+                                                        Set<EmployeeField> fields, Pageable pageable,
+                                                        BiFunction<Root<EmployeeProfile>, CriteriaBuilder, List<Order>> orders) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+
+        CriteriaQuery<Tuple> select = cb.createTupleQuery();
+        Root<EmployeeProfile> root = select.from(EmployeeProfile.class);
+        selectFields(select, root, fields);
+        Predicate predicate = specification.toPredicate(root, select, cb);
+        if (predicate != null) {
+            select.where(predicate);
+        }
+        select.orderBy(orders.apply(root, cb));
+
+        TypedQuery<Tuple> query = entityManager.createQuery(select);
+        if (pageable.isPaged()) {
+            query.setFirstResult((int) pageable.getOffset());
+            query.setMaxResults(pageable.getPageSize());
+        }
+        List<Map<EmployeeField, Object>> content = new ArrayList<>();
+        for (Tuple tuple : query.getResultList()) {
+            content.add(toRow(tuple, fields));
+        }
+
+        return PageableExecutionUtils.getPage(content, pageable, () -> count(specification));
+    }
+
+    // Attribute paths come from the EmployeeField whitelist, never from request input
+    private static void selectFields(CriteriaQuery<Tuple> select, Root<EmployeeProfile> root, Set<EmployeeField> fields) {
+        select.multiselect(fields.stream()
+                .<Selection<?>>map(field -> root.get(field.getProperty()).alias(field.name()))
+                .toList());
+    }
+
+    private static Map<EmployeeField, Object> toRow(Tuple tuple, Set<EmployeeField> fields) {
+        Map<EmployeeField, Object> row = new EnumMap<>(EmployeeField.class);
+        for (EmployeeField field : fields) {
+            row.put(field, tuple.get(field.name()));
+        }
+        return row;
+    }
+
+    private long count(Specification<EmployeeProfile> specification) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> count = cb.createQuery(Long.class);
+        Root<EmployeeProfile> root = count.from(EmployeeProfile.class);
+        count.select(cb.count(root));
+        Predicate predicate = specification.toPredicate(root, count, cb);
+        if (predicate != null) {
+            count.where(predicate);
+        }
+        return entityManager.createQuery(count).getSingleResult();
+    }
+}
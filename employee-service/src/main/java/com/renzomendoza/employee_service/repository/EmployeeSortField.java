@@ -0,0 +1,63 @@
+package com.renzomendoza.employee_service.repository;
+
+import com.renzomendoza.employee_service.dto.employee.EmployeeList;
+import com.renzomendoza.employee_service.exception.InvalidSortFieldException;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.function.Function;
+
+/**
+ * Fields the employee listings may be sorted by. Each one is backed by a
+ * {@code (column, id)} index (see db/migration), so ordering and keyset seeks
+ * walk the index instead of sorting the table.
+ */
+public enum EmployeeSortField {
+
+    FIRST_NAME("firstName", EmployeeList::getFirstName, Function.identity()),
+    LAST_NAME("lastName", EmployeeList::getLastName, Function.identity()),
+    JOB_TITLE("jobTitle", EmployeeList::getJobTitle, Function.identity()),
+    DEPARTMENT("department", EmployeeList::getDepartment, Function.identity()),
+    UPDATED_AT("updatedAt", EmployeeList::getUpdatedAt, LocalDateTime::parse);
+
+    private final String property;
+    private final Function<EmployeeList, Object> extractor;
+    private final Function<String, Object> parser;
+
+    EmployeeSortField(String property,
+                      Function<EmployeeList, Object> extractor,
+                      Function<String, Object> parser) {
+        this.property = property;
+        this.extractor = extractor;
+        this.parser = parser;
+    }
+
+    /**
+     * Entity property name, as used in JPQL and Sort
+     */
+    public String getProperty() {
+        return property;
+    }
+
+    /**
+     * Sort key of a row, in the form stored inside a cursor
+     */
+    public String keyOf(EmployeeList employee) {
+        Object value = extractor.apply(employee);
+        return value == null ? null : value.toString();
+    }
+
+    /**
+     * Converts a cursor sort key back to the property's type for query binding
+     */
+    public Object parseKey(String key) {
+        return parser.apply(key);
+    }
+
+    public static EmployeeSortField fromProperty(String property) {
+        return Arrays.stream(values())
+                .filter(field -> field.property.equals(property))
+                .findFirst()
+                .orElseThrow(() -> new InvalidSortFieldException(property));
+    }
+}
@@ -0,0 +1,94 @@
+package com.renzomendoza.employee_service.repository;
+
+import com.renzomendoza.employee_service.dto.EmployeeFilter;
+import com.renzomendoza.employee_service.model.EmployeeProfile;
+import org.hibernate.query.criteria.HibernateCriteriaBuilder;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Building blocks for {@link EmployeeFilter}. Each criterion maps to a column
+ * with an index (see db/migration), and absent criteria add no predicate at all.
+ */
+public final class EmployeeSpecifications {
+
+    private EmployeeSpecifications() {
+    }
+
+    public static Specification<EmployeeProfile> matching(EmployeeFilter filter) {
+        List<Specification<EmployeeProfile>> criteria = new ArrayList<>();
+        if (hasText(filter.getDepartment())) {
+            criteria.add(hasDepartment(filter.getDepartment()));
+        }
+        if (hasText(filter.getJobTitle())) {
+            criteria.add(hasJobTitle(filter.getJobTitle()));
+        }
+        if (hasText(filter.getName())) {
+            criteria.add(nameContains(filter.getName()));
+        }
+        if (filter.getHiredFrom() != null) {
+            criteria.add(hiredOnOrAfter(filter.getHiredFrom()));
+        }
+        if (filter.getHiredTo() != null) {
+            criteria.add(hiredOnOrBefore(filter.getHiredTo()));
+        }
+        if (hasText(filter.getCity())) {
+            criteria.add(inCity(filter.getCity()));
+        }
+        if (hasText(filter.getState())) {
+            criteria.add(inState(filter.getState()));
+        }
+        return Specification.allOf(criteria);
+    }
+
+    public static Specification<EmployeeProfile> hasDepartment(String department) {
+        return (root, query, cb) -> cb.equal(root.get("department"), department.trim());
+    }
+
+    public static Specification<EmployeeProfile> hasJobTitle(String jobTitle) {
+        return (root, query, cb) -> cb.equal(root.get("jobTitle"), jobTitle.trim());
+    }
+
+    public static Specification<EmployeeProfile> nameContains(String name) {
+        return (root, query, cb) -> {
+            // Same contains semantics as /search: case-insensitive on first, middle or last name,
+            // wildcards in the input matched literally; served by the pg_trgm indexes
+            HibernateCriteriaBuilder hcb = (HibernateCriteriaBuilder) cb;
+            String pattern = "%" + escapeLike(name.trim()) + "%";
+            return cb.or(
+                    hcb.ilike(root.get("firstName"), pattern, '\\'),
+                    hcb.ilike(root.get("middleName"), pattern, '\\'),
+                    hcb.ilike(root.get("lastName"), pattern, '\\'));
+        };
+    }
+
+    public static Specification<EmployeeProfile> hiredOnOrAfter(LocalDate from) {
+        return (root, query, cb) -> cb.greaterThanOrEqualTo(root.get("hiredDate"), from);
+    }
+
+    public static Specification<EmployeeProfile> hiredOnOrBefore(LocalDate to) {
+        return (root, query, cb) -> cb.lessThanOrEqualTo(root.get("hiredDate"), to);
+    }
+
+    public static Specification<EmployeeProfile> inCity(String city) {
+        return (root, query, cb) -> cb.equal(root.get("address").get("city"), city.trim());
+    }
+
+    public static Specification<EmployeeProfile> inState(String state) {
+        return (root, query, cb) -> cb.equal(root.get("address").get("state"), state.trim());
+    }
+
+    /**
+     * Escapes LIKE wildcards with a backslash, so user input matches literally
+     */
+    public static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+
+    private static boolean hasText(String value) {
+        return value != null && !value.isBlank();
+    }
+}
@@ -0,0 +1,146 @@
+package com.renzomendoza.employee_service.service;
+
+import com.renzomendoza.employee_service.dto.bulk.EmployeeBulkItemResult;
+import com.renzomendoza.employee_service.dto.bulk.EmployeeBulkResult;
+import com.renzomendoza.employee_service.dto.employee.EmployeeCreateDto;
+import com.renzomendoza.employee_service.event.EmployeeChangedEvent;
+import com.renzomendoza.employee_service.exception.BulkRequestTooLargeException;
+import com.renzomendoza.employee_service.mapper.EmployeeMapper;
+import com.renzomendoza.employee_service.model.EmployeeProfile;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.*;
+
+/**
+ * Creates employees in chunked transactions.
+ * <p>
+ * Entities are persisted directly through the EntityManager rather than
+ * {@code repository.save()}: with application-assigned ids, save() would merge
+ * and issue a SELECT per row, which defeats Hibernate's JDBC insert batching.
+ * If a chunk fails to commit, its items are retried one per transaction so the
+ * failure is attributed to the offending item only.
+ */
+@Slf4j
+@Service
+public class EmployeeBulkService {
+
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final EmployeeMapper employeeMapper;
+    private final Validator validator;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int chunkSize;
+    private final int maxItems;
+
+    public EmployeeBulkService(EntityManager entityManager,
+                               TransactionTemplate transactionTemplate,
+                               EmployeeMapper employeeMapper,
+                               Validator validator,
+                               ApplicationEventPublisher eventPublisher,
+                               @Value("${employee.bulk.chunk-size:500}") int chunkSize,
+                               @Value("${employee.bulk.max-items:10000}") int maxItems) {
+        this.entityManager = entityManager;
+        this.transactionTemplate = transactionTemplate;
+        this.employeeMapper = employeeMapper;
+        this.validator = validator;
+        this.eventPublisher = eventPublisher;
+        this.chunkSize = chunkSize;
+        this.maxItems = maxItems;
+    }
+
+    public EmployeeBulkResult createEmployees(List<EmployeeCreateDto> employees) {
+        if (employees.size() > maxItems) {
+            throw new BulkRequestTooLargeException(employees.size(), maxItems);
+        }
+
+        EmployeeBulkItemResult[] results = new EmployeeBulkItemResult[employees.size()];
+        List<PendingItem> pending = new ArrayList<>(employees.size());
+        for (int i = 0; i < employees.size(); i++) {
+            EmployeeCreateDto dto = employees.get(i);
+            List<String> errors = validate(dto);
+            if (errors.isEmpty()) {
+                pending.add(new PendingItem(i, dto));
+            } else {
+                results[i] = EmployeeBulkItemResult.failed(i, dto == null ? null : dto.getId(), errors);
+            }
+        }
+
+        for (int from = 0; from < pending.size(); from += chunkSize) {
+            List<PendingItem> chunk = pending.subList(from, Math.min(from + chunkSize, pending.size()));
+            try {
+                transactionTemplate.executeWithoutResult(status -> persist(chunk));
+                chunk.forEach(item -> results[item.index()] = EmployeeBulkItemResult.created(item.index(), item.dto().getId()));
+            } catch (RuntimeException chunkFailure) {
+                log.warn("Bulk chunk of {} employees failed, retrying items individually: {}",
+                        chunk.size(), chunkFailure.getMessage());
+                for (PendingItem item : chunk) {
+                    results[item.index()] = persistSingle(item);
+                }
+            }
+        }
+
+        List<EmployeeBulkItemResult> items = Arrays.asList(results);
+        int created = (int) items.stream()
+                .filter(item -> item.getStatus() == EmployeeBulkItemResult.Status.CREATED)
+                .count();
+        return EmployeeBulkResult.builder()
+                .requested(employees.size())
+                .created(created)
+                .failed(employees.size() - created)
+                .items(items)
+                .build();
+    }
+
+    private EmployeeBulkItemResult persistSingle(PendingItem item) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> persist(List.of(item)));
+            return EmployeeBulkItemResult.created(item.index(), item.dto().getId());
+        } catch (RuntimeException e) {
+            return EmployeeBulkItemResult.failed(item.index(), item.dto().getId(), List.of(rootMessage(e)));
+        }
+    }
+
+    private void persist(List<PendingItem> chunk) {
+        for (PendingItem item : chunk) {
+            EmployeeCreateDto dto = item.dto();
+            if (dto.getId() == null) {
+                dto.setId(UUID.randomUUID());
+            }
+            EmployeeProfile employee = employeeMapper.employeeCreateToEmployee(dto);
+            entityManager.persist(employee);
+            eventPublisher.publishEvent(EmployeeChangedEvent.created(employee.getId(), employeeMapper.employeeToEmployeeList(employee)));
+        }
+        // Flush while the inserts are still batched, then drop the chunk from the persistence context
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    private List<String> validate(EmployeeCreateDto dto) {
+        if (dto == null) {
+            return List.of("Item must not be null");
+        }
+        Set<ConstraintViolation<EmployeeCreateDto>> violations = validator.validate(dto);
+        return violations.stream()
+                .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                .sorted()
+                .toList();
+    }
+
+    private static String rootMessage(Throwable e) {
+        Throwable root = e;
+        while (root.getCause() != null && root.getCause() != root) {
+            root = root.getCause();
+        }
+        return root.getMessage() != null ? root.getMessage() : root.getClass().getSimpleName();
+    }
+
+    private record PendingItem(int index, EmployeeCreateDto dto) {
+    }
+}
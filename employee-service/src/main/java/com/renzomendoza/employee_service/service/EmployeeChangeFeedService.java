@@ -0,0 +1,95 @@
+package com.renzomendoza.employee_service.service;
+
+import com.renzomendoza.employee_service.dto.sync.EmployeeChange;
+import com.renzomendoza.employee_service.dto.sync.EmployeeChanges;
+import com.renzomendoza.employee_service.exception.ChangeTokenExpiredException;
+import com.renzomendoza.employee_service.mapper.EmployeeMapper;
+import com.renzomendoza.employee_service.model.EmployeeProfile;
+import com.renzomendoza.employee_service.repository.EmployeeChangeRow;
+import com.renzomendoza.employee_service.repository.EmployeeRepository;
+import com.renzomendoza.employee_service.utils.ChangeToken;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Delta sync for downstream caches: everything created, updated or deleted since a
+ * change token, so a client's cost follows churn rather than directory size.
+ */
+@Service
+@RequiredArgsConstructor
+public class EmployeeChangeFeedService {
+
+    private final EmployeeRepository employeeRepository;
+    private final EmployeeMapper employeeMapper;
+
+    @Value("${employee.changes.max-page-size:1000}")
+    private int maxPageSize = 1_000;
+
+    @Value("${employee.changes.tombstone-retention:30d}")
+    private Duration tombstoneRetention = Duration.ofDays(30);
+
+    /**
+     * Next page of changes after {@code since}, or from the beginning when it is blank.
+     * Each employee appears with its current state, so a change seen twice is harmless.
+     */
+    @Transactional(readOnly = true)
+    public EmployeeChanges getChangesSince(String since, int limit) {
+        Instant now = Instant.now();
+        ChangeToken token = since == null || since.isBlank() ? ChangeToken.initial(now) : ChangeToken.decode(since);
+        if (token.issuedAt().isBefore(now.minus(tombstoneRetention))) {
+            throw new ChangeTokenExpiredException(tombstoneRetention);
+        }
+
+        int pageSize = Math.clamp(limit, 1, maxPageSize);
+        List<EmployeeChangeRow> rows = employeeRepository.findChangesAfter(token.changeXid(), token.id(), pageSize);
+
+        Map<UUID, EmployeeProfile> live = new HashMap<>();
+        UUID[] liveIds = rows.stream().filter(row -> !row.isDeleted()).map(EmployeeChangeRow::getId).toArray(UUID[]::new);
+        if (liveIds.length > 0) {
+            for (EmployeeProfile employee : employeeRepository.findAllByIdArray(liveIds)) {
+                live.put(employee.getId(), employee);
+            }
+        }
+
+        List<EmployeeChange> changes = new ArrayList<>(rows.size());
+        for (EmployeeChangeRow row : rows) {
+            if (row.isDeleted()) {
+                changes.add(EmployeeChange.deleted(row.getId(), row.getChangedAt()));
+                continue;
+            }
+            EmployeeProfile employee = live.get(row.getId());
+            // Absent when deleted after the positions were read; its tombstone comes in a later page
+            if (employee != null) {
+                changes.add(EmployeeChange.upserted(employeeMapper.employeeToEmployeeResponse(employee)));
+            }
+        }
+
+        boolean hasMore = rows.size() == pageSize;
+        return EmployeeChanges.builder()
+                .changes(changes)
+                .nextToken(nextToken(token, rows, hasMore, now).encode())
+                .hasMore(hasMore)
+                .build();
+    }
+
+    // A client still paging keeps its original issue time: the tombstones it has yet to read
+    // are as old as that, and must not count as retained until it has caught up.
+    private static ChangeToken nextToken(ChangeToken token, List<EmployeeChangeRow> rows, boolean hasMore, Instant now) {
+        Instant issuedAt = hasMore ? token.issuedAt() : now;
+        if (rows.isEmpty()) {
+            return new ChangeToken(token.changeXid(), token.id(), issuedAt);
+        }
+        EmployeeChangeRow last = rows.get(rows.size() - 1);
+        return new ChangeToken(last.getChangeXid(), last.getId(), issuedAt);
+    }
+}
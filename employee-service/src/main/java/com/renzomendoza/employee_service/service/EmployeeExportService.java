@@ -0,0 +1,157 @@
+package com.renzomendoza.employee_service.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.renzomendoza.employee_service.dto.AddressDto;
+import com.renzomendoza.employee_service.dto.ContactInformationDto;
+import com.renzomendoza.employee_service.dto.EmergencyContactDto;
+import com.renzomendoza.employee_service.dto.ExportFormat;
+import com.renzomendoza.employee_service.dto.employee.EmployeeResponse;
+import com.renzomendoza.employee_service.mapper.EmployeeMapper;
+import com.renzomendoza.employee_service.model.EmployeeProfile;
+import com.renzomendoza.employee_service.repository.EmployeeRepository;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * Streams the whole employee directory to an output stream. Rows are read
+ * through a forward-only cursor and detached as soon as they are written, so
+ * memory stays flat regardless of table size.
+ */
+@Service
+@RequiredArgsConstructor
+public class EmployeeExportService {
+
+    private static final int FLUSH_EVERY = 500;
+
+    // First characters that make spreadsheets treat a cell as a formula
+    static final String FORMULA_PREFIXES = "=+-@\t\r";
+
+    private static final String[] CSV_HEADER = {
+            "id", "firstName", "middleName", "lastName", "nameSuffix", "gender", "jobTitle", "department",
+            "imageUrl", "hiredDate", "birthDate", "street", "city", "state", "zipCode", "phoneNumber", "email",
+            "emergencyContactFirstName", "emergencyContactLastName", "emergencyContactRelationship",
+            "emergencyContactPhoneNumber", "createdAt", "updatedAt", "createdBy", "modifiedBy"
+    };
+
+    private final EmployeeRepository employeeRepository;
+    private final EmployeeMapper employeeMapper;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+
+    @Transactional(readOnly = true)
+    public void export(ExportFormat format, OutputStream outputStream) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        if (format == ExportFormat.CSV) {
+            writeCsvRow(writer, CSV_HEADER);
+            writer.flush();
+        }
+
+        try (Stream<EmployeeProfile> employees = employeeRepository.streamAll()) {
+            Iterator<EmployeeProfile> iterator = employees.iterator();
+            int written = 0;
+            while (iterator.hasNext()) {
+                EmployeeProfile employee = iterator.next();
+                EmployeeResponse response = employeeMapper.employeeToEmployeeResponse(employee);
+                entityManager.detach(employee);
+
+                if (format == ExportFormat.CSV) {
+                    writeCsvRow(writer, toCsvRow(response));
+                } else {
+                    writer.write(objectMapper.writeValueAsString(response));
+                    writer.write('\n');
+                }
+
+                // Push the first row out immediately, then flush in batches
+                if (++written == 1 || written % FLUSH_EVERY == 0) {
+                    writer.flush();
+                }
+            }
+        }
+        writer.flush();
+    }
+
+    private static String[] toCsvRow(EmployeeResponse employee) {
+        AddressDto address = employee.getAddressDto();
+        ContactInformationDto contact = employee.getContactInformationDto();
+        EmergencyContactDto emergency = employee.getEmergencyContactDto();
+        return new String[]{
+                str(employee.getId()), employee.getFirstName(), employee.getMiddleName(), employee.getLastName(),
+                employee.getNameSuffix(), employee.getGender(), employee.getJobTitle(), employee.getDepartment(),
+                employee.getImageUrl(), str(employee.getHiredDate()), str(employee.getBirthDate()),
+                field(address, AddressDto::getStreet), field(address, AddressDto::getCity),
+                field(address, AddressDto::getState), field(address, AddressDto::getZipCode),
+                field(contact, ContactInformationDto::getPhoneNumber), field(contact, ContactInformationDto::getEmail),
+                field(emergency, EmergencyContactDto::getFirstName), field(emergency, EmergencyContactDto::getLastName),
+                field(emergency, EmergencyContactDto::getRelationship), field(emergency, EmergencyContactDto::getPhoneNumber),
+                str(employee.getCreatedAt()), str(employee.getUpdatedAt()),
+                employee.getCreatedBy(), employee.getModifiedBy()
+        };
+    }
+
+    private static void writeCsvRow(Writer writer, String[] values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writer.write(escapeCsv(neutralizeFormula(values[i])));
+        }
+        writer.write("\r\n");
+    }
+
+    /**
+     * Keeps spreadsheets from evaluating a cell as a formula by prefixing it with a quote.
+     * Only for files people open; the COPY lines of the CSV import take raw values.
+     */
+    static String neutralizeFormula(String value) {
+        return isFormulaLike(value) ? "'" + value : value;
+    }
+
+    /**
+     * Removes the quote added by {@link #neutralizeFormula}, so an export imports back unchanged
+     */
+    static String restoreFormula(String value) {
+        if (value != null && value.length() > 1 && value.charAt(0) == '\'' && isFormulaLike(value.substring(1))) {
+            return value.substring(1);
+        }
+        return value;
+    }
+
+    // A value that already starts with a quote before a formula prefix is quoted once more,
+    // so restoreFormula can tell it from one the export neutralized
+    private static boolean isFormulaLike(String value) {
+        if (value == null || value.isEmpty()) {
+            return false;
+        }
+        char first = value.charAt(0);
+        return FORMULA_PREFIXES.indexOf(first) >= 0 || (first == '\'' && isFormulaLike(value.substring(1)));
+    }
+
+    /**
+     * RFC 4180 quoting of a raw value; null becomes an empty, unquoted field
+     */
+    static String escapeCsv(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+
+    private static <T> String field(T source, Function<T, String> getter) {
+        return source == null ? null : getter.apply(source);
+    }
+
+    private static String str(Object value) {
+        return value == null ? null : value.toString();
+    }
+}
@@ -0,0 +1,170 @@
+package com.renzomendoza.employee_service.service;
+
+import com.renzomendoza.employee_service.dto.EmployeeFacets;
+import com.renzomendoza.employee_service.event.EmployeeChangedEvent;
+import com.renzomendoza.employee_service.event.EmployeesImportedEvent;
+import com.renzomendoza.employee_service.repository.EmployeeFacetCount;
+import com.renzomendoza.employee_service.repository.EmployeeRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.*;
+
+/**
+ * In-memory headcount per department and per job title.
+ * <p>
+ * Counts are seeded with one GROUP BY once the application is ready and then
+ * adjusted from {@link EmployeeChangedEvent}s, so reads only copy the buckets.
+ * When a change cannot be applied exactly (a delete without its previous values,
+ * a change made by another replica, a write racing the seed query) the counts
+ * are marked stale and the next read reseeds them.
+ */
+@Slf4j
+@Component
+public class EmployeeFacetCounts {
+
+    private static final Comparator<EmployeeFacets.FacetBucket> LARGEST_FIRST = Comparator
+            .comparingLong(EmployeeFacets.FacetBucket::getCount).reversed()
+            .thenComparing(EmployeeFacets.FacetBucket::getValue, Comparator.nullsLast(Comparator.naturalOrder()));
+
+    private final EmployeeRepository employeeRepository;
+
+    // HashMap allows the null key, which buckets employees without a department or job title
+    private final Map<String, Long> departments = new HashMap<>();
+    private final Map<String, Long> jobTitles = new HashMap<>();
+    private long total;
+    private long writes;
+    private volatile boolean stale = true;
+
+    public EmployeeFacetCounts(EmployeeRepository employeeRepository) {
+        this.employeeRepository = employeeRepository;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void seed() {
+        try {
+            reseed();
+        } catch (RuntimeException e) {
+            log.warn("Seeding employee facet counts failed, retrying on first read: {}", e.getMessage());
+        }
+    }
+
+    @TransactionalEventListener
+    public void onEmployeeChanged(EmployeeChangedEvent event) {
+        switch (event.type()) {
+            case CREATED -> {
+                if (event.summary() != null) {
+                    apply(null, EmployeeChangedEvent.Facets.of(event.summary()));
+                }
+            }
+            case UPDATED -> {
+                // Updates without previous values cannot have touched department or job title
+                if (event.previous() != null && event.summary() != null) {
+                    apply(event.previous(), EmployeeChangedEvent.Facets.of(event.summary()));
+                }
+            }
+            case DELETED -> {
+                if (event.previous() != null) {
+                    apply(event.previous(), null);
+                } else {
+                    markStale();
+                }
+            }
+        }
+    }
+
+    @TransactionalEventListener
+    public void onEmployeesImported(EmployeesImportedEvent event) {
+        event.summaries().forEach(summary -> apply(null, EmployeeChangedEvent.Facets.of(summary)));
+    }
+
+    /**
+     * Forces the next read to recount from the database
+     */
+    public void markStale() {
+        stale = true;
+    }
+
+    public EmployeeFacets getFacets() {
+        if (stale) {
+            reseed();
+        }
+        synchronized (this) {
+            return EmployeeFacets.builder()
+                    .total(total)
+                    .departments(buckets(departments))
+                    .jobTitles(buckets(jobTitles))
+                    .build();
+        }
+    }
+
+    void reseed() {
+        long writesBefore;
+        synchronized (this) {
+            writesBefore = writes;
+            // Cleared before the query so a failure mid-seed leaves the counts stale
+            stale = false;
+        }
+        List<EmployeeFacetCount> rows = employeeRepository.countFacets();
+
+        Map<String, Long> seededDepartments = new HashMap<>();
+        Map<String, Long> seededJobTitles = new HashMap<>();
+        long seededTotal = 0;
+        for (EmployeeFacetCount row : rows) {
+            if (row.getByJobTitle() == 1) {
+                seededJobTitles.put(row.getJobTitle(), row.getCount());
+            } else {
+                seededDepartments.put(row.getDepartment(), row.getCount());
+                seededTotal += row.getCount();
+            }
+        }
+
+        synchronized (this) {
+            departments.clear();
+            departments.putAll(seededDepartments);
+            jobTitles.clear();
+            jobTitles.putAll(seededJobTitles);
+            total = seededTotal;
+            // A change applied while the query ran may or may not be in its snapshot
+            if (writes != writesBefore) {
+                stale = true;
+            }
+        }
+    }
+
+    private synchronized void apply(EmployeeChangedEvent.Facets before, EmployeeChangedEvent.Facets after) {
+        writes++;
+        if (before != null) {
+            decrement(departments, before.department());
+            decrement(jobTitles, before.jobTitle());
+            total--;
+        }
+        if (after != null) {
+            departments.merge(after.department(), 1L, Long::sum);
+            jobTitles.merge(after.jobTitle(), 1L, Long::sum);
+            total++;
+        }
+    }
+
+    private void decrement(Map<String, Long> counts, String key) {
+        Long current = counts.get(key);
+        if (current == null) {
+            // The counts never saw this employee; recount rather than go negative
+            stale = true;
+        } else if (current <= 1) {
+            counts.remove(key);
+        } else {
+            counts.put(key, current - 1);
+        }
+    }
+
+    private static List<EmployeeFacets.FacetBucket> buckets(Map<String, Long> counts) {
+        List<EmployeeFacets.FacetBucket> buckets = new ArrayList<>(counts.size());
+        counts.forEach((value, count) -> buckets.add(new EmployeeFacets.FacetBucket(value, count)));
+        buckets.sort(LARGEST_FIRST);
+        return buckets;
+    }
+}
@@ -0,0 +1,590 @@
+package com.renzomendoza.employee_service.service;
+
+import com.renzomendoza.employee_service.dto.AddressDto;
+import com.renzomendoza.employee_service.dto.ContactInformationDto;
+import com.renzomendoza.employee_service.dto.EmergencyContactDto;
+import com.renzomendoza.employee_service.dto.bulk.EmployeeImportRowError;
+import com.renzomendoza.employee_service.dto.bulk.EmployeeImportStatus;
+import com.renzomendoza.employee_service.dto.employee.EmployeeCreateDto;
+import com.renzomendoza.employee_service.dto.employee.EmployeeList;
+import com.renzomendoza.employee_service.event.EmployeesImportedEvent;
+import com.renzomendoza.employee_service.exception.ImportJobNotFoundException;
+import com.renzomendoza.employee_service.exception.InvalidImportFileException;
+import com.renzomendoza.employee_service.model.EmployeeImportJob;
+import com.renzomendoza.employee_service.repository.EmployeeImportJobRepository;
+import com.renzomendoza.employee_service.utils.CsvReader;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Session;
+import org.postgresql.PGConnection;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.data.domain.AuditorAware;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Imports employees from CSV files in the layout of the CSV export.
+ * <p>
+ * The upload is spooled to a temporary file and imported in the background; the job's
+ * progress and per-row errors live in {@code employee_import_job}, so any replica can
+ * report on it. Rows are read one at a time and validated against the
+ * {@link EmployeeCreateDto} constraints, and valid rows are written to a local file of
+ * COPY lines before any transaction is opened. One short transaction then copies that
+ * file into a temporary staging table and merges it into {@code employee_profile} with a
+ * single {@code insert ... select ... on conflict}, so the file is imported all at once
+ * or, if the job fails, not at all. Ids that already exist are reported as row errors.
+ * <p>
+ * Keeping the transaction to the copy and the merge matters beyond the import itself:
+ * GET /changes holds back every change made after the oldest running transaction.
+ * <p>
+ * The imported employees are announced with one {@link EmployeesImportedEvent} rather
+ * than an event per row, so other replicas receive a single notification per import.
+ * <p>
+ * A job still QUEUED or RUNNING when its replica stops is left as it is.
+ */
+@Slf4j
+@Service
+public class EmployeeImportService implements SmartLifecycle {
+
+    // Audit columns of the export are set by the import instead
+    private static final Set<String> IGNORED_COLUMNS = Set.of("createdAt", "updatedAt", "createdBy", "modifiedBy");
+
+    // CSV column and the employee_profile column it is copied into, in COPY order
+    private static final Map<String, String> COLUMNS = columns(
+            "id", "id",
+            "firstName", "first_name",
+            "middleName", "middle_name",
+            "lastName", "last_name",
+            "nameSuffix", "name_suffix",
+            "gender", "gender",
+            "jobTitle", "job_title",
+            "department", "department",
+            "imageUrl", "image_url",
+            "hiredDate", "hired_date",
+            "birthDate", "birth_date",
+            "street", "street",
+            "city", "city",
+            "state", "state",
+            "zipCode", "zip_code",
+            "phoneNumber", "phone_number",
+            "email", "email",
+            "emergencyContactFirstName", "emergency_contact_first_name",
+            "emergencyContactLastName", "emergency_contact_last_name",
+            "emergencyContactRelationship", "emergency_contact_relationship",
+            "emergencyContactPhoneNumber", "emergency_contact_phone_number");
+
+    // Property paths of the nested DTOs and the CSV column they are read from
+    private static final Map<String, String> NESTED_COLUMNS = columns(
+            "addressDto.street", "street",
+            "addressDto.city", "city",
+            "addressDto.state", "state",
+            "addressDto.zipCode", "zipCode",
+            "contactInformationDto.phoneNumber", "phoneNumber",
+            "contactInformationDto.email", "email",
+            "emergencyContactDto.firstName", "emergencyContactFirstName",
+            "emergencyContactDto.lastName", "emergencyContactLastName",
+            "emergencyContactDto.relationship", "emergencyContactRelationship",
+            "emergencyContactDto.phoneNumber", "emergencyContactPhoneNumber");
+
+    private static final String COLUMN_LIST = String.join(", ", COLUMNS.values());
+
+    // Temporary and dropped at commit: never WAL-logged and private to the import's connection
+    private static final String CREATE_STAGING_TABLE =
+            "create temporary table employee_import_staging (like employee_profile including defaults) on commit drop";
+
+    private static final String COPY_INTO_STAGING =
+            "copy employee_import_staging (" + COLUMN_LIST + ") from stdin with (format csv)";
+
+    private static final String CURRENT_XID = "select cast(cast(pg_current_xact_id() as text) as bigint)";
+
+    private static final String MERGE_STAGING =
+            "insert into employee_profile (" + COLUMN_LIST + ", created_at, updated_at, created_by, modified_by) " +
+            "select " + COLUMN_LIST + ", ?, ?, ?, ? from employee_import_staging " +
+            "on conflict (id) do nothing " +
+            "returning id, first_name, middle_name, last_name, job_title, department, image_url, updated_at";
+
+    // Width of the employee_profile text columns
+    private static final int MAX_VALUE_LENGTH = 255;
+
+    // Anything longer is a malformed file, e.g. a quote that is never closed
+    private static final int MAX_FIELD_LENGTH = 10_000;
+
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final EmployeeImportJobRepository jobRepository;
+    private final Validator validator;
+    private final ApplicationEventPublisher eventPublisher;
+    private final AuditorAware<String> auditorAware;
+    private final int maxRows;
+    private final int maxReportedErrors;
+    private final int progressInterval;
+    private final Duration jobRetention;
+    private final Semaphore permits;
+
+    private volatile boolean running;
+    private ExecutorService executor;
+
+    public EmployeeImportService(EntityManager entityManager,
+                                 TransactionTemplate transactionTemplate,
+                                 EmployeeImportJobRepository jobRepository,
+                                 Validator validator,
+                                 ApplicationEventPublisher eventPublisher,
+                                 AuditorAware<String> auditorAware,
+                                 @Value("${employee.import.max-rows:50000}") int maxRows,
+                                 @Value("${employee.import.max-reported-errors:1000}") int maxReportedErrors,
+                                 @Value("${employee.import.progress-interval:5000}") int progressInterval,
+                                 @Value("${employee.import.max-concurrent-jobs:2}") int maxConcurrentJobs,
+                                 @Value("${employee.import.job-retention:7d}") Duration jobRetention) {
+        this.entityManager = entityManager;
+        this.transactionTemplate = transactionTemplate;
+        this.jobRepository = jobRepository;
+        this.validator = validator;
+        this.eventPublisher = eventPublisher;
+        this.auditorAware = auditorAware;
+        this.maxRows = maxRows;
+        this.maxReportedErrors = maxReportedErrors;
+        this.progressInterval = progressInterval;
+        this.jobRetention = jobRetention;
+        this.permits = new Semaphore(maxConcurrentJobs);
+    }
+
+    /**
+     * Checks the header, then queues the file for import and returns the new job
+     */
+    public EmployeeImportStatus submit(MultipartFile file) {
+        if (file.isEmpty()) {
+            throw new InvalidImportFileException("File is empty");
+        }
+
+        Path spooled = null;
+        try {
+            // The container deletes its copy of the upload when the request ends
+            spooled = Files.createTempFile("employee-import-", ".csv");
+            file.transferTo(spooled);
+            try (BufferedReader reader = Files.newBufferedReader(spooled, StandardCharsets.UTF_8)) {
+                columnIndexes(new CsvReader(reader, MAX_FIELD_LENGTH).readRecord());
+            }
+        } catch (IOException e) {
+            deleteQuietly(spooled);
+            throw new UncheckedIOException("Could not store the uploaded file", e);
+        } catch (RuntimeException e) {
+            deleteQuietly(spooled);
+            throw e;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        jobRepository.deleteFinishedBefore(now.minus(jobRetention));
+        String auditor = auditorAware.getCurrentAuditor().orElse(null);
+        EmployeeImportJob job = jobRepository.save(EmployeeImportJob.builder()
+                .id(UUID.randomUUID())
+                .status(EmployeeImportJob.Status.QUEUED)
+                .fileName(file.getOriginalFilename())
+                .errors(List.of())
+                .createdBy(auditor)
+                .createdAt(now)
+                .build());
+
+        Path importFile = spooled;
+        executor.execute(() -> run(job.getId(), importFile, auditor));
+        return EmployeeImportStatus.of(job);
+    }
+
+    public EmployeeImportStatus getStatus(UUID jobId) {
+        return jobRepository.findById(jobId)
+                .map(EmployeeImportStatus::of)
+                .orElseThrow(() -> new ImportJobNotFoundException(jobId));
+    }
+
+    void run(UUID jobId, Path file, String auditor) {
+        Path copyFile = null;
+        try {
+            permits.acquire();
+            try {
+                ImportRun importRun = new ImportRun(jobId, auditor);
+                copyFile = Files.createTempFile("employee-import-", ".copy");
+                stageToFile(importRun, file, copyFile);
+                Path staged = copyFile;
+                transactionTemplate.executeWithoutResult(status -> importStaged(importRun, staged));
+                log.info("Import {} finished: {} rows read, {} imported, {} failed",
+                        jobId, importRun.rowsRead, importRun.rowsImported, importRun.rowsFailed);
+            } finally {
+                permits.release();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            markFailed(jobId, "Import was interrupted by a shutdown");
+        } catch (IOException | RuntimeException e) {
+            log.warn("Import {} failed: {}", jobId, rootMessage(e));
+            markFailed(jobId, rootMessage(e));
+        } finally {
+            deleteQuietly(file);
+            deleteQuietly(copyFile);
+        }
+    }
+
+    /**
+     * Reads and validates the whole file into COPY lines, without touching employee_profile
+     */
+    private void stageToFile(ImportRun importRun, Path file, Path copyFile) {
+        jobRepository.updateProgress(importRun.jobId, EmployeeImportJob.Status.RUNNING, 0, 0);
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8);
+             OutputStream copyLines = new BufferedOutputStream(Files.newOutputStream(copyFile))) {
+            CsvReader csv = new CsvReader(reader, MAX_FIELD_LENGTH);
+            List<String> header = csv.readRecord();
+            Map<String, Integer> columns = columnIndexes(header);
+            List<String> record;
+            while ((record = csv.readRecord()) != null) {
+                if (++importRun.rowsRead > maxRows) {
+                    throw new InvalidImportFileException("File has more than " + maxRows + " rows");
+                }
+                // Row 1 is the header
+                int row = importRun.rowsRead + 1;
+                byte[] copyLine = stage(importRun, row, record, header.size(), columns);
+                if (copyLine != null) {
+                    copyLines.write(copyLine);
+                }
+                if (importRun.rowsRead % progressInterval == 0) {
+                    jobRepository.updateProgress(importRun.jobId, EmployeeImportJob.Status.RUNNING,
+                            importRun.rowsRead, importRun.rowsFailed);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void importStaged(ImportRun importRun, Path copyFile) {
+        entityManager.unwrap(Session.class).doWork(connection -> {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute(CREATE_STAGING_TABLE);
+            }
+            try (InputStream copyLines = new BufferedInputStream(Files.newInputStream(copyFile))) {
+                connection.unwrap(PGConnection.class).getCopyAPI().copyIn(COPY_INTO_STAGING, copyLines);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            mergeStaging(importRun, connection);
+        });
+
+        // Flushed with the merge when the transaction commits
+        EmployeeImportJob job = jobRepository.findById(importRun.jobId)
+                .orElseThrow(() -> new ImportJobNotFoundException(importRun.jobId));
+        importRun.errors.sort(Comparator.comparingInt(EmployeeImportRowError::getRow));
+        job.setStatus(EmployeeImportJob.Status.COMPLETED);
+        job.setRowsRead(importRun.rowsRead);
+        job.setRowsImported(importRun.rowsImported);
+        job.setRowsFailed(importRun.rowsFailed);
+        job.setErrors(importRun.errors);
+        job.setFinishedAt(LocalDateTime.now());
+    }
+
+    /**
+     * The row as a COPY line, or null (with its errors recorded) when it cannot be imported
+     */
+    byte[] stage(ImportRun importRun, int row, List<String> record, int headerSize, Map<String, Integer> columns) {
+        if (record.size() != headerSize) {
+            importRun.reject(row, null, List.of("Row has " + record.size() + " fields, the header has " + headerSize));
+            return null;
+        }
+
+        List<String> errors = new ArrayList<>();
+        EmployeeCreateDto dto = toCreateDto(record, columns, errors);
+        Set<String> unparsable = new HashSet<>();
+        errors.forEach(error -> unparsable.add(error.substring(0, error.indexOf(':'))));
+        for (ConstraintViolation<EmployeeCreateDto> violation : validator.validate(dto)) {
+            String property = violation.getPropertyPath().toString();
+            String column = NESTED_COLUMNS.getOrDefault(property, property);
+            // A value that could not be parsed is null to the validator; its parse error says enough
+            if (!unparsable.contains(column)) {
+                errors.add(column + ": " + violation.getMessage());
+            }
+        }
+        if (dto.getId() != null && importRun.rowsById.containsKey(dto.getId())) {
+            errors.add("id: duplicates row " + importRun.rowsById.get(dto.getId()));
+        }
+        if (!errors.isEmpty()) {
+            Collections.sort(errors);
+            importRun.reject(row, dto.getId(), errors);
+            return null;
+        }
+
+        if (dto.getId() == null) {
+            dto.setId(UUID.randomUUID());
+        }
+        importRun.rowsById.put(dto.getId(), row);
+        return toCopyLine(dto);
+    }
+
+    private void mergeStaging(ImportRun importRun, Connection connection) throws SQLException {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<EmployeeList> summaries = new ArrayList<>();
+        try (PreparedStatement merge = connection.prepareStatement(MERGE_STAGING)) {
+            merge.setTimestamp(1, now);
+            merge.setTimestamp(2, now);
+            merge.setString(3, importRun.auditor);
+            merge.setString(4, importRun.auditor);
+            try (ResultSet inserted = merge.executeQuery()) {
+                while (inserted.next()) {
+                    UUID id = inserted.getObject(1, UUID.class);
+                    importRun.rowsById.remove(id);
+                    importRun.rowsImported++;
+                    summaries.add(EmployeeList.builder()
+                            .id(id)
+                            .firstName(inserted.getString(2))
+                            .middleName(inserted.getString(3))
+                            .lastName(inserted.getString(4))
+                            .jobTitle(inserted.getString(5))
+                            .department(inserted.getString(6))
+                            .imageUrl(inserted.getString(7))
+                            .updatedAt(inserted.getTimestamp(8).toLocalDateTime())
+                            .build());
+                }
+            }
+        }
+        if (!summaries.isEmpty()) {
+            try (Statement statement = connection.createStatement();
+                 ResultSet xid = statement.executeQuery(CURRENT_XID)) {
+                xid.next();
+                eventPublisher.publishEvent(new EmployeesImportedEvent(importRun.jobId, xid.getLong(1), summaries));
+            }
+        }
+        // Whatever was staged but not inserted collided with an existing employee
+        importRun.rowsById.forEach((id, row) ->
+                importRun.reject(row, id, List.of("id: an employee with this id already exists")));
+    }
+
+    private static EmployeeCreateDto toCreateDto(List<String> record, Map<String, Integer> columns, List<String> errors) {
+        Map<String, String> values = new HashMap<>();
+        columns.forEach((column, index) -> {
+            // Values the export quoted against spreadsheet formulas, e.g. '+63 912 ...
+            String value = EmployeeExportService.restoreFormula(record.get(index));
+            if (value.isEmpty()) {
+                return;
+            }
+            if (value.length() > MAX_VALUE_LENGTH) {
+                errors.add(column + ": must be at most " + MAX_VALUE_LENGTH + " characters");
+                return;
+            }
+            values.put(column, value);
+        });
+
+        return EmployeeCreateDto.builder()
+                .id(parseId(values.get("id"), errors))
+                .firstName(values.get("firstName"))
+                .middleName(values.get("middleName"))
+                .lastName(values.get("lastName"))
+                .nameSuffix(values.get("nameSuffix"))
+                .gender(values.get("gender"))
+                .jobTitle(values.get("jobTitle"))
+                .department(values.get("department"))
+                .imageUrl(values.get("imageUrl"))
+                .hiredDate(parseDate("hiredDate", values.get("hiredDate"), errors))
+                .birthDate(parseDate("birthDate", values.get("birthDate"), errors))
+                .addressDto(new AddressDto(values.get("street"), values.get("city"),
+                        values.get("state"), values.get("zipCode")))
+                .contactInformationDto(new ContactInformationDto(values.get("phoneNumber"), values.get("email")))
+                .emergencyContactDto(new EmergencyContactDto(values.get("emergencyContactFirstName"),
+                        values.get("emergencyContactLastName"), values.get("emergencyContactRelationship"),
+                        values.get("emergencyContactPhoneNumber")))
+                .build();
+    }
+
+    private static byte[] toCopyLine(EmployeeCreateDto dto) {
+        AddressDto address = dto.getAddressDto();
+        ContactInformationDto contact = dto.getContactInformationDto();
+        EmergencyContactDto emergency = dto.getEmergencyContactDto();
+        String[] values = {
+                dto.getId().toString(), dto.getFirstName(), dto.getMiddleName(), dto.getLastName(),
+                dto.getNameSuffix(), dto.getGender(), dto.getJobTitle(), dto.getDepartment(), dto.getImageUrl(),
+                str(dto.getHiredDate()), str(dto.getBirthDate()),
+                address.getStreet(), address.getCity(), address.getState(), address.getZipCode(),
+                contact.getPhoneNumber(), contact.getEmail(),
+                emergency.getFirstName(), emergency.getLastName(), emergency.getRelationship(), emergency.getPhoneNumber()
+        };
+        // An unquoted empty field is NULL to COPY; blank CSV values were already mapped to null
+        StringBuilder line = new StringBuilder();
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                line.append(',');
+            }
+            line.append(EmployeeExportService.escapeCsv(values[i]));
+        }
+        return line.append('\n').toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Column positions by name; refuses headers the import would misread
+     */
+    static Map<String, Integer> columnIndexes(List<String> header) {
+        if (header == null) {
+            throw new InvalidImportFileException("File has no header row");
+        }
+        Map<String, Integer> columns = new LinkedHashMap<>();
+        for (int i = 0; i < header.size(); i++) {
+            String column = header.get(i).trim();
+            if (IGNORED_COLUMNS.contains(column)) {
+                continue;
+            }
+            if (!COLUMNS.containsKey(column)) {
+                throw new InvalidImportFileException("Unknown column '" + column + "'; expected columns are " +
+                        String.join(", ", COLUMNS.keySet()));
+            }
+            if (columns.put(column, i) != null) {
+                throw new InvalidImportFileException("Column '" + column + "' appears more than once");
+            }
+        }
+        if (columns.isEmpty()) {
+            throw new InvalidImportFileException("File has no importable columns");
+        }
+        return columns;
+    }
+
+    private static UUID parseId(String value, List<String> errors) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return UUID.fromString(value);
+        } catch (IllegalArgumentException e) {
+            errors.add("id: must be a UUID");
+            return null;
+        }
+    }
+
+    private static LocalDate parseDate(String column, String value, List<String> errors) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return LocalDate.parse(value);
+        } catch (DateTimeParseException e) {
+            errors.add(column + ": must be a date in yyyy-MM-dd format");
+            return null;
+        }
+    }
+
+    private void markFailed(UUID jobId, String message) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> jobRepository.findById(jobId).ifPresent(job -> {
+                job.setStatus(EmployeeImportJob.Status.FAILED);
+                job.setRowsImported(0);
+                job.setMessage(message.length() > 1000 ? message.substring(0, 1000) : message);
+                job.setFinishedAt(LocalDateTime.now());
+            }));
+        } catch (RuntimeException e) {
+            log.warn("Could not record the failure of import {}: {}", jobId, e.getMessage());
+        }
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        executor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("employee-import-", 0).factory());
+    }
+
+    // Interrupts running imports, whose transactions roll back
+    @Override
+    public void stop() {
+        running = false;
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private static void deleteQuietly(Path file) {
+        if (file == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("Could not delete import file {}: {}", file, e.getMessage());
+        }
+    }
+
+    private static String str(Object value) {
+        return value == null ? null : value.toString();
+    }
+
+    private static String rootMessage(Throwable e) {
+        Throwable root = e;
+        while (root.getCause() != null && root.getCause() != root) {
+            root = root.getCause();
+        }
+        return root.getMessage() != null ? root.getMessage() : root.getClass().getSimpleName();
+    }
+
+    private static Map<String, String> columns(String... pairs) {
+        Map<String, String> columns = new LinkedHashMap<>();
+        for (int i = 0; i < pairs.length; i += 2) {
+            columns.put(pairs[i], pairs[i + 1]);
+        }
+        return Collections.unmodifiableMap(columns);
+    }
+
+    /**
+     * State of one import while it runs
+     */
+    final class ImportRun {
+
+        private final UUID jobId;
+        private final String auditor;
+        // Row of every staged id, for duplicate and conflict reporting
+        private final Map<UUID, Integer> rowsById = new HashMap<>();
+        private final List<EmployeeImportRowError> errors = new ArrayList<>();
+        int rowsRead;
+        int rowsImported;
+        int rowsFailed;
+
+        ImportRun(UUID jobId, String auditor) {
+            this.jobId = jobId;
+            this.auditor = auditor;
+        }
+
+        void reject(int row, UUID id, List<String> rowErrors) {
+            rowsFailed++;
+            if (errors.size() < maxReportedErrors) {
+                errors.add(new EmployeeImportRowError(row, id, rowErrors));
+            }
+        }
+
+        List<EmployeeImportRowError> errors() {
+            return errors;
+        }
+    }
+}
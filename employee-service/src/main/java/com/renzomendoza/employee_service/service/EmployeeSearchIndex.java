@@ -0,0 +1,331 @@
+package com.renzomendoza.employee_service.service;
+
+import com.renzomendoza.employee_service.dto.employee.EmployeeList;
+import com.renzomendoza.employee_service.event.EmployeeChangedEvent;
+import com.renzomendoza.employee_service.event.EmployeesImportedEvent;
+import com.renzomendoza.employee_service.mapper.EmployeeMapper;
+import com.renzomendoza.employee_service.model.EmployeeProfile;
+import com.renzomendoza.employee_service.repository.EmployeeRepository;
+import com.renzomendoza.employee_service.repository.EmployeeSortField;
+import com.renzomendoza.employee_service.utils.EmployeeCursor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * In-memory trigram index over employee first, middle and last names.
+ * <p>
+ * The index is loaded in the background once the application is ready and is
+ * kept current from {@link EmployeeChangedEvent}s. Until the initial load
+ * completes {@link #canAnswer(String)} returns false and callers fall back to
+ * the database.
+ */
+@Slf4j
+@Component
+public class EmployeeSearchIndex {
+
+    static final int GRAM_LENGTH = 3;
+    private static final int WARMUP_BATCH_SIZE = 5_000;
+    private static final int REFRESH_BATCH_SIZE = 1_000;
+
+    private static final Comparator<EmployeeList> NAME_ORDER = Comparator
+            .comparing(EmployeeList::getLastName, Comparator.nullsLast(String.CASE_INSENSITIVE_ORDER))
+            .thenComparing(EmployeeList::getFirstName, Comparator.nullsLast(String.CASE_INSENSITIVE_ORDER))
+            .thenComparing(EmployeeList::getId);
+
+    private final EmployeeRepository employeeRepository;
+    private final EmployeeMapper employeeMapper;
+    private final boolean enabled;
+
+    private final Map<UUID, EmployeeList> documents = new ConcurrentHashMap<>();
+    private final Map<String, Set<UUID>> postings = new ConcurrentHashMap<>();
+
+    // Writes are serialized so the warm-up never overwrites a newer live change
+    private final Object writeLock = new Object();
+    private final Set<UUID> touchedDuringWarmup = new HashSet<>();
+    private volatile boolean ready;
+
+    public EmployeeSearchIndex(EmployeeRepository employeeRepository,
+                               EmployeeMapper employeeMapper,
+                               @Value("${employee.search.index.enabled:true}") boolean enabled) {
+        this.employeeRepository = employeeRepository;
+        this.employeeMapper = employeeMapper;
+        this.enabled = enabled;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        if (!enabled) {
+            return;
+        }
+        Thread warmup = new Thread(this::rebuild, "employee-search-index-warmup");
+        warmup.setDaemon(true);
+        warmup.start();
+    }
+
+    void rebuild() {
+        long start = System.nanoTime();
+        try {
+            List<EmployeeList> rows = employeeRepository.findKeysetPage(EmployeeSortField.LAST_NAME,
+                    Sort.Direction.ASC, null, WARMUP_BATCH_SIZE);
+            while (!rows.isEmpty()) {
+                synchronized (writeLock) {
+                    for (EmployeeList row : rows) {
+                        if (!touchedDuringWarmup.contains(row.getId())) {
+                            index(row);
+                        }
+                    }
+                }
+                if (rows.size() < WARMUP_BATCH_SIZE) {
+                    break;
+                }
+                EmployeeList last = rows.get(rows.size() - 1);
+                EmployeeCursor after = new EmployeeCursor(EmployeeSortField.LAST_NAME, Sort.Direction.ASC,
+                        last.getLastName(), last.getId());
+                rows = employeeRepository.findKeysetPage(EmployeeSortField.LAST_NAME, Sort.Direction.ASC,
+                        after, WARMUP_BATCH_SIZE);
+            }
+            synchronized (writeLock) {
+                touchedDuringWarmup.clear();
+                ready = true;
+            }
+            log.info("Employee search index loaded {} employees in {} ms", documents.size(),
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        } catch (RuntimeException e) {
+            log.error("Employee search index warm-up failed, name search will keep using the database", e);
+        }
+    }
+
+    @TransactionalEventListener
+    public void onEmployeeChanged(EmployeeChangedEvent event) {
+        if (event.type() == EmployeeChangedEvent.ChangeType.DELETED) {
+            remove(event.employeeId());
+        } else if (event.summary() != null) {
+            upsert(event.summary());
+        }
+    }
+
+    // In memory only, so the rows of an import are indexed one by one
+    @TransactionalEventListener
+    public void onEmployeesImported(EmployeesImportedEvent event) {
+        event.summaries().forEach(this::upsert);
+    }
+
+    public void upsert(EmployeeList employee) {
+        synchronized (writeLock) {
+            if (!ready) {
+                touchedDuringWarmup.add(employee.getId());
+            }
+            unindex(employee.getId());
+            index(employee);
+        }
+    }
+
+    public void remove(UUID employeeId) {
+        synchronized (writeLock) {
+            if (!ready) {
+                touchedDuringWarmup.add(employeeId);
+            }
+            unindex(employeeId);
+        }
+    }
+
+    /**
+     * Reloads employees from the database, one query per batch, for changes made by another replica.
+     * Read-write so it runs on the primary; a read replica may not have the changes yet.
+     */
+    @Transactional
+    public void refresh(Collection<UUID> employeeIds) {
+        if (!enabled || employeeIds.isEmpty()) {
+            return;
+        }
+        List<UUID> ids = List.copyOf(employeeIds);
+        for (int from = 0; from < ids.size(); from += REFRESH_BATCH_SIZE) {
+            List<UUID> batch = ids.subList(from, Math.min(from + REFRESH_BATCH_SIZE, ids.size()));
+            Map<UUID, EmployeeList> found = new HashMap<>();
+            for (EmployeeProfile employee : employeeRepository.findAllByIdArray(batch.toArray(UUID[]::new))) {
+                found.put(employee.getId(), employeeMapper.employeeToEmployeeList(employee));
+            }
+            for (UUID id : batch) {
+                EmployeeList employee = found.get(id);
+                if (employee != null) {
+                    upsert(employee);
+                } else {
+                    remove(id);
+                }
+            }
+        }
+    }
+
+    /**
+     * Reloads every employee written by one transaction of another replica, such as a CSV import
+     * announced by a single notification; served by the (change_xid, id) index
+     */
+    @Transactional
+    public void refreshTransaction(long changeXid) {
+        if (!enabled) {
+            return;
+        }
+        refresh(employeeRepository.findIdsByChangeXid(changeXid));
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * Whether the index is loaded and the query is long enough to be answered from trigrams
+     */
+    public boolean canAnswer(String name) {
+        return ready && name != null && normalize(name).length() >= GRAM_LENGTH;
+    }
+
+    /**
+     * Returns employees whose first, middle or last name contains the given text
+     * (case-insensitive). Exact name matches rank first, then prefix matches,
+     * then other matches; ties are ordered by last name, first name and id.
+     */
+    public Page<EmployeeList> search(String name, Pageable pageable) {
+        String needle = normalize(name);
+
+        List<Set<UUID>> lists = new ArrayList<>();
+        for (String gram : grams(needle)) {
+            Set<UUID> posting = postings.get(gram);
+            if (posting == null) {
+                return Page.empty(pageable);
+            }
+            lists.add(posting);
+        }
+        lists.sort(Comparator.comparingInt(Set::size));
+
+        List<ScoredEmployee> matches = new ArrayList<>();
+        Set<UUID> smallest = lists.get(0);
+        List<Set<UUID>> rest = lists.subList(1, lists.size());
+        for (UUID id : smallest) {
+            if (!containsInAll(rest, id)) {
+                continue;
+            }
+            EmployeeList employee = documents.get(id);
+            if (employee == null) {
+                continue;
+            }
+            // Trigrams only narrow the candidates; confirm the substring actually occurs
+            int score = score(employee, needle);
+            if (score >= 0) {
+                matches.add(new ScoredEmployee(score, employee));
+            }
+        }
+
+        matches.sort(Comparator.comparingInt(ScoredEmployee::score)
+                .thenComparing(ScoredEmployee::employee, NAME_ORDER));
+
+        int from = (int) Math.min(pageable.getOffset(), matches.size());
+        int to = Math.min(from + pageable.getPageSize(), matches.size());
+        List<EmployeeList> content = matches.subList(from, to).stream()
+                .map(ScoredEmployee::employee)
+                .toList();
+        return new PageImpl<>(content, pageable, matches.size());
+    }
+
+    private void index(EmployeeList employee) {
+        documents.put(employee.getId(), employee);
+        for (String gram : documentGrams(employee)) {
+            postings.computeIfAbsent(gram, key -> ConcurrentHashMap.newKeySet()).add(employee.getId());
+        }
+    }
+
+    private void unindex(UUID employeeId) {
+        EmployeeList previous = documents.remove(employeeId);
+        if (previous == null) {
+            return;
+        }
+        for (String gram : documentGrams(previous)) {
+            Set<UUID> posting = postings.get(gram);
+            if (posting != null) {
+                posting.remove(employeeId);
+                if (posting.isEmpty()) {
+                    postings.remove(gram, posting);
+                }
+            }
+        }
+    }
+
+    private static boolean containsInAll(List<Set<UUID>> lists, UUID id) {
+        for (Set<UUID> list : lists) {
+            if (!list.contains(id)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int score(EmployeeList employee, String needle) {
+        int best = -1;
+        for (String field : names(employee)) {
+            String value = normalize(field);
+            int fieldScore;
+            if (value.equals(needle)) {
+                fieldScore = 0;
+            } else if (value.startsWith(needle)) {
+                fieldScore = 1;
+            } else if (value.contains(needle)) {
+                fieldScore = 2;
+            } else {
+                continue;
+            }
+            if (best < 0 || fieldScore < best) {
+                best = fieldScore;
+            }
+        }
+        return best;
+    }
+
+    private static Set<String> documentGrams(EmployeeList employee) {
+        Set<String> grams = new HashSet<>();
+        for (String field : names(employee)) {
+            grams.addAll(grams(normalize(field)));
+        }
+        return grams;
+    }
+
+    private static List<String> names(EmployeeList employee) {
+        List<String> names = new ArrayList<>(3);
+        if (employee.getFirstName() != null) {
+            names.add(employee.getFirstName());
+        }
+        if (employee.getMiddleName() != null) {
+            names.add(employee.getMiddleName());
+        }
+        if (employee.getLastName() != null) {
+            names.add(employee.getLastName());
+        }
+        return names;
+    }
+
+    static Set<String> grams(String value) {
+        Set<String> grams = new LinkedHashSet<>();
+        for (int i = 0; i + GRAM_LENGTH <= value.length(); i++) {
+            grams.add(value.substring(i, i + GRAM_LENGTH));
+        }
+        return grams;
+    }
+
+    private static String normalize(String value) {
+        return value.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private record ScoredEmployee(int score, EmployeeList employee) {
+    }
+}
@@ -1,25 +1,56 @@
 package com.renzomendoza.employee_service.service;
 
+import com.renzomendoza.employee_service.cache.EmployeeEntityCache;
+import com.renzomendoza.employee_service.config.CacheConfig;
 import com.renzomendoza.employee_service.dto.AddressDto;
 import com.renzomendoza.employee_service.dto.ContactInformationDto;
 import com.renzomendoza.employee_service.dto.EmergencyContactDto;
+import com.renzomendoza.employee_service.dto.EmployeeCursorPage;
+import com.renzomendoza.employee_service.dto.EmployeeFacets;
+import com.renzomendoza.employee_service.dto.EmployeeFilter;
+import com.renzomendoza.employee_service.dto.bulk.EmployeeBatchDeleteResult;
+import com.renzomendoza.employee_service.dto.bulk.EmployeeBatchGetItem;
+import com.renzomendoza.employee_service.dto.bulk.EmployeeBatchGetResult;
 import com.renzomendoza.employee_service.dto.employee.EmployeeCreateDto;
 import com.renzomendoza.employee_service.dto.employee.EmployeeList;
 import com.renzomendoza.employee_service.dto.employee.EmployeeRequestDto;
 import com.renzomendoza.employee_service.dto.employee.EmployeeResponse;
+import com.renzomendoza.employee_service.event.EmployeeChangedEvent;
+import com.renzomendoza.employee_service.exception.BulkRequestTooLargeException;
 import com.renzomendoza.employee_service.exception.EmployeeNotFoundException;
+import com.renzomendoza.employee_service.exception.InvalidCursorException;
+import com.renzomendoza.employee_service.exception.InvalidFilterException;
+import com.renzomendoza.employee_service.exception.InvalidPageSizeException;
 import com.renzomendoza.employee_service.mapper.EmployeeMapper;
+import com.renzomendoza.employee_service.model.Address;
+import com.renzomendoza.employee_service.model.ContactInformation;
+import com.renzomendoza.employee_service.model.EmergencyContact;
 import com.renzomendoza.employee_service.model.EmployeeProfile;
+import com.renzomendoza.employee_service.repository.DeletedEmployee;
+import com.renzomendoza.employee_service.repository.EmployeeField;
 import com.renzomendoza.employee_service.repository.EmployeeRepository;
+import com.renzomendoza.employee_service.repository.EmployeeSortField;
+import com.renzomendoza.employee_service.repository.EmployeeSpecifications;
+import com.renzomendoza.employee_service.utils.EmployeeCursor;
+import com.renzomendoza.employee_service.utils.EmployeeETags;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.AuditorAware;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.UUID;
+import java.time.LocalDateTime;
+import java.util.*;
 
 @Service
 @RequiredArgsConstructor
@@ -28,85 +59,367 @@ public class EmployeeService {
 
     private final EmployeeRepository employeeRepository;
     private final EmployeeMapper employeeMapper;
+    private final EmployeeSearchIndex employeeSearchIndex;
+    private final EmployeeFacetCounts employeeFacetCounts;
+    private final ApplicationEventPublisher eventPublisher;
+    private final CacheManager cacheManager;
+    private final EmployeeEntityCache employeeEntityCache;
+    private final AuditorAware<String> auditorAware;
+
+    @Value("${employee.bulk.max-items:10000}")
+    private int maxBatchItems = 10_000;
+
+    @Value("${employee.bulk.get-chunk-size:1000}")
+    private int batchGetChunkSize = 1_000;
 
     public EmployeeResponse createEmployee(EmployeeCreateDto employeeCreateDto) {
         EmployeeProfile employee = employeeMapper.employeeCreateToEmployee(employeeCreateDto);
         employeeRepository.save(employee);
+        eventPublisher.publishEvent(EmployeeChangedEvent.created(employee.getId(), employeeMapper.employeeToEmployeeList(employee)));
         return employeeMapper.employeeToEmployeeResponse(employee);
     }
 
-    @Transactional(readOnly = true)
+    // No sync=true: Caffeine would run the load inside ConcurrentHashMap.compute, pinning the virtual
+    // thread's carrier while it waits for a pooled connection. A rare duplicate load is the cheaper risk.
+    // Read-write, so the load runs on the primary: the cached response is served to every client,
+    // and one read from a lagging replica would stay in the cache after the replica caught up
+    @Cacheable(cacheNames = CacheConfig.EMPLOYEE_CACHE, key = "#employeeId")
+    @Transactional
     public EmployeeResponse getEmployeeById(UUID employeeId) {
         EmployeeProfile employee = employeeRepository.findById(employeeId)
                 .orElseThrow(() -> new EmployeeNotFoundException(employeeId));
         return employeeMapper.employeeToEmployeeResponse(employee);
     }
 
+    /**
+     * Looks up many employees at once. Ids already in the employee cache are answered from it;
+     * the rest are loaded in chunks of one query each and cached. Items follow the request
+     * order, duplicates included, with a NOT_FOUND marker for ids that match no employee.
+     * Read-write for the same reason as {@link #getEmployeeById}: misses are cached.
+     */
+    @Transactional
+    public EmployeeBatchGetResult getEmployeesByIds(List<UUID> employeeIds) {
+        if (employeeIds.size() > maxBatchItems) {
+            throw new BulkRequestTooLargeException(employeeIds.size(), maxBatchItems);
+        }
+
+        Cache cache = cacheManager.getCache(CacheConfig.EMPLOYEE_CACHE);
+        Map<UUID, EmployeeResponse> found = new HashMap<>();
+        List<UUID> misses = new ArrayList<>();
+        for (UUID employeeId : new LinkedHashSet<>(employeeIds)) {
+            if (employeeId == null) {
+                continue;
+            }
+            EmployeeResponse cached = cache != null ? cache.get(employeeId, EmployeeResponse.class) : null;
+            if (cached != null) {
+                found.put(employeeId, cached);
+            } else {
+                misses.add(employeeId);
+            }
+        }
+
+        for (int from = 0; from < misses.size(); from += batchGetChunkSize) {
+            List<UUID> chunk = misses.subList(from, Math.min(from + batchGetChunkSize, misses.size()));
+            for (EmployeeProfile employee : employeeRepository.findAllByIdArray(chunk.toArray(UUID[]::new))) {
+                EmployeeResponse response = employeeMapper.employeeToEmployeeResponse(employee);
+                found.put(employee.getId(), response);
+                if (cache != null) {
+                    cache.put(employee.getId(), response);
+                }
+            }
+        }
+
+        List<EmployeeBatchGetItem> items = new ArrayList<>(employeeIds.size());
+        int foundCount = 0;
+        for (UUID employeeId : employeeIds) {
+            EmployeeResponse employee = employeeId != null ? found.get(employeeId) : null;
+            if (employee != null) {
+                items.add(EmployeeBatchGetItem.found(employeeId, employee));
+                foundCount++;
+            } else {
+                items.add(EmployeeBatchGetItem.notFound(employeeId));
+            }
+        }
+        return EmployeeBatchGetResult.builder()
+                .requested(employeeIds.size())
+                .found(foundCount)
+                .items(items)
+                .build();
+    }
+
+    /**
+     * Current ETag of an employee without loading the entity, or null if it does not exist
+     */
+    @Transactional(readOnly = true)
+    public String getEmployeeETag(UUID employeeId) {
+        return employeeRepository.findUpdatedAtById(employeeId)
+                .map(EmployeeETags::of)
+                .orElse(null);
+    }
+
     @Transactional(readOnly = true)
     public Page<EmployeeList> getAllEmployees(int page, int size) {
         Pageable pageable = PageRequest.of(page, size);
-        return employeeRepository.findAll(pageable)
-                .map(employeeMapper::employeeToEmployeeList);
+        return employeeRepository.findAllSummaries(pageable);
+    }
+
+    @Transactional(readOnly = true)
+    public EmployeeCursorPage getEmployeesAfter(String after, int size) {
+        return getKeysetSlice(EmployeeSortField.LAST_NAME, Sort.Direction.ASC, after, size);
+    }
+
+    @Transactional(readOnly = true)
+    public EmployeeCursorPage getAllEmployeesSortedAfter(String after, int size, String sortBy, Sort.Direction direction) {
+        return getKeysetSlice(EmployeeSortField.fromProperty(sortBy), direction, after, size);
+    }
+
+    private EmployeeCursorPage getKeysetSlice(EmployeeSortField sortField, Sort.Direction direction, String after, int size) {
+        if (size < 1) {
+            throw new InvalidPageSizeException(size);
+        }
+        EmployeeCursor cursor = null;
+        if (after != null && !after.isBlank()) {
+            cursor = EmployeeCursor.decode(after);
+            // A cursor is only meaningful for the ordering that produced it
+            if (cursor.sortField() != sortField || cursor.direction() != direction) {
+                throw new InvalidCursorException(after);
+            }
+        }
+
+        // Fetch one extra row to learn whether another slice follows, without a count query
+        List<EmployeeList> rows = employeeRepository.findKeysetPage(sortField, direction, cursor, size + 1);
+
+        boolean hasNext = rows.size() > size;
+        List<EmployeeList> slice = hasNext ? rows.subList(0, size) : rows;
+        String nextCursor = null;
+        if (hasNext) {
+            EmployeeList last = slice.get(slice.size() - 1);
+            nextCursor = new EmployeeCursor(sortField, direction, sortField.keyOf(last), last.getId()).encode();
+        }
+
+        return EmployeeCursorPage.builder()
+                .content(slice)
+                .size(size)
+                .hasNext(hasNext)
+                .nextCursor(nextCursor)
+                .build();
     }
 
+    @CacheEvict(cacheNames = CacheConfig.EMPLOYEE_CACHE, key = "#employeeId")
     public EmployeeResponse updateEmployee(UUID employeeId, EmployeeRequestDto employeeRequestDto) {
         EmployeeProfile existingEmployee = employeeRepository.findById(employeeId)
                 .orElseThrow(() -> new EmployeeNotFoundException(employeeId));
+        EmployeeChangedEvent.Facets previous =
+                new EmployeeChangedEvent.Facets(existingEmployee.getDepartment(), existingEmployee.getJobTitle());
 
         employeeMapper.updateEmployeeFromRequest(employeeRequestDto, existingEmployee);
 
         employeeRepository.save(existingEmployee);
+        eventPublisher.publishEvent(EmployeeChangedEvent.updated(employeeId, previous, employeeMapper.employeeToEmployeeList(existingEmployee)));
         return employeeMapper.employeeToEmployeeResponse(existingEmployee);
     }
 
+    @CacheEvict(cacheNames = CacheConfig.EMPLOYEE_CACHE, key = "#employeeId")
     public void deleteEmployee(UUID employeeId) {
-        EmployeeProfile employee = employeeRepository.findById(employeeId)
+        DeletedEmployee deleted = employeeRepository.deleteRowById(employeeId)
                 .orElseThrow(() -> new EmployeeNotFoundException(employeeId));
-        employeeRepository.delete(employee);
+        eventPublisher.publishEvent(EmployeeChangedEvent.deleted(employeeId, facetsOf(deleted)));
+    }
+
+    public EmployeeBatchDeleteResult deleteEmployees(Collection<UUID> employeeIds) {
+        Set<UUID> requested = new LinkedHashSet<>(employeeIds);
+        if (requested.size() > maxBatchItems) {
+            throw new BulkRequestTooLargeException(requested.size(), maxBatchItems);
+        }
+        if (requested.isEmpty()) {
+            return new EmployeeBatchDeleteResult(0, 0, List.of());
+        }
+
+        List<DeletedEmployee> deleted = employeeRepository.deleteRowsByIdArray(requested.toArray(UUID[]::new));
+
+        Cache cache = cacheManager.getCache(CacheConfig.EMPLOYEE_CACHE);
+        Set<UUID> deletedIds = new HashSet<>();
+        for (DeletedEmployee employee : deleted) {
+            deletedIds.add(employee.getId());
+            if (cache != null) {
+                cache.evict(employee.getId());
+            }
+            eventPublisher.publishEvent(EmployeeChangedEvent.deleted(employee.getId(), facetsOf(employee)));
+        }
+
+        List<UUID> notFound = new ArrayList<>(requested);
+        notFound.removeAll(deletedIds);
+        return EmployeeBatchDeleteResult.builder()
+                .requested(requested.size())
+                .deleted(deleted.size())
+                .notFound(notFound)
+                .build();
     }
 
+    // Sub-resource updates of an employee in the second-level cache load it from there, with no query,
+    // and let dirty checking write one UPDATE that keeps the cached entity current. For any other
+    // employee that load would be a SELECT, so one targeted UPDATE is issued without reading the row.
+
+    @CacheEvict(cacheNames = CacheConfig.EMPLOYEE_CACHE, key = "#employeeId")
     public AddressDto updateEmployeeAddress(UUID employeeId, AddressDto addressDto) {
-        EmployeeProfile employee = employeeRepository.findById(employeeId)
-                .orElseThrow(() -> new EmployeeNotFoundException(employeeId));
-        employee.setAddress(employeeMapper.addressDtoToAddress(addressDto));
-        EmployeeProfile updatedEmployee = employeeRepository.save(employee);
-        return employeeMapper.addressToAddressDto(updatedEmployee.getAddress());
+        Address address = employeeMapper.addressDtoToAddress(addressDto);
+        if (employeeEntityCache.contains(employeeId)) {
+            findEmployee(employeeId).setAddress(address);
+        } else {
+            afterRowUpdate(employeeId, employeeRepository.updateAddressRow(
+                    employeeId, address, LocalDateTime.now(), currentAuditor()));
+        }
+        afterPartialUpdate(employeeId);
+        return employeeMapper.addressToAddressDto(address);
     }
 
+    @CacheEvict(cacheNames = CacheConfig.EMPLOYEE_CACHE, key = "#employeeId")
     public ContactInformationDto updateEmployeeContactInformation(UUID employeeId, ContactInformationDto contactInformationDto) {
-        EmployeeProfile employee = employeeRepository.findById(employeeId)
-                .orElseThrow(() -> new EmployeeNotFoundException(employeeId));
-        employee.setContactInformation(employeeMapper.contactInformationDtoToContactInformation(contactInformationDto));
-        EmployeeProfile updatedEmployee = employeeRepository.save(employee);
-        return employeeMapper.contactInformationToContactInformationDto(updatedEmployee.getContactInformation());
+        ContactInformation contactInformation = employeeMapper.contactInformationDtoToContactInformation(contactInformationDto);
+        if (employeeEntityCache.contains(employeeId)) {
+            findEmployee(employeeId).setContactInformation(contactInformation);
+        } else {
+            afterRowUpdate(employeeId, employeeRepository.updateContactInformationRow(
+                    employeeId, contactInformation, LocalDateTime.now(), currentAuditor()));
+        }
+        afterPartialUpdate(employeeId);
+        return employeeMapper.contactInformationToContactInformationDto(contactInformation);
     }
 
+    @CacheEvict(cacheNames = CacheConfig.EMPLOYEE_CACHE, key = "#employeeId")
     public EmergencyContactDto updateEmployeeEmergencyContact(UUID employeeId, EmergencyContactDto emergencyContactDto) {
-        EmployeeProfile employee = employeeRepository.findById(employeeId)
-                .orElseThrow(() -> new EmployeeNotFoundException(employeeId));
-        employee.setEmergencyContact(employeeMapper.emergencyContactDtoToEmergencyContact(emergencyContactDto));
-        EmployeeProfile updatedEmployee = employeeRepository.save(employee);
-        return employeeMapper.emergencyContactToEmergencyContactDto(updatedEmployee.getEmergencyContact());
+        EmergencyContact emergencyContact = employeeMapper.emergencyContactDtoToEmergencyContact(emergencyContactDto);
+        if (employeeEntityCache.contains(employeeId)) {
+            findEmployee(employeeId).setEmergencyContact(emergencyContact);
+        } else {
+            afterRowUpdate(employeeId, employeeRepository.updateEmergencyContactRow(
+                    employeeId, emergencyContact, LocalDateTime.now(), currentAuditor()));
+        }
+        afterPartialUpdate(employeeId);
+        return employeeMapper.emergencyContactToEmergencyContactDto(emergencyContact);
     }
 
     @Transactional(readOnly = true)
     public Page<EmployeeList> getAllEmployeesSorted(int page, int size, String sortBy, Sort.Direction direction) {
-        Pageable pageable = PageRequest.of(page, size, direction, sortBy);
-        return employeeRepository.findAll(pageable)
-                .map(employeeMapper::employeeToEmployeeList);
+        EmployeeSortField sortField = EmployeeSortField.fromProperty(sortBy);
+        // id breaks ties so the order matches the (column, id) index and stays stable across pages
+        Sort sort = Sort.by(direction, sortField.getProperty()).and(Sort.by(direction, "id"));
+        return employeeRepository.findAllSummaries(PageRequest.of(page, size, sort));
     }
 
     @Transactional(readOnly = true)
     public Page<EmployeeList> getEmployeesByJobTitle(String jobTitle, int page, int size) {
         Pageable pageable = PageRequest.of(page, size);
-        return employeeRepository.findByJobTitle(jobTitle, pageable)
-                .map(employeeMapper::employeeToEmployeeList);
+        return employeeRepository.findSummariesByJobTitle(jobTitle, pageable);
+    }
+
+    @Transactional(readOnly = true)
+    public Page<EmployeeList> getFilteredEmployees(EmployeeFilter filter, int page, int size,
+                                                   String sortBy, Sort.Direction direction) {
+        checkHiredRange(filter);
+        EmployeeSortField sortField = EmployeeSortField.fromProperty(sortBy);
+        Sort sort = Sort.by(direction, sortField.getProperty()).and(Sort.by(direction, "id"));
+        return employeeRepository.findSummaries(EmployeeSpecifications.matching(filter), PageRequest.of(page, size, sort));
+    }
+
+    /**
+     * Sparse variant of {@link #getEmployeeById}: only the requested fields, keyed by JSON
+     * property name, read from their columns alone. Bypasses the employee cache, which holds
+     * full responses.
+     */
+    @Transactional(readOnly = true)
+    public Map<String, Object> getEmployeeFields(UUID employeeId, Set<EmployeeField> fields) {
+        return employeeRepository.findFieldsById(employeeId, fields)
+                .map(this::toFieldsResponse)
+                .orElseThrow(() -> new EmployeeNotFoundException(employeeId));
+    }
+
+    /**
+     * Sparse variant of the list endpoints: a page of employees matching the filter with only
+     * the requested fields. A null sortBy keeps the unsorted order of {@link #getAllEmployees}.
+     */
+    @Transactional(readOnly = true)
+    public Page<Map<String, Object>> getEmployeeFieldsPage(EmployeeFilter filter, Set<EmployeeField> fields,
+                                                          int page, int size,
+                                                          String sortBy, Sort.Direction direction) {
+        checkHiredRange(filter);
+        Sort sort = Sort.unsorted();
+        if (sortBy != null) {
+            EmployeeSortField sortField = EmployeeSortField.fromProperty(sortBy);
+            sort = Sort.by(direction, sortField.getProperty()).and(Sort.by(direction, "id"));
+        }
+        return employeeRepository.findFields(EmployeeSpecifications.matching(filter), fields, PageRequest.of(page, size, sort))
+                .map(this::toFieldsResponse);
     }
 
+    /**
+     * Sparse variant of {@link #searchEmployeesByName}: the same matches in the same order,
+     * with only the requested fields. Always read from the database.
+     */
     @Transactional(readOnly = true)
+    public Page<Map<String, Object>> searchEmployeeFieldsByName(String name, Set<EmployeeField> fields, int page, int size) {
+        return employeeRepository.findFieldsByName(name, fields, PageRequest.of(page, size))
+                .map(this::toFieldsResponse);
+    }
+
+    // SUPPORTS: counts are served from memory; only a stale reseed touches the database
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public EmployeeFacets getEmployeeFacets() {
+        return employeeFacetCounts.getFacets();
+    }
+
+    // SUPPORTS: index hits are answered without opening a transaction or borrowing a connection
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public Page<EmployeeList> searchEmployeesByName(String name, int page, int size) {
         Pageable pageable = PageRequest.of(page, size);
-        return employeeRepository.findByFirstNameContainingOrLastNameContaining(name, name, pageable)
-                .map(employeeMapper::employeeToEmployeeList);
+        if (employeeSearchIndex.canAnswer(name)) {
+            return employeeSearchIndex.search(name, pageable);
+        }
+        String needle = name.trim().toLowerCase(Locale.ROOT);
+        return employeeRepository.searchSummariesByName(needle, EmployeeSpecifications.escapeLike(needle), pageable);
+    }
+
+    private EmployeeProfile findEmployee(UUID employeeId) {
+        return employeeRepository.findById(employeeId)
+                .orElseThrow(() -> new EmployeeNotFoundException(employeeId));
+    }
+
+    private void afterRowUpdate(UUID employeeId, Optional<UUID> updated) {
+        if (updated.isEmpty()) {
+            throw new EmployeeNotFoundException(employeeId);
+        }
+        employeeEntityCache.evictAfterCommit(employeeId);
+    }
+
+    private String currentAuditor() {
+        return auditorAware.getCurrentAuditor().orElse(null);
+    }
+
+    private void afterPartialUpdate(UUID employeeId) {
+        // Sub-resource updates leave the summary fields untouched, so no summary is attached
+        eventPublisher.publishEvent(EmployeeChangedEvent.updated(employeeId, null));
+    }
+
+    private static void checkHiredRange(EmployeeFilter filter) {
+        if (filter.getHiredFrom() != null && filter.getHiredTo() != null
+                && filter.getHiredFrom().isAfter(filter.getHiredTo())) {
+            throw new InvalidFilterException("hiredFrom must not be after hiredTo");
+        }
+    }
+
+    // Embedded values leave the tuple query as entities and are mapped to their DTOs like in EmployeeResponse
+    private Map<String, Object> toFieldsResponse(Map<EmployeeField, Object> row) {
+        Map<String, Object> response = new LinkedHashMap<>();
+        row.forEach((field, value) -> response.put(field.getName(), switch (value) {
+            case Address address -> employeeMapper.addressToAddressDto(address);
+            case ContactInformation contact -> employeeMapper.contactInformationToContactInformationDto(contact);
+            case EmergencyContact emergency -> employeeMapper.emergencyContactToEmergencyContactDto(emergency);
+            case null, default -> value;
+        }));
+        return response;
+    }
+
+    private static EmployeeChangedEvent.Facets facetsOf(DeletedEmployee employee) {
+        return new EmployeeChangedEvent.Facets(employee.getDepartment(), employee.getJobTitle());
     }
-}
\ No newline at end of file
+}
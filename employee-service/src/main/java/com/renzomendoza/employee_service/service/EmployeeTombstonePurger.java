@@ -0,0 +1,73 @@
+package com.renzomendoza.employee_service.service;
+
+import com.renzomendoza.employee_service.repository.EmployeeRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Periodically drops tombstones older than the delta-sync retention. Tokens from
+ * before the cutoff are refused with 410, so no client relies on a purged tombstone.
+ * Every replica purges; the delete is idempotent.
+ */
+@Slf4j
+@Component
+public class EmployeeTombstonePurger implements SmartLifecycle {
+
+    private final EmployeeRepository employeeRepository;
+    private final Duration retention;
+    private final Duration interval;
+
+    private volatile boolean running;
+    private ScheduledExecutorService scheduler;
+
+    public EmployeeTombstonePurger(EmployeeRepository employeeRepository,
+                                   @Value("${employee.changes.tombstone-retention:30d}") Duration retention,
+                                   @Value("${employee.changes.tombstone-purge-interval:1h}") Duration interval) {
+        this.employeeRepository = employeeRepository;
+        this.retention = retention;
+        this.interval = interval;
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "employee-tombstone-purger");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(this::purge, interval.toMillis(), interval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    void purge() {
+        try {
+            int purged = employeeRepository.deleteTombstonesBefore(LocalDateTime.now().minus(retention));
+            if (purged > 0) {
+                log.info("Purged {} employee tombstones older than {}", purged, retention);
+            }
+        } catch (RuntimeException e) {
+            log.warn("Tombstone purge failed, retrying in {}: {}", interval, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.renzomendoza.employee_service.utils;
+
+import com.renzomendoza.employee_service.exception.InvalidChangeTokenException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Opaque delta-sync position: the (changeXid, id) of the last change a client has
+ * seen, and when the token was issued, which bounds how far back its tombstones must reach.
+ */
+public record ChangeToken(long changeXid, UUID id, Instant issuedAt) {
+
+    private static final UUID NO_ID = new UUID(0, 0);
+
+    /**
+     * Position before every change, for a client syncing for the first time
+     */
+    public static ChangeToken initial(Instant issuedAt) {
+        return new ChangeToken(0, NO_ID, issuedAt);
+    }
+
+    // Layout: <changeXid>:<id>:<issuedAt epoch seconds>
+    public String encode() {
+        String raw = changeXid + ":" + id + ":" + issuedAt.getEpochSecond();
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static ChangeToken decode(String token) {
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8).split(":");
+            if (parts.length != 3) {
+                throw new InvalidChangeTokenException(token);
+            }
+            long changeXid = Long.parseLong(parts[0]);
+            if (changeXid < 0) {
+                throw new InvalidChangeTokenException(token);
+            }
+            return new ChangeToken(changeXid, UUID.fromString(parts[1]),
+                    Instant.ofEpochSecond(Long.parseLong(parts[2])));
+        } catch (IllegalArgumentException e) {
+            throw new InvalidChangeTokenException(token);
+        }
+    }
+}
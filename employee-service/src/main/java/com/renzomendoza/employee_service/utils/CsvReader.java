@@ -0,0 +1,104 @@
+package com.renzomendoza.employee_service.utils;
+
+import com.renzomendoza.employee_service.exception.InvalidImportFileException;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads RFC 4180 CSV one record at a time, as written by the CSV export: comma separated,
+ * fields quoted when they hold a comma, quote or line break, quotes doubled inside them.
+ * <p>
+ * Only the current record is held in memory, so a file of any size is read in constant
+ * space. A leading byte order mark (as saved by spreadsheet tools) and blank lines are
+ * skipped. The caller buffers and closes the reader.
+ */
+public class CsvReader {
+
+    private static final int BOM = '\uFEFF';
+
+    private final Reader reader;
+    private final int maxFieldLength;
+    private int peeked = -2;
+    private boolean started;
+
+    public CsvReader(Reader reader, int maxFieldLength) {
+        this.reader = reader;
+        this.maxFieldLength = maxFieldLength;
+    }
+
+    /**
+     * The next record's fields, or null at the end of the input
+     */
+    public List<String> readRecord() throws IOException {
+        if (!started) {
+            started = true;
+            if (peek() == BOM) {
+                read();
+            }
+        }
+        while (peek() == '\r' || peek() == '\n') {
+            read();
+        }
+        if (peek() == -1) {
+            return null;
+        }
+
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        while (true) {
+            int c = read();
+            if (quoted) {
+                if (c == -1) {
+                    throw new InvalidImportFileException("Quoted field is not closed before the end of the file");
+                }
+                if (c == '"') {
+                    if (peek() == '"') {
+                        append(field, (char) read());
+                    } else {
+                        quoted = false;
+                    }
+                } else {
+                    append(field, (char) c);
+                }
+            } else if (c == '"' && field.isEmpty()) {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\r' || c == '\n' || c == -1) {
+                if (c == '\r' && peek() == '\n') {
+                    read();
+                }
+                fields.add(field.toString());
+                return fields;
+            } else {
+                append(field, (char) c);
+            }
+        }
+    }
+
+    private void append(StringBuilder field, char c) {
+        // Also stops an unbalanced quote from reading the rest of the file into one field
+        if (field.length() >= maxFieldLength) {
+            throw new InvalidImportFileException("Field is longer than " + maxFieldLength + " characters");
+        }
+        field.append(c);
+    }
+
+    private int peek() throws IOException {
+        if (peeked == -2) {
+            peeked = reader.read();
+        }
+        return peeked;
+    }
+
+    private int read() throws IOException {
+        int c = peek();
+        peeked = -2;
+        return c;
+    }
+}
@@ -0,0 +1,69 @@
+package com.renzomendoza.employee_service.utils;
+
+import com.renzomendoza.employee_service.exception.InvalidCursorException;
+import com.renzomendoza.employee_service.exception.InvalidSortFieldException;
+import com.renzomendoza.employee_service.repository.EmployeeSortField;
+import org.springframework.data.domain.Sort;
+
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Opaque keyset position for the employee listings: the ordering it belongs to,
+ * the sort key of the last row returned and its id as a tie-breaker. A null
+ * sort key is encoded as such, so paging continues past rows missing the value.
+ */
+public record EmployeeCursor(EmployeeSortField sortField, Sort.Direction direction, String sortKey, UUID id) {
+
+    // Layout: <36-char id><A|D><sort property>:<sort key>, or <36-char id><A|D><sort property>! for a null key
+    private static final int ID_LENGTH = 36;
+    private static final char KEY_SEPARATOR = ':';
+    private static final char NULL_KEY = '!';
+
+    public String encode() {
+        String raw = id + (direction.isAscending() ? "A" : "D") + sortField.getProperty()
+                + (sortKey == null ? String.valueOf(NULL_KEY) : KEY_SEPARATOR + sortKey);
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static EmployeeCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = separatorIndex(raw);
+            if (separator < 0) {
+                throw new InvalidCursorException(cursor);
+            }
+            UUID id = UUID.fromString(raw.substring(0, ID_LENGTH));
+            Sort.Direction direction = switch (raw.charAt(ID_LENGTH)) {
+                case 'A' -> Sort.Direction.ASC;
+                case 'D' -> Sort.Direction.DESC;
+                default -> throw new InvalidCursorException(cursor);
+            };
+            EmployeeSortField sortField = EmployeeSortField.fromProperty(raw.substring(ID_LENGTH + 1, separator));
+            String sortKey = null;
+            if (raw.charAt(separator) == KEY_SEPARATOR) {
+                sortKey = raw.substring(separator + 1);
+                sortField.parseKey(sortKey);
+            } else if (separator != raw.length() - 1) {
+                throw new InvalidCursorException(cursor);
+            }
+            return new EmployeeCursor(sortField, direction, sortKey, id);
+        } catch (IllegalArgumentException | DateTimeException | InvalidSortFieldException e) {
+            throw new InvalidCursorException(cursor);
+        }
+    }
+
+    // Property names hold neither marker, so the first one found ends the property
+    private static int separatorIndex(String raw) {
+        for (int i = ID_LENGTH + 1; i < raw.length(); i++) {
+            char c = raw.charAt(i);
+            if (c == KEY_SEPARATOR || c == NULL_KEY) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,46 @@
+package com.renzomendoza.employee_service.utils;
+
+import com.renzomendoza.employee_service.dto.employee.EmployeeList;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+/**
+ * ETags for employee resources, derived from the audited {@code updatedAt} column.
+ */
+public final class EmployeeETags {
+
+    private EmployeeETags() {
+    }
+
+    /**
+     * Strong ETag for a single employee, or null when the row has no update timestamp
+     */
+    public static String of(LocalDateTime updatedAt) {
+        if (updatedAt == null) {
+            return null;
+        }
+        return "\"" + Long.toHexString(micros(updatedAt)) + "\"";
+    }
+
+    /**
+     * Weak ETag for a page of employees: the newest update in the page plus the
+     * identity and order of its rows, so inserts and deletes also change it.
+     */
+    public static String weak(List<EmployeeList> rows, long total) {
+        long maxUpdated = 0;
+        long idsHash = 1;
+        for (EmployeeList row : rows) {
+            if (row.getUpdatedAt() != null) {
+                maxUpdated = Math.max(maxUpdated, micros(row.getUpdatedAt()));
+            }
+            idsHash = 31 * idsHash + (row.getId() == null ? 0 : row.getId().hashCode());
+        }
+        return "W/\"" + Long.toHexString(maxUpdated) + "-" + Long.toHexString(idsHash) + "-" + total + "\"";
+    }
+
+    private static long micros(LocalDateTime timestamp) {
+        return timestamp.toEpochSecond(ZoneOffset.UTC) * 1_000_000 + timestamp.getNano() / 1_000;
+    }
+}
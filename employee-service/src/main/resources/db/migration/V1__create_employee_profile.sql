@@ -0,0 +1,31 @@
+-- Baseline schema for employee_profile, matching the EmployeeProfile mapping.
+-- Databases previously managed by ddl-auto are baselined at this version instead.
+create table if not exists employee_profile
+(
+    id                             uuid         not null,
+    first_name                     varchar(255),
+    middle_name                    varchar(255),
+    last_name                      varchar(255),
+    gender                         varchar(255),
+    name_suffix                    varchar(255),
+    job_title                      varchar(255),
+    image_url                      varchar(255),
+    department                     varchar(255),
+    hired_date                     date,
+    birth_date                     date,
+    street                         varchar(255),
+    city                           varchar(255),
+    state                          varchar(255),
+    zip_code                       varchar(255),
+    phone_number                   varchar(255),
+    email                          varchar(255),
+    emergency_contact_first_name   varchar(255),
+    emergency_contact_last_name    varchar(255),
+    emergency_contact_relationship varchar(255),
+    emergency_contact_phone_number varchar(255),
+    created_at                     timestamp(6),
+    updated_at                     timestamp(6),
+    created_by                     varchar(255),
+    modified_by                    varchar(255),
+    constraint employee_profile_pkey primary key (id)
+);
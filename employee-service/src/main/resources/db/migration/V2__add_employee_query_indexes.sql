@@ -0,0 +1,21 @@
+-- Indexes for every employee_profile query path.
+
+-- getEmployeesByJobTitle
+create index if not exists idx_employee_profile_job_title on employee_profile (job_title);
+
+-- department filters and facet counts
+create index if not exists idx_employee_profile_department on employee_profile (department);
+
+-- keyset listing, seeks on (last_name, id)
+create index if not exists idx_employee_profile_last_name_id on employee_profile (last_name, id);
+
+-- name-ordered listings
+create index if not exists idx_employee_profile_last_first_id on employee_profile (last_name, first_name, id);
+
+-- conditional GETs and change tracking
+create index if not exists idx_employee_profile_updated_at on employee_profile (updated_at);
+
+-- contains-search on names (LIKE '%x%') when the in-memory index is not available
+create extension if not exists pg_trgm;
+create index if not exists idx_employee_profile_first_name_trgm on employee_profile using gin (first_name gin_trgm_ops);
+create index if not exists idx_employee_profile_last_name_trgm on employee_profile using gin (last_name gin_trgm_ops);
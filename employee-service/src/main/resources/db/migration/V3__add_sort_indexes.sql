@@ -0,0 +1,13 @@
+-- One (column, id) index per whitelisted sort field (EmployeeSortField), so /sorted
+-- pages and keyset seeks read rows in index order instead of sorting the table.
+-- last_name is already covered by idx_employee_profile_last_name_id.
+
+create index if not exists idx_employee_profile_first_name_id on employee_profile (first_name, id);
+create index if not exists idx_employee_profile_job_title_id on employee_profile (job_title, id);
+create index if not exists idx_employee_profile_department_id on employee_profile (department, id);
+create index if not exists idx_employee_profile_updated_at_id on employee_profile (updated_at, id);
+
+-- The single-column indexes are prefixes of the new ones and would only add write cost
+drop index if exists idx_employee_profile_job_title;
+drop index if exists idx_employee_profile_department;
+drop index if exists idx_employee_profile_updated_at;
@@ -0,0 +1,8 @@
+-- Indexes for the /filter criteria not already covered by earlier migrations.
+-- department, job_title and the name columns are indexed in V2/V3.
+
+-- hire date ranges
+create index if not exists idx_employee_profile_hired_date on employee_profile (hired_date);
+
+-- city/state filters; state alone uses the leading column
+create index if not exists idx_employee_profile_state_city on employee_profile (state, city);
@@ -0,0 +1,37 @@
+-- Second half of V5, run outside a transaction (see the .conf file) so each step commits
+-- on its own and no lock is held for longer than one batch.
+
+-- Rows written since V5 already carry their xid from the trigger; older ones get one per batch
+do
+$$
+declare
+    last_id   uuid := '00000000-0000-0000-0000-000000000000';
+    batch_end uuid;
+begin
+    loop
+        -- Walks the primary key, so each batch is an index range rather than a scan for nulls
+        select max(id) into batch_end
+        from (select id from employee_profile where id > last_id order by id limit 10000) batch;
+        exit when batch_end is null;
+
+        update employee_profile
+        set change_xid = pg_current_xact_id()
+        where id > last_id and id <= batch_end and change_xid is null;
+
+        last_id := batch_end;
+        commit;
+    end loop;
+end
+$$;
+
+-- NOT NULL would scan the table under an ACCESS EXCLUSIVE lock. Validating a check constraint
+-- scans under a lock that lets writes through, and SET NOT NULL then trusts the constraint.
+alter table employee_profile
+    add constraint employee_profile_change_xid_not_null check (change_xid is not null) not valid;
+alter table employee_profile validate constraint employee_profile_change_xid_not_null;
+alter table employee_profile alter column change_xid set not null;
+alter table employee_profile drop constraint employee_profile_change_xid_not_null;
+
+-- A plain CREATE INDEX would block writes for the whole build. A failed concurrent build leaves
+-- an invalid index behind, which must be dropped before this migration is repaired and rerun.
+create index concurrently if not exists idx_employee_profile_change_xid_id on employee_profile (change_xid, id);
@@ -0,0 +1,59 @@
+-- Change tracking behind GET /api/v1/employees/changes.
+--
+-- Every write stamps its row with the id of the writing transaction (xid8, which never wraps).
+-- Readers only return changes of transactions older than their snapshot's xmin, all of which
+-- have finished, so no change can commit behind a position a client has already passed.
+-- A plain sequence would not do: its values are taken in one order and committed in another.
+
+-- Nullable with no default first, so adding the column only touches the catalog; a volatile
+-- default would rewrite the whole table under an ACCESS EXCLUSIVE lock. The default set next
+-- only applies to new rows. V5_1 backfills existing rows in batches, then adds NOT NULL and the index.
+alter table employee_profile add column change_xid xid8;
+alter table employee_profile alter column change_xid set default pg_current_xact_id();
+
+-- One row per deleted employee, so deletions reach delta-sync clients too.
+-- Rows older than employee.changes.tombstone-retention are purged by the service.
+create table if not exists employee_tombstone
+(
+    id         uuid         not null,
+    change_xid xid8         not null default pg_current_xact_id(),
+    deleted_at timestamp(6) not null default localtimestamp,
+    constraint employee_tombstone_pkey primary key (id)
+);
+
+create index if not exists idx_employee_tombstone_change_xid_id on employee_tombstone (change_xid, id);
+create index if not exists idx_employee_tombstone_deleted_at on employee_tombstone (deleted_at);
+
+create or replace function employee_profile_track_change() returns trigger
+    language plpgsql as
+$$
+begin
+    new.change_xid := pg_current_xact_id();
+    if tg_op = 'INSERT' then
+        -- An id can come back (e.g. a re-import); the live row supersedes its tombstone
+        delete from employee_tombstone where id = new.id;
+    end if;
+    return new;
+end
+$$;
+
+create trigger employee_profile_track_change
+    before insert or update on employee_profile
+    for each row
+execute function employee_profile_track_change();
+
+create or replace function employee_profile_leave_tombstone() returns trigger
+    language plpgsql as
+$$
+begin
+    insert into employee_tombstone (id)
+    values (old.id)
+    on conflict (id) do update set change_xid = excluded.change_xid, deleted_at = excluded.deleted_at;
+    return old;
+end
+$$;
+
+create trigger employee_profile_leave_tombstone
+    after delete on employee_profile
+    for each row
+execute function employee_profile_leave_tombstone();
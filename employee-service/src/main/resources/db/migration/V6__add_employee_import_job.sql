@@ -0,0 +1,23 @@
+-- Progress and outcome of CSV imports behind POST /api/v1/employees/import.
+--
+-- Kept in the database rather than in memory so any replica can answer the status poll
+-- of a job that another replica is running. Rows themselves are staged in a temporary
+-- table per import (see EmployeeImportService), which is never WAL-logged.
+create table if not exists employee_import_job
+(
+    id            uuid         not null,
+    status        varchar(16)  not null,
+    file_name     varchar(255),
+    rows_read     integer      not null default 0,
+    rows_imported integer      not null default 0,
+    rows_failed   integer      not null default 0,
+    -- Per-row errors, capped at employee.import.max-reported-errors entries
+    errors        jsonb,
+    message       varchar(1000),
+    created_by    varchar(255),
+    created_at    timestamp(6) not null,
+    finished_at   timestamp(6),
+    constraint employee_import_job_pkey primary key (id)
+);
+
+create index if not exists idx_employee_import_job_finished_at on employee_import_job (finished_at);
@@ -0,0 +1,3 @@
+-- The database fallback of name search matches middle names too, case-insensitively (ILIKE),
+-- like the in-memory index; first_name and last_name have their trigram indexes since V2.
+create index if not exists idx_employee_profile_middle_name_trgm on employee_profile using gin (middle_name gin_trgm_ops);
@@ -0,0 +1,139 @@
+package com.renzomendoza.employee_service.benchmark;
+
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.apache.tomcat.util.threads.VirtualThreadExecutor;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.web.embedded.tomcat.TomcatServletWebServerFactory;
+import org.springframework.boot.web.server.WebServer;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Compares Tomcat's platform thread pool with virtual-thread request execution
+ * on a handler that blocks like a JDBC or Keycloak call does.
+ * <p>
+ * Run with {@code mvn test -Pbenchmark}. Prints peak in-flight requests,
+ * throughput and latency percentiles for both modes.
+ */
+@Tag("benchmark")
+class RequestThreadingBenchmarkTest {
+
+    private static final int CONCURRENT_REQUESTS = 2_000;
+    private static final Duration SIMULATED_IO = Duration.ofMillis(100);
+
+    @Test
+    void virtualThreads_shouldServeMoreRequestsInFlight_thanPlatformPool() throws Exception {
+        Result platform = run(false);
+        Result virtual = run(true);
+
+        System.out.println(Result.HEADER);
+        System.out.println(platform);
+        System.out.println(virtual);
+
+        // Tomcat's default pool caps platform mode at 200 concurrent requests
+        assertTrue(platform.peakInFlight() <= 200, platform.toString());
+        assertTrue(virtual.peakInFlight() > 1_000, virtual.toString());
+        assertTrue(virtual.p99Millis() < platform.p99Millis(), virtual + " vs " + platform);
+    }
+
+    private static Result run(boolean virtualThreads) throws Exception {
+        BlockingServlet servlet = new BlockingServlet();
+        TomcatServletWebServerFactory factory = new TomcatServletWebServerFactory(0);
+        factory.addInitializers(context -> context.addServlet("blocking", servlet).addMapping("/blocking"));
+        if (virtualThreads) {
+            // Same executor Spring Boot installs for spring.threads.virtual.enabled=true
+            factory.addProtocolHandlerCustomizers(protocol ->
+                    protocol.setExecutor(new VirtualThreadExecutor("tomcat-handler-")));
+        }
+        WebServer server = factory.getWebServer();
+        server.start();
+        try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            HttpClient client = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .executor(clients)
+                    .build();
+            URI uri = URI.create("http://localhost:" + server.getPort() + "/blocking");
+
+            // Warm up connections and JIT
+            send(client, uri, 200);
+            servlet.peakInFlight.set(0);
+
+            long start = System.nanoTime();
+            long[] latencies = send(client, uri, CONCURRENT_REQUESTS);
+            long elapsedNanos = System.nanoTime() - start;
+
+            Arrays.sort(latencies);
+            return new Result(virtualThreads ? "virtual" : "platform(200)",
+                    servlet.peakInFlight.get(),
+                    CONCURRENT_REQUESTS * 1_000_000_000.0 / elapsedNanos,
+                    percentile(latencies, 50), percentile(latencies, 99));
+        } finally {
+            server.stop();
+        }
+    }
+
+    private static long[] send(HttpClient client, URI uri, int count) {
+        List<CompletableFuture<Long>> calls = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            long sentAt = System.nanoTime();
+            calls.add(client.sendAsync(HttpRequest.newBuilder(uri).build(), HttpResponse.BodyHandlers.discarding())
+                    .thenApply(response -> {
+                        assertEquals(200, response.statusCode());
+                        return System.nanoTime() - sentAt;
+                    }));
+        }
+        return calls.stream().mapToLong(CompletableFuture::join).toArray();
+    }
+
+    private static long percentile(long[] sortedNanos, int percentile) {
+        int index = (int) Math.ceil(percentile / 100.0 * sortedNanos.length) - 1;
+        return sortedNanos[Math.max(index, 0)] / 1_000_000;
+    }
+
+    private record Result(String mode, int peakInFlight, double requestsPerSecond, long p50Millis, long p99Millis) {
+
+        static final String HEADER = String.format("%-14s %10s %10s %8s %8s", "mode", "in-flight", "req/s", "p50 ms", "p99 ms");
+
+        @Override
+        public String toString() {
+            return String.format("%-14s %10d %10.0f %8d %8d", mode, peakInFlight, requestsPerSecond, p50Millis, p99Millis);
+        }
+    }
+
+    private static class BlockingServlet extends HttpServlet {
+
+        private final AtomicInteger inFlight = new AtomicInteger();
+        private final AtomicInteger peakInFlight = new AtomicInteger();
+
+        @Override
+        protected void doGet(HttpServletRequest request, HttpServletResponse response) throws IOException {
+            peakInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(SIMULATED_IO);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                inFlight.decrementAndGet();
+            }
+            response.setContentType("text/plain");
+            response.getWriter().write("ok");
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.renzomendoza.employee_service.datasource;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class ReadReplicaDataSourceTest {
+
+    private DataSource primary;
+    private DataSource replicaA;
+    private DataSource replicaB;
+    private ReplicaLagMonitor lagMonitor;
+    private ReadYourWritesTracker readYourWrites;
+    private ReadReplicaDataSource dataSource;
+
+    @BeforeEach
+    void setUp() {
+        primary = mock(DataSource.class);
+        replicaA = mock(DataSource.class);
+        replicaB = mock(DataSource.class);
+        lagMonitor = mock(ReplicaLagMonitor.class);
+        readYourWrites = mock(ReadYourWritesTracker.class);
+
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        replicas.put("a", replicaA);
+        replicas.put("b", replicaB);
+        dataSource = new ReadReplicaDataSource(primary, replicas, lagMonitor, readYourWrites);
+    }
+
+    @Test
+    void chooseReplica_shouldRoundRobinAcrossUsableReplicas() {
+        when(lagMonitor.isUsable(anyString())).thenReturn(true);
+
+        assertEquals("a", dataSource.chooseReplica());
+        assertEquals("b", dataSource.chooseReplica());
+        assertEquals("a", dataSource.chooseReplica());
+    }
+
+    @Test
+    void chooseReplica_shouldSkipLaggingReplica() {
+        when(lagMonitor.isUsable("a")).thenReturn(false);
+        when(lagMonitor.isUsable("b")).thenReturn(true);
+
+        assertEquals("b", dataSource.chooseReplica());
+        assertEquals("b", dataSource.chooseReplica());
+    }
+
+    @Test
+    void getConnection_shouldUsePrimary_whenNoReplicaIsUsable() throws SQLException {
+        Connection connection = mock(Connection.class);
+        when(primary.getConnection()).thenReturn(connection);
+
+        assertSame(connection, dataSource.getConnection());
+        verifyNoInteractions(replicaA, replicaB);
+    }
+
+    @Test
+    void getConnection_shouldUsePrimary_afterTheClientsOwnWrite() throws SQLException {
+        Connection connection = mock(Connection.class);
+        when(readYourWrites.currentClientWroteRecently()).thenReturn(true);
+        when(primary.getConnection()).thenReturn(connection);
+
+        assertSame(connection, dataSource.getConnection());
+        verifyNoInteractions(lagMonitor, replicaA, replicaB);
+    }
+
+    @Test
+    void getConnection_shouldFallBackToPrimary_andMarkReplicaDown_whenReplicaRefuses() throws SQLException {
+        Connection connection = mock(Connection.class);
+        SQLException refused = new SQLException("connection refused");
+        when(lagMonitor.isUsable("a")).thenReturn(true);
+        when(replicaA.getConnection()).thenThrow(refused);
+        when(primary.getConnection()).thenReturn(connection);
+
+        assertSame(connection, dataSource.getConnection());
+        verify(lagMonitor).markDown("a", refused);
+    }
+}
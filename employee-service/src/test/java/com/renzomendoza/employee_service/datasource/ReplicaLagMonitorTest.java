@@ -0,0 +1,50 @@
+package com.renzomendoza.employee_service.datasource;
+
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+class ReplicaLagMonitorTest {
+
+    @Test
+    void checkAll_shouldKeepOnlyStreamingReplicasWithinTheLimit_inRotation() throws SQLException {
+        // Arrange
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        replicas.put("caught-up", replicaReporting(0));
+        replicas.put("lagging", replicaReporting(5_000));
+        replicas.put("disconnected", replicaReporting(-1));
+        ReplicaLagMonitor monitor = new ReplicaLagMonitor(replicas, Duration.ofSeconds(1), Duration.ofSeconds(5));
+
+        // Act
+        monitor.checkAll();
+
+        // Assert
+        assertTrue(monitor.isUsable("caught-up"));
+        assertFalse(monitor.isUsable("lagging"));
+        assertFalse(monitor.isUsable("disconnected"), "A replica without a WAL receiver only ages");
+    }
+
+    private static DataSource replicaReporting(long lagMillis) throws SQLException {
+        DataSource dataSource = mock(DataSource.class);
+        Connection connection = mock(Connection.class);
+        Statement statement = mock(Statement.class);
+        ResultSet result = mock(ResultSet.class);
+        when(dataSource.getConnection()).thenReturn(connection);
+        when(connection.createStatement()).thenReturn(statement);
+        when(statement.executeQuery(anyString())).thenReturn(result);
+        when(result.next()).thenReturn(true);
+        when(result.getLong(1)).thenReturn(lagMillis);
+        return dataSource;
+    }
+}
@@ -0,0 +1,105 @@
+package com.renzomendoza.employee_service.event;
+
+import com.renzomendoza.employee_service.cache.EmployeeEntityCache;
+import com.renzomendoza.employee_service.config.CacheConfig;
+import com.renzomendoza.employee_service.service.EmployeeFacetCounts;
+import com.renzomendoza.employee_service.service.EmployeeSearchIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class EmployeeChangeListenerTest {
+
+    private Cache cache;
+    private EmployeeSearchIndex searchIndex;
+    private EmployeeFacetCounts facetCounts;
+    private EmployeeEntityCache entityCache;
+    private EmployeeEventStream eventStream;
+    private EmployeeChangeListener listener;
+
+    @BeforeEach
+    void setUp() {
+        CacheManager cacheManager = mock(CacheManager.class);
+        cache = mock(Cache.class);
+        when(cacheManager.getCache(CacheConfig.EMPLOYEE_CACHE)).thenReturn(cache);
+        searchIndex = mock(EmployeeSearchIndex.class);
+        facetCounts = mock(EmployeeFacetCounts.class);
+        entityCache = mock(EmployeeEntityCache.class);
+        eventStream = mock(EmployeeEventStream.class);
+        listener = new EmployeeChangeListener(new DataSourceProperties(), cacheManager, searchIndex,
+                facetCounts, entityCache, eventStream);
+    }
+
+    @Test
+    void evict_shouldOnlyEvictTheSpringCache_forThisReplicasOwnChanges() {
+        // Arrange
+        UUID employeeId = UUID.randomUUID();
+
+        // Act
+        UUID remote = listener.evict(EmployeeChangeNotifier.ORIGIN + ":UPDATED:" + employeeId);
+
+        // Assert
+        assertNull(remote);
+        verify(cache).evict(employeeId);
+        verifyNoInteractions(searchIndex, facetCounts, entityCache, eventStream);
+    }
+
+    @Test
+    void evict_shouldInvalidateEverything_forChangesFromAnotherReplica() {
+        // Arrange
+        UUID employeeId = UUID.randomUUID();
+
+        // Act
+        UUID remote = listener.evict("other-replica:DELETED:" + employeeId);
+
+        // Assert
+        assertEquals(employeeId, remote, "Returned for the caller to reload into the search index");
+        verify(cache).evict(employeeId);
+        verify(facetCounts).markStale();
+        verify(entityCache).evict(employeeId);
+        verify(eventStream).publish(employeeId, EmployeeChangedEvent.ChangeType.DELETED, null);
+    }
+
+    @Test
+    void evict_shouldReloadTheImportsTransaction_forAnImportFromAnotherReplica() {
+        // Act
+        UUID remote = listener.evict("other-replica:" + EmployeeChangeNotifier.IMPORTED + ":4711");
+
+        // Assert
+        assertNull(remote, "The import's rows are reloaded by transaction, not one by one");
+        verify(cache).clear();
+        verify(entityCache).evictAll();
+        verify(facetCounts).markStale();
+        verify(eventStream).reset();
+        verify(searchIndex).refreshTransaction(4711L);
+    }
+
+    @Test
+    void evict_shouldIgnoreThisReplicasOwnImport() {
+        // Act
+        listener.evict(EmployeeChangeNotifier.ORIGIN + ":" + EmployeeChangeNotifier.IMPORTED + ":4711");
+
+        // Assert
+        verifyNoInteractions(cache, searchIndex, facetCounts, entityCache, eventStream);
+    }
+
+    @Test
+    void evict_shouldIgnoreMalformedPayloads() {
+        // Act & Assert
+        assertNull(listener.evict("other-replica:UPDATED:not-a-uuid"));
+        assertNull(listener.evict("other-replica:RENAMED:" + UUID.randomUUID()));
+        assertNull(listener.evict("other-replica:" + UUID.randomUUID()), "The two-part form is no longer accepted");
+        assertNull(listener.evict("other-replica:UPDATED:" + UUID.randomUUID() + ":extra"));
+        assertNull(listener.evict("other-replica:" + EmployeeChangeNotifier.IMPORTED + ":not-a-xid"));
+        verify(cache, never()).evict(any());
+        verifyNoInteractions(searchIndex, facetCounts, entityCache, eventStream);
+    }
+}
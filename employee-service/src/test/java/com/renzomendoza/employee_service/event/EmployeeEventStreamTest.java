@@ -0,0 +1,126 @@
+package com.renzomendoza.employee_service.event;
+
+import com.renzomendoza.employee_service.exception.StreamCapacityExceededException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EmployeeEventStreamTest {
+
+    private final EmployeeEventStream stream =
+            new EmployeeEventStream(16, 3, 1, Duration.ofMinutes(1), Duration.ofSeconds(15));
+
+    @AfterEach
+    void tearDown() {
+        stream.stop();
+    }
+
+    @Test
+    void eventsAfter_shouldReplayOnlyEventsNewerThanTheLastEventId() {
+        // Arrange
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        stream.publish(first, EmployeeChangedEvent.ChangeType.CREATED, null);
+        stream.publish(second, EmployeeChangedEvent.ChangeType.DELETED, null);
+
+        // Act
+        List<EmployeeEventStream.StreamEvent> missed = stream.eventsAfter(eventId(1));
+
+        // Assert
+        assertEquals(1, missed.size());
+        assertEquals(second, missed.get(0).data().getId());
+        assertEquals(EmployeeChangedEvent.ChangeType.DELETED, missed.get(0).data().getType());
+        assertEquals(eventId(2), missed.get(0).id());
+        assertTrue(stream.eventsAfter(eventId(2)).isEmpty());
+    }
+
+    @Test
+    void eventsAfter_shouldAskForReset_WhenEventsAreGoneOrIdIsForeign() {
+        // Arrange: the replay buffer keeps the last 3 of 5 events
+        for (int i = 0; i < 5; i++) {
+            stream.publish(UUID.randomUUID(), EmployeeChangedEvent.ChangeType.UPDATED, null);
+        }
+
+        // Act & Assert
+        assertEquals(3, stream.eventsAfter(eventId(2)).size());
+        assertNull(stream.eventsAfter(eventId(1)));
+        assertNull(stream.eventsAfter(eventId(9)));
+        assertNull(stream.eventsAfter("0-1"));
+        assertNull(stream.eventsAfter("not-an-id"));
+    }
+
+    @Test
+    void reset_shouldSendEarlierLastEventIdsToAReset() {
+        // Arrange
+        stream.publish(UUID.randomUUID(), EmployeeChangedEvent.ChangeType.CREATED, null);
+
+        // Act
+        stream.reset();
+        List<EmployeeEventStream.StreamEvent> afterReset = stream.eventsAfter(eventId(2));
+        stream.publish(UUID.randomUUID(), EmployeeChangedEvent.ChangeType.UPDATED, null);
+
+        // Assert
+        assertEquals(eventId(2), EmployeeEventStream.StreamEvent.reset(2).id());
+        assertEquals(List.of(), afterReset, "Reconnecting with the reset's id resumes without another reset");
+        assertNull(stream.eventsAfter(eventId(1)), "Events before the reset are not replayed");
+        assertEquals(1, stream.eventsAfter(eventId(2)).size());
+        assertEquals(eventId(3), stream.eventsAfter(eventId(2)).get(0).id());
+    }
+
+    @Test
+    void subscribe_shouldRefuseSubscribersBeyondTheLimit() {
+        // Arrange
+        stream.subscribe(null);
+
+        // Act & Assert
+        assertThrows(StreamCapacityExceededException.class, () -> stream.subscribe(null));
+        assertEquals(1, stream.subscriberCount());
+    }
+
+    @Test
+    void subscribe_shouldNotOvershootTheLimit_underConcurrentSubscribes() throws InterruptedException {
+        // Arrange
+        EmployeeEventStream limited = new EmployeeEventStream(16, 3, 5, Duration.ofMinutes(1), Duration.ofSeconds(15));
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger refused = new AtomicInteger();
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            threads.add(Thread.ofVirtual().start(() -> {
+                try {
+                    start.await();
+                    limited.subscribe(null);
+                } catch (StreamCapacityExceededException e) {
+                    refused.incrementAndGet();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }));
+        }
+
+        // Act
+        start.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        // Assert
+        try {
+            assertEquals(5, limited.subscriberCount());
+            assertEquals(45, refused.get());
+        } finally {
+            limited.stop();
+        }
+    }
+
+    private static String eventId(long sequence) {
+        return new EmployeeEventStream.StreamEvent(sequence, null).id();
+    }
+}
@@ -0,0 +1,139 @@
+package com.renzomendoza.employee_service.metrics;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.PreparedStatement;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class QueryMetricsListenerTest {
+
+    private static final String SUMMARY_SQL =
+            "select e1_0.id,e1_0.first_name from employee_profile e1_0 where e1_0.id=?";
+
+    private SimpleMeterRegistry meterRegistry;
+    private QueryMetricsProperties properties;
+    private QueryMetricsListener listener;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        properties = new QueryMetricsProperties();
+        listener = new QueryMetricsListener(meterRegistry, properties);
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestQueryStats.end();
+    }
+
+    @Test
+    void afterQuery_shouldTimeStatementBySqlShapeAndOutcome() {
+        // Arrange
+        ExecutionInfo execution = execution(true);
+        List<QueryInfo> queries = List.of(query(SUMMARY_SQL));
+
+        // Act
+        listener.beforeQuery(execution, queries);
+        listener.afterQuery(execution, queries);
+        listener.beforeQuery(execution, queries);
+        listener.afterQuery(execution, queries);
+
+        // Assert
+        Timer timer = meterRegistry.get(QueryMetricsListener.TIMER)
+                .tag("method", RepositoryMethodContext.NONE)
+                .tag("sql", SUMMARY_SQL)
+                .tag("outcome", "success")
+                .timer();
+        assertEquals(2, timer.count());
+    }
+
+    @Test
+    void afterQuery_shouldCountStatementsOfTheCurrentRequest() {
+        // Arrange
+        RequestQueryStats stats = RequestQueryStats.begin();
+        ExecutionInfo execution = execution(true);
+        List<QueryInfo> queries = List.of(query(SUMMARY_SQL));
+
+        // Act
+        listener.beforeQuery(execution, queries);
+        listener.afterQuery(execution, queries);
+
+        // Assert
+        assertEquals(1, stats.getStatements());
+        assertTrue(stats.getStatementNanos() >= 0);
+    }
+
+    @Test
+    void describeParameters_shouldRedactValuesByDefault() throws Exception {
+        // Arrange
+        QueryInfo query = query(SUMMARY_SQL);
+        when(query.getParametersList()).thenReturn(List.of(List.of(
+                setString(1, "jane.doe@example.com"),
+                setObject(2, UUID.randomUUID()))));
+
+        // Act
+        String described = listener.describeParameters(List.of(query));
+
+        // Assert
+        assertEquals("[1=<String>, 2=<UUID>]", described);
+        assertFalse(described.contains("jane.doe"));
+    }
+
+    @Test
+    void describeParameters_shouldShowValuesWhenRedactionIsOff_andSummarizeBatches() throws Exception {
+        // Arrange
+        properties.setRedactParameters(false);
+        QueryInfo query = query(SUMMARY_SQL);
+        when(query.getParametersList()).thenReturn(List.of(
+                List.of(setString(1, "Engineering")),
+                List.of(setString(1, "Sales")),
+                List.of(setString(1, "Support"))));
+
+        // Act
+        String described = listener.describeParameters(List.of(query));
+
+        // Assert
+        assertEquals("[1='Engineering'] (+2 more)", described);
+    }
+
+    @Test
+    void sqlShape_shouldCollapseLiteralsInListsAndWhitespace() {
+        assertEquals("delete from employee_profile where id in (?) and department = ?",
+                SqlShapes.of("delete  from employee_profile\n where id in (?, ?, ?) and department = 'Sales'"));
+        assertEquals("select e1_0.id from employee_profile e1_0 limit ?",
+                SqlShapes.of("select e1_0.id from employee_profile e1_0 limit 20"));
+    }
+
+    private static ExecutionInfo execution(boolean success) {
+        ExecutionInfo execution = mock(ExecutionInfo.class);
+        when(execution.isSuccess()).thenReturn(success);
+        return execution;
+    }
+
+    private static QueryInfo query(String sql) {
+        QueryInfo query = mock(QueryInfo.class);
+        when(query.getQuery()).thenReturn(sql);
+        return query;
+    }
+
+    private static ParameterSetOperation setString(int index, String value) throws NoSuchMethodException {
+        return new ParameterSetOperation(PreparedStatement.class.getMethod("setString", int.class, String.class),
+                new Object[]{index, value});
+    }
+
+    private static ParameterSetOperation setObject(int index, Object value) throws NoSuchMethodException {
+        return new ParameterSetOperation(PreparedStatement.class.getMethod("setObject", int.class, Object.class),
+                new Object[]{index, value});
+    }
+}
@@ -0,0 +1,253 @@
+package com.renzomendoza.employee_service.repository;
+
+import com.renzomendoza.employee_service.dto.EmployeeFilter;
+import com.renzomendoza.employee_service.dto.employee.EmployeeList;
+import com.renzomendoza.employee_service.model.Address;
+import com.renzomendoza.employee_service.model.EmployeeProfile;
+import com.renzomendoza.employee_service.service.AuditorAwareImpl;
+import com.renzomendoza.employee_service.utils.EmployeeCursor;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Applies the Flyway migrations to a throwaway Postgres and lets Hibernate
+ * validate the EmployeeProfile mapping and every repository query against it.
+ */
+@DataJpaTest
+@Import(AuditorAwareImpl.class)
+@Testcontainers(disabledWithoutDocker = true)
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@TestPropertySource(properties = {
+        "spring.jpa.hibernate.ddl-auto=validate",
+        "spring.cloud.config.enabled=false"
+})
+class EmployeeSchemaMigrationTest {
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:15-alpine");
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Test
+    void migrations_shouldCreateIndexForEveryQueryPath() {
+        List<String> indexes = jdbcTemplate.queryForList(
+                "select indexname from pg_indexes where tablename = 'employee_profile'", String.class);
+
+        assertTrue(indexes.containsAll(List.of(
+                "idx_employee_profile_last_name_id",
+                "idx_employee_profile_last_first_id",
+                "idx_employee_profile_first_name_id",
+                "idx_employee_profile_job_title_id",
+                "idx_employee_profile_department_id",
+                "idx_employee_profile_updated_at_id",
+                "idx_employee_profile_hired_date",
+                "idx_employee_profile_state_city",
+                "idx_employee_profile_first_name_trgm",
+                "idx_employee_profile_last_name_trgm")), "Missing indexes, found: " + indexes);
+    }
+
+    @Test
+    void migrations_shouldBeRecordedByFlyway() {
+        Integer applied = jdbcTemplate.queryForObject(
+                "select count(*) from flyway_schema_history where success", Integer.class);
+
+        assertTrue(applied != null && applied >= 4);
+        assertEquals(0, employeeRepository.count());
+    }
+
+    @Test
+    void findSummaries_shouldApplyEveryFilterCriterionInTheQuery() {
+        employeeRepository.saveAll(List.of(
+                employee("Ada", "Lovelace", "Engineering", LocalDate.of(2021, 3, 1), "Austin", "TX"),
+                employee("Alan", "Turing", "Engineering", LocalDate.of(2018, 6, 1), "Austin", "TX"),
+                employee("Grace", "Hopper", "Research", LocalDate.of(2021, 5, 1), "Austin", "TX")));
+        employeeRepository.flush();
+
+        EmployeeFilter filter = EmployeeFilter.builder()
+                .department("Engineering")
+                .hiredFrom(LocalDate.of(2020, 1, 1))
+                .state("TX")
+                .build();
+        Page<EmployeeList> result = employeeRepository.findSummaries(
+                EmployeeSpecifications.matching(filter), PageRequest.of(0, 10, Sort.by("lastName", "id")));
+
+        assertEquals(1, result.getTotalElements());
+        assertEquals("Lovelace", result.getContent().get(0).getLastName());
+    }
+
+    @Test
+    void findFieldsByName_shouldMatchAndRankLikeTheNameSearch() {
+        EmployeeProfile middle = employee("Ada", "Lovelace", "Engineering", null, null, null);
+        middle.setMiddleName("Johanna");
+        EmployeeProfile exact = employee("john", "Zimmer", "Engineering", null, null, null);
+        EmployeeProfile contains = employee("Alan", "Littlejohn", "Engineering", null, null, null);
+        employeeRepository.saveAll(List.of(middle, exact, contains,
+                employee("Grace", "Hopper", "Research", null, null, null)));
+        employeeRepository.flush();
+
+        Page<Map<EmployeeField, Object>> result = employeeRepository.findFieldsByName(
+                " JOHN ", Set.of(EmployeeField.ID, EmployeeField.LAST_NAME), PageRequest.of(0, 10));
+
+        assertEquals(3, result.getTotalElements());
+        assertEquals(List.of(exact.getId(), middle.getId(), contains.getId()),
+                result.getContent().stream().map(row -> row.get(EmployeeField.ID)).toList(),
+                "Exact match, then prefix match on the middle name, then contains");
+        assertEquals(0, employeeRepository.findFieldsByName("j%n", Set.of(EmployeeField.ID), PageRequest.of(0, 10))
+                .getTotalElements(), "Wildcards in the name match literally");
+    }
+
+    @Test
+    void updateAddressRow_shouldWriteOnlyTheAddressAndAuditColumns() {
+        EmployeeProfile saved = employeeRepository.saveAndFlush(
+                employee("Ada", "Lovelace", "Engineering", null, "London", null));
+        LocalDateTime updatedAt = LocalDateTime.of(2026, 1, 2, 3, 4, 5);
+
+        Address address = Address.builder().street("1 Main St").city("Manila").state("NCR").zipCode("12345").build();
+
+        Optional<UUID> updated = employeeRepository.updateAddressRow(saved.getId(), address, updatedAt, "hr");
+
+        assertEquals(Optional.of(saved.getId()), updated);
+        Map<String, Object> row = jdbcTemplate.queryForMap(
+                "select first_name, street, city, zip_code, updated_at, modified_by from employee_profile where id = ?",
+                saved.getId());
+        assertEquals("Ada", row.get("first_name"));
+        assertEquals("1 Main St", row.get("street"));
+        assertEquals("Manila", row.get("city"));
+        assertEquals("12345", row.get("zip_code"));
+        assertEquals(Timestamp.valueOf(updatedAt), row.get("updated_at"));
+        assertEquals("hr", row.get("modified_by"));
+        assertTrue(employeeRepository.updateAddressRow(UUID.randomUUID(), new Address(), updatedAt, "hr").isEmpty());
+    }
+
+    @Test
+    void findKeysetPage_shouldWalkPastNullSortKeys_inBothDirections() {
+        employeeRepository.saveAll(List.of(
+                employee("Ada", "Lovelace", "Engineering", null, null, null),
+                employee("Alan", "Turing", null, null, null, null),
+                employee("Grace", "Hopper", "Research", null, null, null),
+                employee("Edsger", "Dijkstra", null, null, null, null)));
+        employeeRepository.flush();
+
+        for (Sort.Direction direction : Sort.Direction.values()) {
+            List<UUID> walked = new ArrayList<>();
+            EmployeeCursor after = null;
+            List<EmployeeList> page;
+            do {
+                page = employeeRepository.findKeysetPage(EmployeeSortField.DEPARTMENT, direction, after, 1);
+                for (EmployeeList row : page) {
+                    walked.add(row.getId());
+                    after = new EmployeeCursor(EmployeeSortField.DEPARTMENT, direction,
+                            EmployeeSortField.DEPARTMENT.keyOf(row), row.getId());
+                }
+            } while (!page.isEmpty());
+
+            List<UUID> expected = employeeRepository.findKeysetPage(EmployeeSortField.DEPARTMENT, direction, null, 10)
+                    .stream().map(EmployeeList::getId).toList();
+            assertEquals(4, expected.size());
+            assertEquals(expected, walked, "Paging one row at a time " + direction);
+        }
+    }
+
+    @Test
+    void findKeysetPage_shouldContinueAcrossTheNullBoundary_withinAndBetweenPages() {
+        employeeRepository.saveAll(List.of(
+                employee("Ada", "Lovelace", "Engineering", null, null, null),
+                employee("Alan", "Turing", null, null, null, null),
+                employee("Grace", "Hopper", "Research", null, null, null),
+                employee("Edsger", "Dijkstra", null, null, null, null),
+                employee("Barbara", "Liskov", "Research", null, null, null)));
+        employeeRepository.flush();
+
+        for (Sort.Direction direction : Sort.Direction.values()) {
+            List<EmployeeList> all = employeeRepository.findKeysetPage(EmployeeSortField.DEPARTMENT, direction, null, 10);
+            // Three keyed rows and two nulls: the first page of two ends in the first block,
+            // the second crosses the boundary, the third starts from a cursor in the second block
+            List<List<EmployeeList>> pages = new ArrayList<>();
+            EmployeeCursor after = null;
+            List<EmployeeList> page;
+            while (!(page = employeeRepository.findKeysetPage(
+                    EmployeeSortField.DEPARTMENT, direction, after, 2)).isEmpty()) {
+                pages.add(page);
+                EmployeeList last = page.get(page.size() - 1);
+                after = new EmployeeCursor(EmployeeSortField.DEPARTMENT, direction,
+                        EmployeeSortField.DEPARTMENT.keyOf(last), last.getId());
+            }
+
+            assertEquals(5, all.size());
+            assertEquals(direction.isAscending(), all.get(0).getDepartment() != null,
+                    "Nulls last ascending, first descending");
+            assertEquals(List.of(2, 2, 1), pages.stream().map(List::size).toList(), direction.toString());
+            assertEquals(all.stream().map(EmployeeList::getId).toList(),
+                    pages.stream().flatMap(List::stream).map(EmployeeList::getId).toList(),
+                    "Paging two rows at a time " + direction);
+        }
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void findChangesAfter_shouldFeedCommittedWritesAndTombstonesInOrder() {
+        // Each statement commits on its own: the feed only returns finished transactions
+        UUID kept = UUID.randomUUID();
+        UUID removed = UUID.randomUUID();
+        jdbcTemplate.update("insert into employee_profile (id, last_name) values (?, 'Kept')", kept);
+        jdbcTemplate.update("insert into employee_profile (id, last_name) values (?, 'Removed')", removed);
+        jdbcTemplate.update("delete from employee_profile where id = ?", removed);
+        try {
+            List<EmployeeChangeRow> changes = employeeRepository.findChangesAfter(0, new UUID(0, 0), 10);
+
+            assertEquals(List.of(kept, removed), changes.stream().map(EmployeeChangeRow::getId).toList());
+            assertFalse(changes.get(0).isDeleted());
+            assertTrue(changes.get(1).isDeleted());
+
+            EmployeeChangeRow first = changes.get(0);
+            List<EmployeeChangeRow> after = employeeRepository.findChangesAfter(first.getChangeXid(), first.getId(), 10);
+            assertEquals(List.of(removed), after.stream().map(EmployeeChangeRow::getId).toList());
+        } finally {
+            jdbcTemplate.update("delete from employee_profile");
+            jdbcTemplate.update("delete from employee_tombstone");
+        }
+    }
+
+    private static EmployeeProfile employee(String firstName, String lastName, String department,
+                                            LocalDate hiredDate, String city, String state) {
+        return EmployeeProfile.builder()
+                .id(UUID.randomUUID())
+                .firstName(firstName)
+                .lastName(lastName)
+                .department(department)
+                .hiredDate(hiredDate)
+                .address(Address.builder().city(city).state(state).build())
+                .build();
+    }
+}
@@ -0,0 +1,119 @@
+package com.renzomendoza.employee_service.service;
+
+import com.renzomendoza.employee_service.dto.AddressDto;
+import com.renzomendoza.employee_service.dto.ContactInformationDto;
+import com.renzomendoza.employee_service.dto.EmergencyContactDto;
+import com.renzomendoza.employee_service.dto.bulk.EmployeeBulkItemResult;
+import com.renzomendoza.employee_service.dto.bulk.EmployeeBulkResult;
+import com.renzomendoza.employee_service.dto.employee.EmployeeCreateDto;
+import com.renzomendoza.employee_service.exception.BulkRequestTooLargeException;
+import com.renzomendoza.employee_service.mapper.EmployeeMapper;
+import com.renzomendoza.employee_service.model.EmployeeProfile;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceException;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class EmployeeBulkServiceTest {
+
+    private EntityManager entityManager;
+    private TransactionTemplate transactionTemplate;
+    private EmployeeMapper employeeMapper;
+    private EmployeeBulkService bulkService;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        entityManager = mock(EntityManager.class);
+        transactionTemplate = mock(TransactionTemplate.class);
+        employeeMapper = mock(EmployeeMapper.class);
+
+        doAnswer(invocation -> {
+            invocation.<Consumer<TransactionStatus>>getArgument(0).accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any(Consumer.class));
+        when(employeeMapper.employeeCreateToEmployee(any(EmployeeCreateDto.class)))
+                .thenAnswer(invocation -> EmployeeProfile.builder()
+                        .id(invocation.<EmployeeCreateDto>getArgument(0).getId())
+                        .build());
+
+        bulkService = new EmployeeBulkService(entityManager, transactionTemplate, employeeMapper,
+                Validation.buildDefaultValidatorFactory().getValidator(),
+                mock(ApplicationEventPublisher.class), 2, 5);
+    }
+
+    @Test
+    void createEmployees_shouldPersistValidItems_andReportInvalidOnes() {
+        EmployeeCreateDto invalid = validEmployee();
+        invalid.setFirstName("");
+        List<EmployeeCreateDto> request = List.of(validEmployee(), invalid, validEmployee());
+
+        EmployeeBulkResult result = bulkService.createEmployees(request);
+
+        assertEquals(3, result.getRequested());
+        assertEquals(2, result.getCreated());
+        assertEquals(1, result.getFailed());
+        assertEquals(EmployeeBulkItemResult.Status.FAILED, result.getItems().get(1).getStatus());
+        assertTrue(result.getItems().get(1).getErrors().get(0).startsWith("firstName"));
+        assertNotNull(result.getItems().get(0).getId(), "Missing ids are assigned by the service");
+        verify(entityManager, times(2)).persist(any(EmployeeProfile.class));
+        verify(transactionTemplate, times(1)).executeWithoutResult(any());
+    }
+
+    @Test
+    void createEmployees_shouldIsolateFailingItem_whenChunkFails() {
+        UUID duplicateId = UUID.randomUUID();
+        EmployeeCreateDto duplicate = validEmployee();
+        duplicate.setId(duplicateId);
+        doAnswer(invocation -> {
+            if (duplicateId.equals(invocation.<EmployeeProfile>getArgument(0).getId())) {
+                throw new PersistenceException("duplicate key value violates unique constraint");
+            }
+            return null;
+        }).when(entityManager).persist(any(EmployeeProfile.class));
+
+        EmployeeBulkResult result = bulkService.createEmployees(List.of(validEmployee(), duplicate));
+
+        assertEquals(1, result.getCreated());
+        assertEquals(EmployeeBulkItemResult.Status.CREATED, result.getItems().get(0).getStatus());
+        assertEquals(EmployeeBulkItemResult.Status.FAILED, result.getItems().get(1).getStatus());
+        assertEquals(duplicateId, result.getItems().get(1).getId());
+    }
+
+    @Test
+    void createEmployees_shouldRejectOversizedRequest() {
+        List<EmployeeCreateDto> request = new ArrayList<>(Collections.nCopies(6, validEmployee()));
+
+        assertThrows(BulkRequestTooLargeException.class, () -> bulkService.createEmployees(request));
+        verifyNoInteractions(entityManager);
+    }
+
+    private EmployeeCreateDto validEmployee() {
+        return EmployeeCreateDto.builder()
+                .firstName("John")
+                .lastName("Doe")
+                .jobTitle("Developer")
+                .department("Engineering")
+                .hiredDate(LocalDate.of(2023, 1, 15))
+                .birthDate(LocalDate.of(1990, 5, 20))
+                .addressDto(new AddressDto())
+                .contactInformationDto(new ContactInformationDto())
+                .emergencyContactDto(new EmergencyContactDto())
+                .build();
+    }
+}
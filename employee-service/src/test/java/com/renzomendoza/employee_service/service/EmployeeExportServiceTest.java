@@ -0,0 +1,98 @@
+package com.renzomendoza.employee_service.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.renzomendoza.employee_service.dto.ExportFormat;
+import com.renzomendoza.employee_service.dto.employee.EmployeeResponse;
+import com.renzomendoza.employee_service.mapper.EmployeeMapper;
+import com.renzomendoza.employee_service.model.EmployeeProfile;
+import com.renzomendoza.employee_service.repository.EmployeeRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class EmployeeExportServiceTest {
+
+    @Mock
+    private EmployeeRepository employeeRepository;
+
+    @Mock
+    private EmployeeMapper employeeMapper;
+
+    @Mock
+    private EntityManager entityManager;
+
+    private EmployeeExportService exportService;
+
+    private final EmployeeProfile first = EmployeeProfile.builder().id(UUID.randomUUID()).build();
+    private final EmployeeProfile second = EmployeeProfile.builder().id(UUID.randomUUID()).build();
+
+    @BeforeEach
+    void setUp() {
+        exportService = new EmployeeExportService(employeeRepository, employeeMapper, entityManager,
+                new ObjectMapper().findAndRegisterModules());
+        when(employeeRepository.streamAll()).thenReturn(Stream.of(first, second));
+        when(employeeMapper.employeeToEmployeeResponse(first))
+                .thenReturn(EmployeeResponse.builder().id(first.getId()).firstName("John").lastName("Doe").build());
+        when(employeeMapper.employeeToEmployeeResponse(second))
+                .thenReturn(EmployeeResponse.builder().id(second.getId()).firstName("Jane").lastName("Smith, Jr.").build());
+    }
+
+    @Test
+    void export_shouldWriteOneJsonObjectPerLine_andDetachRows() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        exportService.export(ExportFormat.NDJSON, out);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(2, lines.length);
+        assertTrue(lines[0].contains(first.getId().toString()));
+        assertTrue(lines[1].contains("\"firstName\":\"Jane\""));
+        verify(entityManager).detach(first);
+        verify(entityManager).detach(second);
+    }
+
+    @Test
+    void export_shouldWriteCsvWithHeaderAndQuoting() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        exportService.export(ExportFormat.CSV, out);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\r\n");
+        assertEquals(3, lines.length);
+        assertTrue(lines[0].startsWith("id,firstName,middleName,lastName"));
+        assertTrue(lines[2].startsWith(second.getId() + ",Jane,,\"Smith, Jr.\","));
+    }
+
+    @Test
+    void neutralizeFormula_shouldPrefixFormulaCells_only() {
+        assertEquals("'=HYPERLINK(\"http://x\")", EmployeeExportService.neutralizeFormula("=HYPERLINK(\"http://x\")"));
+        assertEquals("'+1 555 0100", EmployeeExportService.neutralizeFormula("+1 555 0100"));
+        assertEquals("'-2", EmployeeExportService.neutralizeFormula("-2"));
+        assertEquals("'@SUM(A1)", EmployeeExportService.neutralizeFormula("@SUM(A1)"));
+        assertEquals("Smith", EmployeeExportService.neutralizeFormula("Smith"));
+        assertNull(EmployeeExportService.neutralizeFormula(null));
+        assertEquals("=raw", EmployeeExportService.escapeCsv("=raw"), "COPY lines keep raw values");
+        assertEquals("''=x", EmployeeExportService.neutralizeFormula("'=x"), "Quoted again so the import can undo it");
+        assertEquals("'quoted", EmployeeExportService.neutralizeFormula("'quoted"));
+    }
+
+    @Test
+    void restoreFormula_shouldUndoNeutralizeFormula_only() {
+        for (String value : new String[]{"=1+1", "+63 912 345 6789", "-Smith", "'=x", "'quoted", "Smith", "'", ""}) {
+            assertEquals(value, EmployeeExportService.restoreFormula(EmployeeExportService.neutralizeFormula(value)));
+        }
+        assertEquals("'quoted", EmployeeExportService.restoreFormula("'quoted"));
+    }
+}
@@ -0,0 +1,117 @@
+package com.renzomendoza.employee_service.service;
+
+import com.renzomendoza.employee_service.dto.EmployeeFacets;
+import com.renzomendoza.employee_service.dto.employee.EmployeeList;
+import com.renzomendoza.employee_service.event.EmployeeChangedEvent;
+import com.renzomendoza.employee_service.repository.EmployeeFacetCount;
+import com.renzomendoza.employee_service.repository.EmployeeRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class EmployeeFacetCountsTest {
+
+    private EmployeeRepository employeeRepository;
+    private EmployeeFacetCounts facetCounts;
+
+    @BeforeEach
+    void setUp() {
+        employeeRepository = mock(EmployeeRepository.class);
+        when(employeeRepository.countFacets()).thenReturn(List.of(
+                row(0, "Engineering", null, 3),
+                row(0, "Sales", null, 1),
+                row(1, null, "Developer", 3),
+                row(1, null, "Account Manager", 1)));
+        facetCounts = new EmployeeFacetCounts(employeeRepository);
+    }
+
+    @Test
+    void getFacets_shouldSeedOnce_andServeFromMemory() {
+        facetCounts.seed();
+
+        EmployeeFacets first = facetCounts.getFacets();
+        EmployeeFacets second = facetCounts.getFacets();
+
+        assertEquals(4, first.getTotal());
+        assertBucket(first.getDepartments(), 0, "Engineering", 3);
+        assertBucket(first.getDepartments(), 1, "Sales", 1);
+        assertBucket(first.getJobTitles(), 0, "Developer", 3);
+        assertEquals(4, second.getTotal());
+        verify(employeeRepository, times(1)).countFacets();
+    }
+
+    @Test
+    void onEmployeeChanged_shouldAdjustCountsExactly() {
+        facetCounts.seed();
+        UUID id = UUID.randomUUID();
+
+        facetCounts.onEmployeeChanged(EmployeeChangedEvent.created(id, summary(id, "Sales", "Developer")));
+        facetCounts.onEmployeeChanged(EmployeeChangedEvent.updated(id,
+                new EmployeeChangedEvent.Facets("Sales", "Developer"), summary(id, "Support", "Developer")));
+        facetCounts.onEmployeeChanged(EmployeeChangedEvent.deleted(UUID.randomUUID(),
+                new EmployeeChangedEvent.Facets("Sales", "Account Manager")));
+
+        EmployeeFacets facets = facetCounts.getFacets();
+
+        assertEquals(4, facets.getTotal());
+        assertEquals(List.of("Engineering", "Support"),
+                facets.getDepartments().stream().map(EmployeeFacets.FacetBucket::getValue).toList());
+        assertBucket(facets.getJobTitles(), 0, "Developer", 4);
+        assertEquals(1, facets.getJobTitles().size());
+        verify(employeeRepository, times(1)).countFacets();
+    }
+
+    @Test
+    void getFacets_shouldReseed_whenChangeCannotBeAppliedExactly() {
+        facetCounts.seed();
+
+        facetCounts.onEmployeeChanged(EmployeeChangedEvent.deleted(UUID.randomUUID()));
+        facetCounts.getFacets();
+
+        verify(employeeRepository, times(2)).countFacets();
+    }
+
+    private static void assertBucket(List<EmployeeFacets.FacetBucket> buckets, int index, String value, long count) {
+        assertEquals(value, buckets.get(index).getValue());
+        assertEquals(count, buckets.get(index).getCount());
+    }
+
+    private static EmployeeList summary(UUID id, String department, String jobTitle) {
+        return EmployeeList.builder()
+                .id(id)
+                .firstName("Test")
+                .lastName("Employee")
+                .department(department)
+                .jobTitle(jobTitle)
+                .build();
+    }
+
+    private static EmployeeFacetCount row(int byJobTitle, String department, String jobTitle, long count) {
+        return new EmployeeFacetCount() {
+            @Override
+            public int getByJobTitle() {
+                return byJobTitle;
+            }
+
+            @Override
+            public String getDepartment() {
+                return department;
+            }
+
+            @Override
+            public String getJobTitle() {
+                return jobTitle;
+            }
+
+            @Override
+            public long getCount() {
+                return count;
+            }
+        };
+    }
+}
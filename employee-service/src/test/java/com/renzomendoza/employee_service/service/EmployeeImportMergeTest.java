@@ -0,0 +1,184 @@
+package com.renzomendoza.employee_service.service;
+
+import com.renzomendoza.employee_service.dto.bulk.EmployeeImportRowError;
+import com.renzomendoza.employee_service.dto.employee.EmployeeList;
+import com.renzomendoza.employee_service.event.EmployeesImportedEvent;
+import com.renzomendoza.employee_service.model.EmployeeImportJob;
+import com.renzomendoza.employee_service.repository.EmployeeImportJobRepository;
+import com.renzomendoza.employee_service.repository.EmployeeRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs the import's COPY into the staging table and its merge against a throwaway Postgres.
+ * Each test commits, as the import does.
+ */
+@DataJpaTest
+@Import(AuditorAwareImpl.class)
+@Testcontainers(disabledWithoutDocker = true)
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@TestPropertySource(properties = {
+        "spring.jpa.hibernate.ddl-auto=validate",
+        "spring.cloud.config.enabled=false"
+})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class EmployeeImportMergeTest {
+
+    private static final String HEADER = "id,firstName,lastName,jobTitle,department,hiredDate,birthDate,street";
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:15-alpine");
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private EmployeeImportJobRepository jobRepository;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final List<Object> events = new ArrayList<>();
+    private EmployeeImportService importService;
+
+    @BeforeEach
+    void setUp() {
+        importService = new EmployeeImportService(entityManager, new TransactionTemplate(transactionManager),
+                jobRepository, Validation.buildDefaultValidatorFactory().getValidator(), events::add,
+                () -> Optional.of("hr"), 100, 10, 1000, 1, Duration.ofDays(7));
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("delete from employee_profile");
+        jdbcTemplate.update("delete from employee_tombstone");
+        jdbcTemplate.update("delete from employee_import_job");
+    }
+
+    @Test
+    void run_shouldInsertNewRows_andReportIdsThatAlreadyExist() throws IOException {
+        // Arrange
+        UUID existing = UUID.randomUUID();
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        jdbcTemplate.update("insert into employee_profile (id, last_name) values (?, 'Existing')", existing);
+        UUID jobId = queueJob();
+        Path file = csv(
+                first + ",John,Doe,Engineer,Engineering,2020-01-15,1990-05-01,\"1 Main St, Apt 2\"",
+                existing + ",Jane,Roe,Engineer,Engineering,2020-01-15,1990-05-01,",
+                second + ",Ann,Poe,Designer,Design,2021-03-01,1992-07-09,");
+
+        // Act
+        importService.run(jobId, file, "hr");
+
+        // Assert
+        EmployeeImportJob job = jobRepository.findById(jobId).orElseThrow();
+        assertEquals(EmployeeImportJob.Status.COMPLETED, job.getStatus());
+        assertEquals(3, job.getRowsRead());
+        assertEquals(2, job.getRowsImported());
+        assertEquals(1, job.getRowsFailed());
+        EmployeeImportRowError conflict = job.getErrors().get(0);
+        assertEquals(3, conflict.getRow());
+        assertEquals(existing, conflict.getId());
+        assertEquals(List.of("id: an employee with this id already exists"), conflict.getErrors());
+
+        assertEquals("Existing", jdbcTemplate.queryForObject(
+                "select last_name from employee_profile where id = ?", String.class, existing));
+        assertEquals("1 Main St, Apt 2", jdbcTemplate.queryForObject(
+                "select street from employee_profile where id = ?", String.class, first));
+        assertEquals("hr", jdbcTemplate.queryForObject(
+                "select created_by from employee_profile where id = ?", String.class, second));
+
+        assertEquals(1, events.size(), "One event for the whole import");
+        EmployeesImportedEvent imported = (EmployeesImportedEvent) events.get(0);
+        assertEquals(jobId, imported.jobId());
+        assertEquals(Set.of(first, second),
+                imported.summaries().stream().map(EmployeeList::getId).collect(Collectors.toSet()));
+        assertEquals(2, employeeRepository.findIdsByChangeXid(imported.changeXid()).size(),
+                "The event names the transaction that wrote the rows");
+        assertFalse(Files.exists(file));
+    }
+
+    @Test
+    void run_shouldRollBackEveryRow_whenTheMergeFails() throws IOException {
+        // Arrange: fail on the second row, after the first has been inserted
+        jdbcTemplate.execute("create function reject_import_row() returns trigger language plpgsql as $$ " +
+                "begin if new.last_name = 'Fail' then raise exception 'rejected by test'; end if; return new; end $$");
+        jdbcTemplate.execute("create trigger reject_import_row before insert on employee_profile " +
+                "for each row execute function reject_import_row()");
+        UUID jobId = queueJob();
+        Path file = csv(
+                UUID.randomUUID() + ",John,Doe,Engineer,Engineering,2020-01-15,1990-05-01,",
+                UUID.randomUUID() + ",Jane,Fail,Engineer,Engineering,2020-01-15,1990-05-01,");
+        try {
+            // Act
+            importService.run(jobId, file, "hr");
+
+            // Assert
+            EmployeeImportJob job = jobRepository.findById(jobId).orElseThrow();
+            assertEquals(EmployeeImportJob.Status.FAILED, job.getStatus());
+            assertEquals(0, job.getRowsImported());
+            assertTrue(job.getMessage().contains("rejected by test"), job.getMessage());
+            assertEquals(0, jdbcTemplate.queryForObject("select count(*) from employee_profile", Integer.class));
+            assertTrue(events.isEmpty());
+        } finally {
+            jdbcTemplate.execute("drop trigger reject_import_row on employee_profile");
+            jdbcTemplate.execute("drop function reject_import_row()");
+        }
+    }
+
+    private UUID queueJob() {
+        return jobRepository.save(EmployeeImportJob.builder()
+                .id(UUID.randomUUID())
+                .status(EmployeeImportJob.Status.QUEUED)
+                .fileName("employees.csv")
+                .errors(List.of())
+                .createdBy("hr")
+                .createdAt(LocalDateTime.now())
+                .build()).getId();
+    }
+
+    private static Path csv(String... rows) throws IOException {
+        Path file = Files.createTempFile("employee-import-test-", ".csv");
+        Files.writeString(file, HEADER + "\n" + String.join("\n", rows) + "\n");
+        return file;
+    }
+}
@@ -0,0 +1,154 @@
+package com.renzomendoza.employee_service.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.renzomendoza.employee_service.dto.AddressDto;
+import com.renzomendoza.employee_service.dto.ContactInformationDto;
+import com.renzomendoza.employee_service.dto.EmergencyContactDto;
+import com.renzomendoza.employee_service.dto.ExportFormat;
+import com.renzomendoza.employee_service.dto.bulk.EmployeeImportRowError;
+import com.renzomendoza.employee_service.dto.employee.EmployeeResponse;
+import com.renzomendoza.employee_service.exception.InvalidImportFileException;
+import com.renzomendoza.employee_service.mapper.EmployeeMapper;
+import com.renzomendoza.employee_service.model.EmployeeProfile;
+import com.renzomendoza.employee_service.repository.EmployeeImportJobRepository;
+import com.renzomendoza.employee_service.repository.EmployeeRepository;
+import com.renzomendoza.employee_service.utils.CsvReader;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.AuditorAware;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class EmployeeImportServiceTest {
+
+    private static final String HEADER = "id,firstName,lastName,jobTitle,department,hiredDate,birthDate,street,createdAt";
+
+    private EmployeeImportService importService;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        importService = new EmployeeImportService(mock(EntityManager.class), mock(TransactionTemplate.class),
+                mock(EmployeeImportJobRepository.class), Validation.buildDefaultValidatorFactory().getValidator(),
+                mock(ApplicationEventPublisher.class), mock(AuditorAware.class),
+                100, 2, 1000, 1, Duration.ofDays(7));
+    }
+
+    @Test
+    void csvReader_shouldReadQuotedFields_acrossLines() throws IOException {
+        CsvReader csv = new CsvReader(new StringReader("\uFEFFa,b\r\n\"x, \"\"y\"\"\",\"line\nbreak\"\n\n1,\n"), 100);
+
+        assertEquals(List.of("a", "b"), csv.readRecord());
+        assertEquals(List.of("x, \"y\"", "line\nbreak"), csv.readRecord());
+        assertEquals(List.of("1", ""), csv.readRecord());
+        assertNull(csv.readRecord());
+    }
+
+    @Test
+    void columnIndexes_shouldSkipAuditColumns_andRejectUnknownOnes() {
+        Map<String, Integer> columns = EmployeeImportService.columnIndexes(List.of(HEADER.split(",")));
+
+        assertEquals(8, columns.size());
+        assertFalse(columns.containsKey("createdAt"));
+        assertThrows(InvalidImportFileException.class,
+                () -> EmployeeImportService.columnIndexes(List.of("id", "salary")));
+    }
+
+    @Test
+    void stage_shouldCopyValidRows_andReportInvalidAndDuplicateOnes() throws IOException {
+        UUID id = UUID.randomUUID();
+        List<String> header = List.of(HEADER.split(","));
+        Map<String, Integer> columns = EmployeeImportService.columnIndexes(header);
+        EmployeeImportService.ImportRun importRun = importService.new ImportRun(UUID.randomUUID(), "hr");
+
+        byte[] valid = importService.stage(importRun, 2,
+                record(id + ",John,Doe,Engineer,Engineering,2020-01-15,1990-05-01,\"1 Main St, Apt 2\","), header.size(), columns);
+        byte[] duplicate = importService.stage(importRun, 3,
+                record(id + ",Jane,Doe,Engineer,Engineering,2020-01-15,1990-05-01,,"), header.size(), columns);
+        byte[] invalid = importService.stage(importRun, 4,
+                record("not-a-uuid,,Doe,Engineer,Engineering,15/01/2020,1990-05-01,,"), header.size(), columns);
+        byte[] malformed = importService.stage(importRun, 5, List.of("only", "two"), header.size(), columns);
+
+        assertNotNull(valid);
+        assertTrue(new String(valid, StandardCharsets.UTF_8)
+                .startsWith(id + ",John,,Doe,,,Engineer,Engineering,,2020-01-15,1990-05-01,\"1 Main St, Apt 2\","));
+        assertNull(duplicate);
+        assertNull(invalid);
+        assertNull(malformed);
+        assertEquals(3, importRun.rowsFailed);
+
+        List<EmployeeImportRowError> errors = importRun.errors();
+        assertEquals(2, errors.size(), "Reported errors are capped");
+        assertEquals(List.of("id: duplicates row 2"), errors.get(0).getErrors());
+        assertEquals(List.of("firstName: First name is required", "hiredDate: must be a date in yyyy-MM-dd format",
+                "id: must be a UUID"), errors.get(1).getErrors());
+        assertEquals(4, errors.get(1).getRow());
+    }
+
+    @Test
+    void stage_shouldReportAnOverlongNestedColumn_once() throws IOException {
+        List<String> header = List.of(HEADER.split(","));
+        Map<String, Integer> columns = EmployeeImportService.columnIndexes(header);
+        EmployeeImportService.ImportRun importRun = importService.new ImportRun(UUID.randomUUID(), "hr");
+
+        byte[] copyLine = importService.stage(importRun, 2, record(UUID.randomUUID()
+                + ",John,Doe,Engineer,Engineering,2020-01-15,1990-05-01," + "x".repeat(256) + ","), header.size(), columns);
+
+        assertNull(copyLine);
+        assertEquals(List.of("street: must be at most 255 characters"), importRun.errors().get(0).getErrors());
+    }
+
+    @Test
+    void stage_shouldImportAnExportBack_withoutTheFormulaQuotes() throws IOException {
+        // Arrange: values the export prefixes with a quote so spreadsheets do not run them
+        UUID id = UUID.randomUUID();
+        EmployeeProfile profile = EmployeeProfile.builder().id(id).build();
+        EmployeeRepository employeeRepository = mock(EmployeeRepository.class);
+        EmployeeMapper employeeMapper = mock(EmployeeMapper.class);
+        when(employeeRepository.streamAll()).thenReturn(Stream.of(profile));
+        when(employeeMapper.employeeToEmployeeResponse(profile)).thenReturn(EmployeeResponse.builder()
+                .id(id).firstName("-Ann").lastName("=Smith").jobTitle("Engineer").department("@Ops")
+                .hiredDate(LocalDate.of(2020, 1, 15)).birthDate(LocalDate.of(1990, 5, 1))
+                .addressDto(new AddressDto("-1 Main St", "Manila", "NCR", "12345"))
+                .contactInformationDto(new ContactInformationDto("+639123456789", "ann@example.com"))
+                .emergencyContactDto(new EmergencyContactDto("Bob", "Smith", "Brother", "+639123456780"))
+                .build());
+        ByteArrayOutputStream exported = new ByteArrayOutputStream();
+        new EmployeeExportService(employeeRepository, employeeMapper, mock(EntityManager.class),
+                new ObjectMapper().findAndRegisterModules()).export(ExportFormat.CSV, exported);
+        CsvReader csv = new CsvReader(new StringReader(exported.toString(StandardCharsets.UTF_8)), 1000);
+        List<String> header = csv.readRecord();
+        EmployeeImportService.ImportRun importRun = importService.new ImportRun(UUID.randomUUID(), "hr");
+
+        // Act
+        byte[] copyLine = importService.stage(importRun, 2, csv.readRecord(), header.size(),
+                EmployeeImportService.columnIndexes(header));
+
+        // Assert
+        assertNotNull(copyLine, () -> importRun.errors().toString());
+        assertEquals(id + ",-Ann,,=Smith,,,Engineer,@Ops,,2020-01-15,1990-05-01,-1 Main St,Manila,NCR,12345," +
+                "+639123456789,ann@example.com,Bob,Smith,Brother,+639123456780\n",
+                new String(copyLine, StandardCharsets.UTF_8));
+    }
+
+    private static List<String> record(String line) throws IOException {
+        return new CsvReader(new StringReader(line), 1000).readRecord();
+    }
+}
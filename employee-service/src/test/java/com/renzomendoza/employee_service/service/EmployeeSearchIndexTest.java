@@ -0,0 +1,141 @@
+package com.renzomendoza.employee_service.service;
+
+import com.renzomendoza.employee_service.dto.employee.EmployeeList;
+import com.renzomendoza.employee_service.event.EmployeeChangedEvent;
+import com.renzomendoza.employee_service.mapper.EmployeeMapper;
+import com.renzomendoza.employee_service.model.EmployeeProfile;
+import com.renzomendoza.employee_service.repository.EmployeeRepository;
+import com.renzomendoza.employee_service.repository.EmployeeSortField;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class EmployeeSearchIndexTest {
+
+    private EmployeeRepository employeeRepository;
+    private EmployeeMapper employeeMapper;
+    private EmployeeSearchIndex searchIndex;
+
+    private final EmployeeList johnDoe = employee("John", "Michael", "Doe");
+    private final EmployeeList janeJohnson = employee("Jane", null, "Johnson");
+    private final EmployeeList maryAnn = employee("Mary", "Ann", "Smith");
+
+    @BeforeEach
+    void setUp() {
+        employeeRepository = mock(EmployeeRepository.class);
+        when(employeeRepository.findKeysetPage(eq(EmployeeSortField.LAST_NAME), eq(Sort.Direction.ASC), isNull(), anyInt()))
+                .thenReturn(List.of(johnDoe, janeJohnson, maryAnn));
+        employeeMapper = mock(EmployeeMapper.class);
+        searchIndex = new EmployeeSearchIndex(employeeRepository, employeeMapper, true);
+    }
+
+    @Test
+    void canAnswer_shouldBeFalse_untilWarmedUp() {
+        assertFalse(searchIndex.canAnswer("John"));
+
+        searchIndex.rebuild();
+
+        assertTrue(searchIndex.canAnswer("John"));
+        assertFalse(searchIndex.canAnswer("Jo"), "Queries shorter than a trigram go to the database");
+    }
+
+    @Test
+    void search_shouldMatchContainsCaseInsensitively_andRankExactMatchFirst() {
+        searchIndex.rebuild();
+
+        Page<EmployeeList> result = searchIndex.search("john", PageRequest.of(0, 10));
+
+        assertEquals(2, result.getTotalElements());
+        assertEquals(johnDoe.getId(), result.getContent().get(0).getId());
+        assertEquals(janeJohnson.getId(), result.getContent().get(1).getId());
+    }
+
+    @Test
+    void search_shouldMatchMiddleName() {
+        searchIndex.rebuild();
+
+        Page<EmployeeList> result = searchIndex.search("chae", PageRequest.of(0, 10));
+
+        assertEquals(1, result.getTotalElements());
+        assertEquals(johnDoe.getId(), result.getContent().get(0).getId());
+    }
+
+    @Test
+    void search_shouldNotMatchAcrossNameFields() {
+        searchIndex.rebuild();
+
+        // "hnmi" only occurs if "John" and "Michael" were concatenated
+        assertEquals(0, searchIndex.search("hnmi", PageRequest.of(0, 10)).getTotalElements());
+    }
+
+    @Test
+    void onEmployeeChanged_shouldKeepIndexCurrent() {
+        searchIndex.rebuild();
+
+        EmployeeList renamed = employee("Johnny", null, "Smith");
+        renamed.setId(maryAnn.getId());
+        searchIndex.onEmployeeChanged(EmployeeChangedEvent.updated(renamed.getId(), renamed));
+        searchIndex.onEmployeeChanged(EmployeeChangedEvent.deleted(johnDoe.getId()));
+
+        Page<EmployeeList> result = searchIndex.search("John", PageRequest.of(0, 10));
+        assertEquals(List.of(janeJohnson.getId(), renamed.getId()),
+                result.getContent().stream().map(EmployeeList::getId).toList());
+        assertEquals(0, searchIndex.search("Mary", PageRequest.of(0, 10)).getTotalElements());
+    }
+
+    @Test
+    void rebuild_shouldNotOverwriteChangesMadeDuringWarmup() {
+        searchIndex.remove(janeJohnson.getId());
+
+        searchIndex.rebuild();
+
+        assertEquals(1, searchIndex.search("John", PageRequest.of(0, 10)).getTotalElements());
+    }
+
+    @Test
+    void search_shouldPageResults() {
+        searchIndex.rebuild();
+
+        Page<EmployeeList> result = searchIndex.search("joh", PageRequest.of(1, 1));
+
+        assertEquals(2, result.getTotalElements());
+        assertEquals(1, result.getContent().size());
+    }
+
+    @Test
+    void refresh_shouldReloadChangedEmployees_andDropMissingOnes_inOneQuery() {
+        searchIndex.rebuild();
+        EmployeeProfile renamed = EmployeeProfile.builder().id(johnDoe.getId()).build();
+        EmployeeList renamedSummary = EmployeeList.builder()
+                .id(johnDoe.getId()).firstName("Jonathan").lastName("Doe").build();
+        when(employeeRepository.findAllByIdArray(any(UUID[].class))).thenReturn(List.of(renamed));
+        when(employeeMapper.employeeToEmployeeList(renamed)).thenReturn(renamedSummary);
+
+        searchIndex.refresh(List.of(johnDoe.getId(), maryAnn.getId()));
+
+        assertEquals(1, searchIndex.search("jonathan", PageRequest.of(0, 10)).getTotalElements());
+        assertEquals(0, searchIndex.search("smith", PageRequest.of(0, 10)).getTotalElements(),
+                "An employee no longer in the database leaves the index");
+        verify(employeeRepository, times(1)).findAllByIdArray(any(UUID[].class));
+    }
+
+    private static EmployeeList employee(String firstName, String middleName, String lastName) {
+        return EmployeeList.builder()
+                .id(UUID.randomUUID())
+                .firstName(firstName)
+                .middleName(middleName)
+                .lastName(lastName)
+                .jobTitle("Developer")
+                .department("Engineering")
+                .build();
+    }
+}
@@ -1,28 +1,53 @@
 package com.renzomendoza.employee_service.service;
 
+import com.renzomendoza.employee_service.cache.EmployeeEntityCache;
+import com.renzomendoza.employee_service.config.CacheConfig;
 import com.renzomendoza.employee_service.dto.*;
+import com.renzomendoza.employee_service.dto.bulk.EmployeeBatchDeleteResult;
+import com.renzomendoza.employee_service.dto.bulk.EmployeeBatchGetItem;
+import com.renzomendoza.employee_service.dto.bulk.EmployeeBatchGetResult;
 import com.renzomendoza.employee_service.dto.employee.EmployeeCreateDto;
 import com.renzomendoza.employee_service.dto.employee.EmployeeList;
 import com.renzomendoza.employee_service.dto.employee.EmployeeRequestDto;
 import com.renzomendoza.employee_service.dto.employee.EmployeeResponse;
+import com.renzomendoza.employee_service.event.EmployeeChangedEvent;
 import com.renzomendoza.employee_service.exception.EmployeeNotFoundException;
+import com.renzomendoza.employee_service.exception.InvalidCursorException;
+import com.renzomendoza.employee_service.exception.InvalidFieldException;
+import com.renzomendoza.employee_service.exception.InvalidFilterException;
+import com.renzomendoza.employee_service.exception.InvalidPageSizeException;
+import com.renzomendoza.employee_service.exception.InvalidSortFieldException;
 import com.renzomendoza.employee_service.mapper.EmployeeMapper;
+import com.renzomendoza.employee_service.model.Address;
 import com.renzomendoza.employee_service.model.EmployeeProfile;
+import com.renzomendoza.employee_service.repository.DeletedEmployee;
+import com.renzomendoza.employee_service.repository.EmployeeField;
 import com.renzomendoza.employee_service.repository.EmployeeRepository;
+import com.renzomendoza.employee_service.repository.EmployeeSortField;
+import com.renzomendoza.employee_service.utils.EmployeeCursor;
+import com.renzomendoza.employee_service.utils.EmployeeETags;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.*;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -34,6 +59,24 @@ class EmployeeServiceTest {
     @Mock
     private EmployeeMapper employeeMapper;
 
+    @Mock
+    private EmployeeSearchIndex employeeSearchIndex;
+
+    @Mock
+    private EmployeeFacetCounts employeeFacetCounts;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private CacheManager cacheManager;
+
+    @Mock
+    private EmployeeEntityCache employeeEntityCache;
+
+    @Mock
+    private AuditorAware<String> auditorAware;
+
     @InjectMocks
     private EmployeeService employeeService;
 
@@ -83,13 +126,35 @@ class EmployeeServiceTest {
         });
     }
 
+    @Test
+    void getEmployeeETag_ShouldUseVersionOnlyLookup() {
+        // Arrange
+        LocalDateTime updatedAt = LocalDateTime.of(2023, 1, 20, 15, 45);
+        when(employeeRepository.findUpdatedAtById(TEST_UUID)).thenReturn(Optional.of(updatedAt));
+
+        // Act
+        String eTag = employeeService.getEmployeeETag(TEST_UUID);
+
+        // Assert
+        assertEquals(EmployeeETags.of(updatedAt), eTag);
+        verify(employeeRepository, never()).findById(any());
+    }
+
+    @Test
+    void getEmployeeETag_ShouldReturnNull_WhenNotFound() {
+        // Arrange
+        when(employeeRepository.findUpdatedAtById(TEST_UUID)).thenReturn(Optional.empty());
+
+        // Act & Assert
+        assertNull(employeeService.getEmployeeETag(TEST_UUID));
+    }
+
     @Test
     void getAllEmployees_ShouldReturnPageOfEmployees() {
         // Arrange
         Pageable pageable = PageRequest.of(0, 10);
-        Page<EmployeeProfile> employeePage = new PageImpl<>(List.of(createTestEmployeeProfile()));
-        when(employeeRepository.findAll(pageable)).thenReturn(employeePage);
-        when(employeeMapper.employeeToEmployeeList(any(EmployeeProfile.class))).thenReturn(new EmployeeList());
+        Page<EmployeeList> employeePage = new PageImpl<>(List.of(createTestEmployeeList()));
+        when(employeeRepository.findAllSummaries(pageable)).thenReturn(employeePage);
 
         // Act
         Page<EmployeeList> result = employeeService.getAllEmployees(0, 10);
@@ -97,7 +162,8 @@ class EmployeeServiceTest {
         // Assert
         assertNotNull(result);
         assertEquals(1, result.getTotalElements());
-        verify(employeeRepository).findAll(pageable);
+        verify(employeeRepository).findAllSummaries(pageable);
+        verifyNoInteractions(employeeMapper);
     }
 
     @Test
@@ -120,67 +186,449 @@ class EmployeeServiceTest {
     @Test
     void deleteEmployee_ShouldDeleteWhenExists() {
         // Arrange
-        EmployeeProfile employeeProfile = createTestEmployeeProfile();
-        when(employeeRepository.findById(TEST_UUID)).thenReturn(Optional.of(employeeProfile));
-        doNothing().when(employeeRepository).delete(employeeProfile);
+        when(employeeRepository.deleteRowById(TEST_UUID)).thenReturn(Optional.of(deletedEmployee(TEST_UUID)));
 
         // Act
         employeeService.deleteEmployee(TEST_UUID);
 
         // Assert
-        verify(employeeRepository).delete(employeeProfile);
+        verify(employeeRepository).deleteRowById(TEST_UUID);
+        verify(employeeRepository, never()).findById(any());
+        verify(eventPublisher).publishEvent(
+                EmployeeChangedEvent.deleted(TEST_UUID, new EmployeeChangedEvent.Facets("IT", "Developer")));
+    }
+
+    @Test
+    void deleteEmployee_ShouldThrowException_WhenNotFound() {
+        // Arrange
+        when(employeeRepository.deleteRowById(TEST_UUID)).thenReturn(Optional.empty());
+
+        // Act & Assert
+        assertThrows(EmployeeNotFoundException.class, () -> employeeService.deleteEmployee(TEST_UUID));
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    void deleteEmployees_ShouldDeleteInOneStatement_AndReportMissingIds() {
+        // Arrange
+        UUID missing = UUID.randomUUID();
+        Cache cache = mock(Cache.class);
+        when(cacheManager.getCache(CacheConfig.EMPLOYEE_CACHE)).thenReturn(cache);
+        when(employeeRepository.deleteRowsByIdArray(any(UUID[].class))).thenReturn(List.of(deletedEmployee(TEST_UUID)));
+
+        // Act
+        EmployeeBatchDeleteResult result = employeeService.deleteEmployees(List.of(TEST_UUID, missing, TEST_UUID));
+
+        // Assert
+        assertEquals(2, result.getRequested());
+        assertEquals(1, result.getDeleted());
+        assertEquals(List.of(missing), result.getNotFound());
+        verify(employeeRepository).deleteRowsByIdArray(new UUID[]{TEST_UUID, missing});
+        verify(cache).evict(TEST_UUID);
+        verify(eventPublisher).publishEvent(
+                EmployeeChangedEvent.deleted(TEST_UUID, new EmployeeChangedEvent.Facets("IT", "Developer")));
+    }
+
+    @Test
+    void getEmployeesByIds_ShouldServeCachedIdsAndLoadOnlyMisses_InRequestOrder() {
+        // Arrange
+        UUID cachedId = UUID.randomUUID();
+        UUID missing = UUID.randomUUID();
+        EmployeeResponse cachedResponse = new EmployeeResponse();
+        EmployeeResponse loadedResponse = new EmployeeResponse();
+        EmployeeProfile loaded = createTestEmployeeProfile();
+        Cache cache = mock(Cache.class);
+        when(cacheManager.getCache(CacheConfig.EMPLOYEE_CACHE)).thenReturn(cache);
+        when(cache.get(cachedId, EmployeeResponse.class)).thenReturn(cachedResponse);
+        when(employeeRepository.findAllByIdArray(new UUID[]{missing, TEST_UUID})).thenReturn(List.of(loaded));
+        when(employeeMapper.employeeToEmployeeResponse(loaded)).thenReturn(loadedResponse);
+
+        // Act
+        EmployeeBatchGetResult result = employeeService.getEmployeesByIds(List.of(missing, cachedId, TEST_UUID, cachedId));
+
+        // Assert
+        assertEquals(4, result.getRequested());
+        assertEquals(3, result.getFound());
+        assertEquals(List.of(missing, cachedId, TEST_UUID, cachedId),
+                result.getItems().stream().map(EmployeeBatchGetItem::getId).toList());
+        assertEquals(EmployeeBatchGetItem.Status.NOT_FOUND, result.getItems().get(0).getStatus());
+        assertNull(result.getItems().get(0).getEmployee());
+        assertSame(cachedResponse, result.getItems().get(1).getEmployee());
+        assertSame(loadedResponse, result.getItems().get(2).getEmployee());
+        verify(cache).put(TEST_UUID, loadedResponse);
+        verify(employeeRepository, times(1)).findAllByIdArray(any());
+    }
+
+    @Test
+    void getEmployeesByIds_ShouldNotQuery_WhenEveryIdIsCached() {
+        // Arrange
+        Cache cache = mock(Cache.class);
+        when(cacheManager.getCache(CacheConfig.EMPLOYEE_CACHE)).thenReturn(cache);
+        when(cache.get(TEST_UUID, EmployeeResponse.class)).thenReturn(new EmployeeResponse());
+
+        // Act
+        EmployeeBatchGetResult result = employeeService.getEmployeesByIds(List.of(TEST_UUID));
+
+        // Assert
+        assertEquals(1, result.getFound());
+        verify(employeeRepository, never()).findAllByIdArray(any());
+    }
+
+    @Test
+    void getEmployeeFields_ShouldReturnOnlySelectedFields_InResponseOrder() {
+        // Arrange
+        Set<EmployeeField> fields = EmployeeField.parse("imageUrl, firstName,addressDto");
+        Address address = new Address("123 Main St", "New York", "NY", "10001");
+        AddressDto addressDto = new AddressDto("123 Main St", "New York", "NY", "10001");
+        Map<EmployeeField, Object> row = new EnumMap<>(EmployeeField.class);
+        row.put(EmployeeField.ID, TEST_UUID);
+        row.put(EmployeeField.FIRST_NAME, "Test");
+        row.put(EmployeeField.IMAGE_URL, null);
+        row.put(EmployeeField.ADDRESS, address);
+        when(employeeRepository.findFieldsById(TEST_UUID, fields)).thenReturn(Optional.of(row));
+        when(employeeMapper.addressToAddressDto(address)).thenReturn(addressDto);
+
+        // Act
+        Map<String, Object> result = employeeService.getEmployeeFields(TEST_UUID, fields);
+
+        // Assert
+        assertEquals(List.of("id", "firstName", "imageUrl", "addressDto"), List.copyOf(result.keySet()));
+        assertEquals(TEST_UUID, result.get("id"));
+        assertNull(result.get("imageUrl"));
+        assertSame(addressDto, result.get("addressDto"));
+        verify(employeeRepository, never()).findById(any());
+    }
+
+    @Test
+    void searchEmployeeFieldsByName_ShouldUseTheRankedNameSearch() {
+        // Arrange
+        Set<EmployeeField> fields = EmployeeField.parse("lastName");
+        Map<EmployeeField, Object> row = new EnumMap<>(EmployeeField.class);
+        row.put(EmployeeField.ID, TEST_UUID);
+        row.put(EmployeeField.LAST_NAME, "Employee");
+        when(employeeRepository.findFieldsByName("john", fields, PageRequest.of(0, 10)))
+                .thenReturn(new PageImpl<>(List.of(row)));
+
+        // Act
+        Page<Map<String, Object>> result = employeeService.searchEmployeeFieldsByName("john", fields, 0, 10);
+
+        // Assert
+        assertEquals(List.of(Map.of("id", TEST_UUID, "lastName", "Employee")), result.getContent());
+        verify(employeeRepository, never()).findFields(any(), any(), any());
+    }
+
+    @Test
+    void getEmployeeFields_ShouldRejectUnknownField() {
+        // Act & Assert
+        assertThrows(InvalidFieldException.class, () -> EmployeeField.parse("firstName,salary"));
+    }
+
+    @Test
+    void updateEmployeeAddress_ShouldReplaceAddressOnCachedEntity_WithoutExplicitSave() {
+        // Arrange
+        EmployeeProfile employee = createTestEmployeeProfile();
+        AddressDto addressDto = new AddressDto("123 Main St", "New York", "NY", "10001");
+        Address address = new Address("123 Main St", "New York", "NY", "10001");
+        when(employeeEntityCache.contains(TEST_UUID)).thenReturn(true);
+        when(employeeRepository.findById(TEST_UUID)).thenReturn(Optional.of(employee));
+        when(employeeMapper.addressDtoToAddress(addressDto)).thenReturn(address);
+        when(employeeMapper.addressToAddressDto(address)).thenReturn(addressDto);
+
+        // Act
+        AddressDto result = employeeService.updateEmployeeAddress(TEST_UUID, addressDto);
+
+        // Assert
+        assertSame(addressDto, result);
+        assertSame(address, employee.getAddress());
+        verify(employeeRepository, never()).save(any());
+        verify(employeeRepository, never()).updateAddressRow(any(), any(), any(), any());
+        verify(eventPublisher).publishEvent(EmployeeChangedEvent.updated(TEST_UUID, null));
+    }
+
+    @Test
+    void updateEmployeeAddress_ShouldUpdateTheRowWithoutReadingIt_WhenNotCached() {
+        // Arrange
+        AddressDto addressDto = new AddressDto("123 Main St", "New York", "NY", "10001");
+        Address address = new Address("123 Main St", "New York", "NY", "10001");
+        when(auditorAware.getCurrentAuditor()).thenReturn(Optional.of("hr"));
+        when(employeeMapper.addressDtoToAddress(addressDto)).thenReturn(address);
+        when(employeeMapper.addressToAddressDto(address)).thenReturn(addressDto);
+        when(employeeRepository.updateAddressRow(eq(TEST_UUID), eq(address), any(LocalDateTime.class), eq("hr")))
+                .thenReturn(Optional.of(TEST_UUID));
+
+        // Act
+        AddressDto result = employeeService.updateEmployeeAddress(TEST_UUID, addressDto);
+
+        // Assert
+        assertSame(addressDto, result);
+        verify(employeeRepository, never()).findById(any());
+        verify(employeeEntityCache).evictAfterCommit(TEST_UUID);
+        verify(eventPublisher).publishEvent(EmployeeChangedEvent.updated(TEST_UUID, null));
+    }
+
+    @Test
+    void updateEmployeeAddress_ShouldThrowException_WhenEmployeeNotFound() {
+        // Arrange
+        AddressDto addressDto = new AddressDto("123 Main St", "New York", "NY", "10001");
+        when(employeeRepository.updateAddressRow(eq(TEST_UUID), any(), any(), any())).thenReturn(Optional.empty());
+
+        // Act & Assert
+        assertThrows(EmployeeNotFoundException.class, () -> employeeService.updateEmployeeAddress(TEST_UUID, addressDto));
+        verifyNoInteractions(eventPublisher);
+        verify(employeeEntityCache, never()).evictAfterCommit(any());
     }
 
     @Test
     void getAllEmployeesSorted_ShouldReturnSortedPage() {
         // Arrange
-        Pageable pageable = PageRequest.of(0, 10, Sort.Direction.ASC, "firstName");
-        Page<EmployeeProfile> employeePage = new PageImpl<>(List.of(createTestEmployeeProfile()));
-        when(employeeRepository.findAll(pageable)).thenReturn(employeePage);
-        when(employeeMapper.employeeToEmployeeList(any(EmployeeProfile.class))).thenReturn(new EmployeeList());
+        Pageable pageable = PageRequest.of(0, 10, Sort.by(Sort.Direction.ASC, "firstName", "id"));
+        Page<EmployeeList> employeePage = new PageImpl<>(List.of(createTestEmployeeList()));
+        when(employeeRepository.findAllSummaries(pageable)).thenReturn(employeePage);
 
         // Act
         Page<EmployeeList> result = employeeService.getAllEmployeesSorted(0, 10, "firstName", Sort.Direction.ASC);
 
         // Assert
         assertNotNull(result);
-        verify(employeeRepository).findAll(pageable);
+        verify(employeeRepository).findAllSummaries(pageable);
+    }
+
+    @Test
+    void getAllEmployeesSorted_ShouldRejectUnsupportedField() {
+        // Act & Assert
+        assertThrows(InvalidSortFieldException.class,
+                () -> employeeService.getAllEmployeesSorted(0, 10, "birthDate", Sort.Direction.ASC));
+        verifyNoInteractions(employeeRepository);
+    }
+
+    @Test
+    void getAllEmployeesSortedAfter_ShouldSeekByRequestedField() {
+        // Arrange
+        EmployeeList first = createTestEmployeeList();
+        EmployeeList second = createTestEmployeeList();
+        second.setId(UUID.randomUUID());
+        String after = new EmployeeCursor(EmployeeSortField.JOB_TITLE, Sort.Direction.DESC, "Engineer", TEST_UUID).encode();
+        when(employeeRepository.findKeysetPage(eq(EmployeeSortField.JOB_TITLE), eq(Sort.Direction.DESC), any(), eq(2)))
+                .thenReturn(List.of(first, second));
+
+        // Act
+        EmployeeCursorPage result = employeeService.getAllEmployeesSortedAfter(after, 1, "jobTitle", Sort.Direction.DESC);
+
+        // Assert
+        assertTrue(result.isHasNext());
+        EmployeeCursor next = EmployeeCursor.decode(result.getNextCursor());
+        assertEquals(EmployeeSortField.JOB_TITLE, next.sortField());
+        assertEquals(Sort.Direction.DESC, next.direction());
+        assertEquals(first.getJobTitle(), next.sortKey());
+    }
+
+    @Test
+    void getAllEmployeesSortedAfter_ShouldRejectCursorFromAnotherSort() {
+        // Arrange
+        String after = new EmployeeCursor(EmployeeSortField.LAST_NAME, Sort.Direction.ASC, "Employee", TEST_UUID).encode();
+
+        // Act & Assert
+        assertThrows(InvalidCursorException.class,
+                () -> employeeService.getAllEmployeesSortedAfter(after, 10, "firstName", Sort.Direction.ASC));
+        verifyNoInteractions(employeeRepository);
+    }
+
+    @Test
+    void getFilteredEmployees_ShouldQueryOnceWithStableSort() {
+        // Arrange
+        EmployeeFilter filter = EmployeeFilter.builder().department("Engineering").state("TX").build();
+        Pageable pageable = PageRequest.of(0, 10, Sort.by(Sort.Direction.ASC, "lastName", "id"));
+        Page<EmployeeList> employeePage = new PageImpl<>(List.of(createTestEmployeeList()));
+        when(employeeRepository.findSummaries(any(), eq(pageable))).thenReturn(employeePage);
+
+        // Act
+        Page<EmployeeList> result = employeeService.getFilteredEmployees(filter, 0, 10, "lastName", Sort.Direction.ASC);
+
+        // Assert
+        assertSame(employeePage, result);
+        verify(employeeRepository).findSummaries(any(), eq(pageable));
+    }
+
+    @Test
+    void getFilteredEmployees_ShouldRejectInvertedHireDateRange() {
+        // Arrange
+        EmployeeFilter filter = EmployeeFilter.builder()
+                .hiredFrom(LocalDate.of(2024, 1, 1))
+                .hiredTo(LocalDate.of(2023, 1, 1))
+                .build();
+
+        // Act & Assert
+        assertThrows(InvalidFilterException.class,
+                () -> employeeService.getFilteredEmployees(filter, 0, 10, "lastName", Sort.Direction.ASC));
+        verifyNoInteractions(employeeRepository);
+    }
+
+    @Test
+    void getEmployeeFacets_ShouldServeFromCounters_WithoutQuerying() {
+        // Arrange
+        EmployeeFacets facets = EmployeeFacets.builder().total(1).departments(List.of()).jobTitles(List.of()).build();
+        when(employeeFacetCounts.getFacets()).thenReturn(facets);
+
+        // Act
+        EmployeeFacets result = employeeService.getEmployeeFacets();
+
+        // Assert
+        assertSame(facets, result);
+        verifyNoInteractions(employeeRepository);
     }
 
     @Test
     void getEmployeesByJobTitle_ShouldReturnFilteredPage() {
         // Arrange
         Pageable pageable = PageRequest.of(0, 10);
-        Page<EmployeeProfile> employeePage = new PageImpl<>(List.of(createTestEmployeeProfile()));
-        when(employeeRepository.findByJobTitle("Developer", pageable)).thenReturn(employeePage);
-        when(employeeMapper.employeeToEmployeeList(any(EmployeeProfile.class))).thenReturn(new EmployeeList());
+        Page<EmployeeList> employeePage = new PageImpl<>(List.of(createTestEmployeeList()));
+        when(employeeRepository.findSummariesByJobTitle("Developer", pageable)).thenReturn(employeePage);
 
         // Act
         Page<EmployeeList> result = employeeService.getEmployeesByJobTitle("Developer", 0, 10);
 
         // Assert
         assertNotNull(result);
-        verify(employeeRepository).findByJobTitle("Developer", pageable);
+        verify(employeeRepository).findSummariesByJobTitle("Developer", pageable);
     }
 
     @Test
     void searchEmployeesByName_ShouldReturnMatchingResults() {
         // Arrange
         Pageable pageable = PageRequest.of(0, 10);
-        Page<EmployeeProfile> employeePage = new PageImpl<>(List.of(createTestEmployeeProfile()));
-        when(employeeRepository.findByFirstNameContainingOrLastNameContaining("John", "John", pageable))
-                .thenReturn(employeePage);
-        when(employeeMapper.employeeToEmployeeList(any(EmployeeProfile.class))).thenReturn(new EmployeeList());
+        Page<EmployeeList> employeePage = new PageImpl<>(List.of(createTestEmployeeList()));
+        when(employeeRepository.searchSummariesByName("john", "john", pageable)).thenReturn(employeePage);
 
         // Act
-        Page<EmployeeList> result = employeeService.searchEmployeesByName("John", 0, 10);
+        Page<EmployeeList> result = employeeService.searchEmployeesByName(" John ", 0, 10);
 
         // Assert
         assertNotNull(result);
-        verify(employeeRepository).findByFirstNameContainingOrLastNameContaining("John", "John", pageable);
+        verify(employeeRepository).searchSummariesByName("john", "john", pageable);
+    }
+
+    @Test
+    void searchEmployeesByName_ShouldMatchWildcardsLiterally_InDatabaseFallback() {
+        // Arrange
+        Pageable pageable = PageRequest.of(0, 10);
+        when(employeeRepository.searchSummariesByName(any(), any(), eq(pageable))).thenReturn(Page.empty(pageable));
+
+        // Act
+        employeeService.searchEmployeesByName("5%_", 0, 10);
+
+        // Assert
+        verify(employeeRepository).searchSummariesByName("5%_", "5\\%\\_", pageable);
+    }
+
+    @Test
+    void searchEmployeesByName_ShouldUseIndex_WhenReady() {
+        // Arrange
+        Pageable pageable = PageRequest.of(0, 10);
+        Page<EmployeeList> indexPage = new PageImpl<>(List.of(createTestEmployeeList()));
+        when(employeeSearchIndex.canAnswer("John")).thenReturn(true);
+        when(employeeSearchIndex.search("John", pageable)).thenReturn(indexPage);
+
+        // Act
+        Page<EmployeeList> result = employeeService.searchEmployeesByName("John", 0, 10);
+
+        // Assert
+        assertSame(indexPage, result);
+        verifyNoInteractions(employeeRepository);
+    }
+
+    @Test
+    void getEmployeesAfter_ShouldReturnNextCursor_WhenMoreRowsExist() {
+        // Arrange
+        EmployeeList first = createTestEmployeeList();
+        EmployeeList second = createTestEmployeeList();
+        second.setId(UUID.randomUUID());
+        when(employeeRepository.findKeysetPage(EmployeeSortField.LAST_NAME, Sort.Direction.ASC, null, 2))
+                .thenReturn(List.of(first, second));
+
+        // Act
+        EmployeeCursorPage result = employeeService.getEmployeesAfter("", 1);
+
+        // Assert
+        assertTrue(result.isHasNext());
+        assertEquals(1, result.getContent().size());
+        EmployeeCursor cursor = EmployeeCursor.decode(result.getNextCursor());
+        assertEquals(TEST_UUID, cursor.id());
+        assertEquals("Employee", cursor.sortKey());
+    }
+
+    @Test
+    void getEmployeesAfter_ShouldSeekPastCursor() {
+        // Arrange
+        EmployeeCursor cursor = new EmployeeCursor(EmployeeSortField.LAST_NAME, Sort.Direction.ASC, "Employee", TEST_UUID);
+        when(employeeRepository.findKeysetPage(EmployeeSortField.LAST_NAME, Sort.Direction.ASC, cursor, 11))
+                .thenReturn(List.of(createTestEmployeeList()));
+
+        // Act
+        EmployeeCursorPage result = employeeService.getEmployeesAfter(cursor.encode(), 10);
+
+        // Assert
+        assertFalse(result.isHasNext());
+        assertNull(result.getNextCursor());
+        verify(employeeRepository).findKeysetPage(EmployeeSortField.LAST_NAME, Sort.Direction.ASC, cursor, 11);
+    }
+
+    @Test
+    void getAllEmployeesSortedAfter_ShouldEncodeNullSortKey() {
+        // Arrange
+        EmployeeList first = createTestEmployeeList();
+        first.setDepartment(null);
+        EmployeeList second = createTestEmployeeList();
+        second.setId(UUID.randomUUID());
+        when(employeeRepository.findKeysetPage(EmployeeSortField.DEPARTMENT, Sort.Direction.ASC, null, 2))
+                .thenReturn(List.of(first, second));
+
+        // Act
+        EmployeeCursorPage result = employeeService.getAllEmployeesSortedAfter(null, 1, "department", Sort.Direction.ASC);
+
+        // Assert
+        EmployeeCursor next = EmployeeCursor.decode(result.getNextCursor());
+        assertNull(next.sortKey());
+        assertEquals(EmployeeSortField.DEPARTMENT, next.sortField());
+        assertEquals(first.getId(), next.id());
+        assertEquals("null", EmployeeCursor.decode(
+                new EmployeeCursor(EmployeeSortField.DEPARTMENT, Sort.Direction.ASC, "null", TEST_UUID).encode()).sortKey(),
+                "A department literally named null stays a value");
+    }
+
+    @Test
+    void getEmployeesAfter_ShouldRejectMalformedCursor() {
+        // Act & Assert
+        assertThrows(InvalidCursorException.class, () -> employeeService.getEmployeesAfter("not-a-cursor", 10));
+    }
+
+    @Test
+    void getEmployeesAfter_ShouldRejectPageSizeBelowOne() {
+        // Act & Assert
+        assertThrows(InvalidPageSizeException.class, () -> employeeService.getEmployeesAfter("", 0));
+        assertThrows(InvalidPageSizeException.class, () -> employeeService.getEmployeesAfter("", -5));
+        verifyNoInteractions(employeeRepository);
     }
 
     // Helper methods
+    private DeletedEmployee deletedEmployee(UUID id) {
+        return new DeletedEmployee() {
+            @Override
+            public UUID getId() {
+                return id;
+            }
+
+            @Override
+            public String getDepartment() {
+                return "IT";
+            }
+
+            @Override
+            public String getJobTitle() {
+                return "Developer";
+            }
+        };
+    }
+
     private EmployeeRequestDto createTestEmployeeRequest() {
         return EmployeeRequestDto.builder()
                 .firstName("Updated")
@@ -197,6 +645,25 @@ class EmployeeServiceTest {
     }
 
     // Helper methods
+    private DeletedEmployee deletedEmployee(UUID id) {
+        return new DeletedEmployee() {
+            @Override
+            public UUID getId() {
+                return id;
+            }
+
+            @Override
+            public String getDepartment() {
+                return "IT";
+            }
+
+            @Override
+            public String getJobTitle() {
+                return "Developer";
+            }
+        };
+    }
+
     private EmployeeCreateDto createTestEmployeeCreate() {
         return EmployeeCreateDto.builder()
                 .id(TEST_UUID)
@@ -213,6 +680,17 @@ class EmployeeServiceTest {
                 .build();
     }
 
+    private EmployeeList createTestEmployeeList() {
+        return EmployeeList.builder()
+                .id(TEST_UUID)
+                .firstName("Test")
+                .middleName("Middle")
+                .lastName("Employee")
+                .jobTitle("Developer")
+                .imageUrl("http://example.com/image.jpg")
+                .build();
+    }
+
     private EmployeeProfile createTestEmployeeProfile() {
         EmployeeProfile employee = new EmployeeProfile();
         employee.setId(TEST_UUID);
@@ -0,0 +1,104 @@
+package com.renzomendoza.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Fills the directory through employee-service's bulk endpoint before the run,
+ * bypassing the gateway so seeding is not part of the measurement. Names are
+ * drawn from small fixed lists so search terms hit a realistic number of rows.
+ */
+final class EmployeeSeeder {
+
+    static final List<String> LAST_NAMES = List.of(
+            "Garcia", "Johnson", "Mendoza", "Nguyen", "Patel", "Reyes", "Santos", "Smith", "Tanaka", "Williams",
+            "Anderson", "Bautista", "Cruz", "Dela Cruz", "Fernandez", "Kim", "Lopez", "Martinez", "Ramos", "Torres");
+    private static final List<String> FIRST_NAMES = List.of(
+            "Alex", "Bea", "Carlo", "Dana", "Elena", "Felix", "Grace", "Hugo", "Iris", "Jonas",
+            "Karla", "Luis", "Maria", "Noel", "Olga", "Paolo", "Quinn", "Rosa", "Sam", "Tina");
+    private static final List<String> DEPARTMENTS = List.of(
+            "Engineering", "Finance", "Human Resources", "Marketing", "Operations", "Sales", "Support");
+    private static final List<String> JOB_TITLES = List.of(
+            "Analyst", "Designer", "Manager", "Software Engineer", "Specialist", "Team Lead");
+    private static final List<String> CITIES = List.of(
+            "Austin", "Cebu", "Chicago", "Denver", "Makati", "Manila", "Seattle");
+
+    private static final int BATCH_SIZE = 1_000;
+
+    private final HttpClient client;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    EmployeeSeeder(HttpClient client) {
+        this.client = client;
+    }
+
+    /**
+     * Creates the employees and returns their ids
+     */
+    List<UUID> seed(String employeeServiceUrl, String token, int count) throws IOException, InterruptedException {
+        List<UUID> ids = new ArrayList<>(count);
+        for (int from = 0; from < count; from += BATCH_SIZE) {
+            List<Map<String, Object>> batch = new ArrayList<>(BATCH_SIZE);
+            for (int i = from; i < Math.min(from + BATCH_SIZE, count); i++) {
+                UUID id = UUID.nameUUIDFromBytes(("load-test-employee-" + i).getBytes(StandardCharsets.UTF_8));
+                batch.add(employee(id, i));
+                ids.add(id);
+            }
+
+            HttpRequest request = HttpRequest.newBuilder(URI.create(employeeServiceUrl + "/api/v1/employees/bulk"))
+                    .timeout(Duration.ofMinutes(2))
+                    .header("Authorization", "Bearer " + token)
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(batch)))
+                    .build();
+            HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() != 201) {
+                throw new IllegalStateException("Seeding employees " + from + ".. failed with "
+                        + response.statusCode() + ": " + response.body());
+            }
+        }
+        return ids;
+    }
+
+    private static Map<String, Object> employee(UUID id, int i) {
+        Map<String, Object> employee = new LinkedHashMap<>();
+        employee.put("id", id);
+        employee.put("firstName", pick(FIRST_NAMES, i));
+        employee.put("lastName", pick(LAST_NAMES, i / FIRST_NAMES.size()));
+        employee.put("jobTitle", pick(JOB_TITLES, i));
+        employee.put("department", pick(DEPARTMENTS, i));
+        employee.put("hiredDate", LocalDate.of(2015, 1, 1).plusDays(i % 3_650).toString());
+        employee.put("birthDate", LocalDate.of(1970, 1, 1).plusDays(i % 12_000).toString());
+        employee.put("addressDto", Map.of(
+                "street", (i % 900 + 100) + " Main St",
+                "city", pick(CITIES, i),
+                "state", "ST",
+                "zipCode", String.format("%05d", i % 100_000)));
+        employee.put("contactInformationDto", Map.of(
+                "phoneNumber", String.format("+1555%07d", i),
+                "email", "employee" + i + "@load-test.local"));
+        employee.put("emergencyContactDto", Map.of(
+                "firstName", "Jamie",
+                "lastName", pick(LAST_NAMES, i + 7),
+                "relationship", "Sibling",
+                "phoneNumber", String.format("+1556%07d", i)));
+        return employee;
+    }
+
+    private static String pick(List<String> values, int i) {
+        return values.get(Math.floorMod(i, values.size()));
+    }
+}
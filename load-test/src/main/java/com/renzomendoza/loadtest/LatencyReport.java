@@ -0,0 +1,106 @@
+package com.renzomendoza.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latency distribution and error count per route, recorded in microseconds
+ * with three significant digits. Only successful calls enter the histogram;
+ * failures, including gateway circuit-breaker fallbacks, are counted apart.
+ */
+final class LatencyReport {
+
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(1);
+
+    private final Map<Route, Histogram> latencies = new EnumMap<>(Route.class);
+    private final Map<Route, LongAdder> errors = new EnumMap<>(Route.class);
+
+    LatencyReport() {
+        for (Route route : Route.values()) {
+            latencies.put(route, new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, 3));
+            errors.put(route, new LongAdder());
+        }
+    }
+
+    void record(Route route, long elapsedNanos, boolean success) {
+        if (success) {
+            long micros = Math.min(TimeUnit.NANOSECONDS.toMicros(elapsedNanos), HIGHEST_TRACKABLE_MICROS);
+            latencies.get(route).recordValue(micros);
+        } else {
+            errors.get(route).increment();
+        }
+    }
+
+    void print(PrintStream out, Duration measured) {
+        double seconds = measured.toNanos() / 1e9;
+        out.printf("%n%-60s %9s %7s %9s %9s %9s %9s %9s%n",
+                "route", "requests", "errors", "req/s", "p50 ms", "p99 ms", "p999 ms", "max ms");
+        long totalRequests = 0;
+        long totalErrors = 0;
+        for (Route route : Route.values()) {
+            Histogram histogram = latencies.get(route);
+            long failed = errors.get(route).sum();
+            long requests = histogram.getTotalCount() + failed;
+            if (requests == 0) {
+                continue;
+            }
+            totalRequests += requests;
+            totalErrors += failed;
+            out.printf("%-60s %9d %7d %9.1f %9.2f %9.2f %9.2f %9.2f%n",
+                    route.label(), requests, failed, requests / seconds,
+                    millis(histogram, 50), millis(histogram, 99), millis(histogram, 99.9),
+                    histogram.getMaxValue() / 1000.0);
+        }
+        out.printf("%-60s %9d %7d %9.1f%n", "total", totalRequests, totalErrors, totalRequests / seconds);
+    }
+
+    void writeJson(Path file, LoadTestOptions options) throws IOException {
+        double seconds = options.duration().toNanos() / 1e9;
+        Map<String, Object> routes = new LinkedHashMap<>();
+        for (Route route : Route.values()) {
+            Histogram histogram = latencies.get(route);
+            long failed = errors.get(route).sum();
+            long requests = histogram.getTotalCount() + failed;
+            if (requests == 0) {
+                continue;
+            }
+            Map<String, Object> result = new LinkedHashMap<>();
+            result.put("requests", requests);
+            result.put("errors", failed);
+            result.put("throughputPerSecond", requests / seconds);
+            result.put("p50Millis", millis(histogram, 50));
+            result.put("p99Millis", millis(histogram, 99));
+            result.put("p999Millis", millis(histogram, 99.9));
+            result.put("maxMillis", histogram.getMaxValue() / 1000.0);
+            routes.put(route.label(), result);
+        }
+
+        Map<String, Object> document = new LinkedHashMap<>();
+        document.put("users", options.users());
+        document.put("warmupSeconds", options.warmup().toSeconds());
+        document.put("durationSeconds", options.duration().toSeconds());
+        document.put("employees", options.employees());
+        document.put("mix", options.mix().toString());
+        document.put("routes", routes);
+
+        Files.createDirectories(file.getParent());
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(file.toFile(), document);
+    }
+
+    private static double millis(Histogram histogram, double percentile) {
+        return histogram.getValueAtPercentile(percentile) / 1000.0;
+    }
+}
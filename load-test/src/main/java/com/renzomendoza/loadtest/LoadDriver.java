@@ -0,0 +1,157 @@
+package com.renzomendoza.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Closed-loop driver: each virtual user runs on its own virtual thread, logs in
+ * through the gateway, then keeps calling routes picked from the mix with no
+ * think time. Latency is measured from send to fully read response body.
+ * <p>
+ * Because users wait for each response before sending the next, a slow server
+ * lowers the request rate rather than queueing more work; read the percentiles
+ * together with the achieved throughput.
+ */
+final class LoadDriver {
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+    private static final int PAGE_SIZE = 20;
+    private static final String ACCESS_TOKEN_COOKIE = "ACCESS_TOKEN=";
+    // Body of the gateway's circuit-breaker fallback, which is served with 200
+    private static final String FALLBACK_BODY = "Fallback response";
+
+    private final HttpClient client;
+    private final String gatewayUrl;
+    private final ScenarioMix mix;
+    private final List<UUID> employeeIds;
+
+    private volatile LatencyReport report;
+    private volatile boolean stopped;
+
+    LoadDriver(HttpClient client, String gatewayUrl, ScenarioMix mix, List<UUID> employeeIds) {
+        this.client = client;
+        this.gatewayUrl = gatewayUrl;
+        this.mix = mix;
+        this.employeeIds = employeeIds;
+    }
+
+    /**
+     * Runs the warm-up and then the measured phase with the same users, returning only the measured results
+     */
+    LatencyReport run(int users, Duration warmup, Duration duration) throws InterruptedException {
+        report = new LatencyReport();
+        stopped = false;
+
+        List<Thread> threads = new ArrayList<>(users);
+        for (int i = 0; i < users; i++) {
+            int user = i;
+            threads.add(Thread.ofVirtual().name("virtual-user-" + i).start(() -> runUser(user)));
+        }
+
+        Thread.sleep(warmup);
+        LatencyReport measured = new LatencyReport();
+        report = measured;
+        Thread.sleep(duration);
+        stopped = true;
+
+        for (Thread thread : threads) {
+            thread.join(REQUEST_TIMEOUT.toMillis());
+        }
+        return measured;
+    }
+
+    private void runUser(int user) {
+        String username = "load-test-user-" + user;
+        String token = null;
+        while (!stopped) {
+            Route route = token == null ? Route.LOGIN : mix.next();
+            long start = System.nanoTime();
+            boolean success;
+            try {
+                if (route == Route.LOGIN) {
+                    String newToken = login(username);
+                    success = newToken != null;
+                    if (success) {
+                        token = newToken;
+                    }
+                } else {
+                    HttpResponse<String> response = client.send(request(route, token), HttpResponse.BodyHandlers.ofString());
+                    success = response.statusCode() / 100 == 2 && !response.body().startsWith(FALLBACK_BODY);
+                }
+            } catch (IOException e) {
+                success = false;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            // A request that straddles the end of the warm-up lands in whichever report is current when it ends
+            report.record(route, System.nanoTime() - start, success);
+        }
+    }
+
+    /**
+     * Logs in through auth-service, which answers with the access token in an ACCESS_TOKEN cookie
+     */
+    private String login(String username) throws IOException, InterruptedException {
+        String body = "{\"username\":\"" + username + "\",\"password\":\"" + StubIdentityProvider.USER_PASSWORD + "\"}";
+        HttpRequest request = HttpRequest.newBuilder(URI.create(gatewayUrl + "/auth/login"))
+                .timeout(REQUEST_TIMEOUT)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+        HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+        if (response.statusCode() != 200) {
+            return null;
+        }
+        for (String cookie : response.headers().allValues("Set-Cookie")) {
+            if (cookie.startsWith(ACCESS_TOKEN_COOKIE)) {
+                int end = cookie.indexOf(';');
+                return cookie.substring(ACCESS_TOKEN_COOKIE.length(), end < 0 ? cookie.length() : end);
+            }
+        }
+        return null;
+    }
+
+    private HttpRequest request(Route route, String token) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        String employees = gatewayUrl + "/employee-service/api/v1/employees";
+        UUID id = employeeIds.get(random.nextInt(employeeIds.size()));
+
+        HttpRequest.Builder builder = switch (route) {
+            case LIST -> {
+                int pages = Math.max(1, Math.min(50, employeeIds.size() / PAGE_SIZE));
+                yield HttpRequest.newBuilder(URI.create(employees
+                        + "?page=" + random.nextInt(pages) + "&size=" + PAGE_SIZE)).GET();
+            }
+            case SEARCH -> {
+                String name = EmployeeSeeder.LAST_NAMES.get(random.nextInt(EmployeeSeeder.LAST_NAMES.size()));
+                yield HttpRequest.newBuilder(URI.create(employees + "/search?name="
+                        + URLEncoder.encode(name, StandardCharsets.UTF_8) + "&size=" + PAGE_SIZE)).GET();
+            }
+            case GET -> HttpRequest.newBuilder(URI.create(employees + "/" + id)).GET();
+            case PATCH -> {
+                String contact = String.format("{\"phoneNumber\":\"+1557%07d\",\"email\":\"patched-%s@load-test.local\"}",
+                        random.nextInt(10_000_000), id);
+                yield HttpRequest.newBuilder(URI.create(employees + "/" + id + "/contact"))
+                        .header("Content-Type", "application/json")
+                        .method("PATCH", HttpRequest.BodyPublishers.ofString(contact));
+            }
+            case LOGIN -> throw new IllegalArgumentException("Login is not a plain request");
+        };
+        return builder
+                .timeout(REQUEST_TIMEOUT)
+                .header("Authorization", "Bearer " + token)
+                .header("Accept", "application/json")
+                .build();
+    }
+}
@@ -0,0 +1,91 @@
+package com.renzomendoza.loadtest;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Command line of the load test, given as {@code --name=value} pairs
+ *
+ * @param repositoryRoot  checkout containing the service modules and config/
+ * @param outputDirectory where service logs and results.json are written
+ * @param users           concurrent virtual users, each running its own closed loop
+ * @param warmup          traffic before measurement starts (JIT, pools, caches, search index)
+ * @param duration        measured traffic
+ * @param employees       employees seeded before the run
+ * @param mix             relative weight of each route
+ * @param postgresUrl     existing database to use instead of a Testcontainers Postgres
+ * @param serviceHeap     -Xmx of each service JVM
+ */
+record LoadTestOptions(Path repositoryRoot,
+                       Path outputDirectory,
+                       int users,
+                       Duration warmup,
+                       Duration duration,
+                       int employees,
+                       ScenarioMix mix,
+                       String postgresUrl,
+                       String postgresUsername,
+                       String postgresPassword,
+                       String serviceHeap) {
+
+    static final String USAGE = """
+            Usage: java -jar load-test/target/load-test.jar [options]
+              --repository-root=PATH     checkout with the built service jars (default: . or ..)
+              --output=PATH              logs and results.json (default: load-test/target/load-test)
+              --users=N                  concurrent virtual users (default: 50)
+              --warmup=SECONDS           unmeasured traffic first (default: 30)
+              --duration=SECONDS         measured traffic (default: 60)
+              --employees=N              employees to seed (default: 5000)
+              --mix=ROUTE:W,...          route weights (default: %s)
+              --postgres-url=JDBC_URL    use this database instead of a Testcontainers Postgres
+              --postgres-username=NAME   (default: postgres)
+              --postgres-password=PASS   (default: postgres)
+              --service-heap=SIZE        -Xmx of each service JVM (default: 512m)
+            """.formatted(ScenarioMix.DEFAULT);
+
+    static LoadTestOptions parse(String[] args) {
+        Map<String, String> values = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || arg.indexOf('=') < 0) {
+                throw new IllegalArgumentException("Unrecognised argument '" + arg + "'\n" + USAGE);
+            }
+            int separator = arg.indexOf('=');
+            values.put(arg.substring(2, separator), arg.substring(separator + 1));
+        }
+
+        Path root = values.containsKey("repository-root")
+                ? Path.of(values.remove("repository-root"))
+                : defaultRepositoryRoot();
+        LoadTestOptions options = new LoadTestOptions(
+                root.toAbsolutePath().normalize(),
+                Path.of(values.getOrDefault("output", root.resolve("load-test/target/load-test").toString())),
+                Integer.parseInt(values.getOrDefault("users", "50")),
+                Duration.ofSeconds(Long.parseLong(values.getOrDefault("warmup", "30"))),
+                Duration.ofSeconds(Long.parseLong(values.getOrDefault("duration", "60"))),
+                Integer.parseInt(values.getOrDefault("employees", "5000")),
+                ScenarioMix.parse(values.getOrDefault("mix", ScenarioMix.DEFAULT)),
+                values.get("postgres-url"),
+                values.getOrDefault("postgres-username", "postgres"),
+                values.getOrDefault("postgres-password", "postgres"),
+                values.getOrDefault("service-heap", "512m"));
+
+        values.keySet().removeAll(Set.of("output", "users", "warmup", "duration", "employees", "mix",
+                "postgres-url", "postgres-username", "postgres-password", "service-heap"));
+        if (!values.isEmpty()) {
+            throw new IllegalArgumentException("Unknown options " + values.keySet() + "\n" + USAGE);
+        }
+        if (options.users() < 1 || options.employees() < 1) {
+            throw new IllegalArgumentException("--users and --employees must be at least 1");
+        }
+        return options;
+    }
+
+    private static Path defaultRepositoryRoot() {
+        Path cwd = Path.of("").toAbsolutePath();
+        return Files.isDirectory(cwd.resolve("employee-service")) ? cwd : cwd.getParent();
+    }
+}
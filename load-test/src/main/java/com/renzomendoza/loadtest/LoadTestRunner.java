@@ -0,0 +1,165 @@
+package com.renzomendoza.loadtest;
+
+import java.net.http.HttpClient;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Entry point of load-test.jar. Boots a Postgres, a stand-in identity provider
+ * and api-gateway, auth-service and employee-service as a process group, seeds
+ * employees, drives the scripted mix through the gateway and reports
+ * throughput and p50/p99/p999 per route.
+ * <p>
+ * The services run with their default (non-dev) profile, so every request is
+ * authenticated against the stand-in's JWKS exactly as against Keycloak. The
+ * config server and Eureka are not needed: the repo's config/*.yaml files are
+ * imported directly and the gateway routes point at the local ports.
+ * <p>
+ * Build the service jars first, then e.g.
+ * {@code java -jar load-test/target/load-test.jar --users=100 --duration=120}
+ */
+public final class LoadTestRunner {
+
+    private LoadTestRunner() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options;
+        try {
+            options = LoadTestOptions.parse(args);
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.exit(2);
+            return;
+        }
+
+        Path root = options.repositoryRoot();
+        Path employeeServiceJar = ServiceProcess.jarOf(root, "employee-service");
+        Path authServiceJar = ServiceProcess.jarOf(root, "auth-service");
+        Path gatewayJar = ServiceProcess.jarOf(root, "api-gateway");
+
+        List<AutoCloseable> started = new ArrayList<>();
+        Thread shutdownHook = new Thread(() -> closeAll(started), "load-test-shutdown");
+        Runtime.getRuntime().addShutdownHook(shutdownHook);
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            HttpClient client = HttpClient.newBuilder()
+                    .executor(executor)
+                    .connectTimeout(Duration.ofSeconds(5))
+                    .build();
+
+            log("Starting Postgres");
+            LocalPostgres postgres = register(started, LocalPostgres.start(options));
+            StubIdentityProvider identityProvider = register(started, StubIdentityProvider.start());
+            log("Identity provider stand-in at " + identityProvider.issuer());
+
+            int employeePort = ServiceProcess.freePort();
+            int authPort = ServiceProcess.freePort();
+            int gatewayPort = ServiceProcess.freePort();
+            String employeeServiceUrl = "http://127.0.0.1:" + employeePort;
+            String authServiceUrl = "http://127.0.0.1:" + authPort;
+
+            ServiceProcess employeeService = register(started, ServiceProcess.start("employee-service",
+                    employeeServiceJar, employeePort, options.serviceHeap(), List.of(
+                            "spring.profiles.active=default",
+                            "spring.config.import=optional:file:" + root.resolve("config/employee-service.yaml"),
+                            "spring.datasource.url=" + postgres.jdbcUrl(),
+                            "spring.datasource.username=" + postgres.username(),
+                            "spring.datasource.password=" + postgres.password(),
+                            "spring.security.oauth2.resourceserver.jwt.issuer-uri=" + identityProvider.issuer(),
+                            // Logging every statement would dominate the latencies being measured
+                            "spring.jpa.show-sql=false"),
+                    options.outputDirectory()));
+
+            ServiceProcess authService = register(started, ServiceProcess.start("auth-service",
+                    authServiceJar, authPort, options.serviceHeap(), List.of(
+                            "spring.profiles.active=default",
+                            "keycloak.server-uri=" + identityProvider.serverUri(),
+                            "keycloak.realm=" + StubIdentityProvider.REALM,
+                            "keycloak.username=admin",
+                            "keycloak.password=admin",
+                            "keycloak.token-uri=" + identityProvider.tokenUri(),
+                            "keycloak.client-id=" + StubIdentityProvider.CLIENT_ID,
+                            "keycloak.client-secret=" + StubIdentityProvider.CLIENT_SECRET,
+                            "spring.security.oauth2.resourceserver.jwt.issuer-uri=" + identityProvider.issuer(),
+                            "spring.security.oauth2.client.registration.keycloak-service.client-id=" + StubIdentityProvider.CLIENT_ID,
+                            "spring.security.oauth2.client.registration.keycloak-service.client-secret=" + StubIdentityProvider.CLIENT_SECRET,
+                            "spring.security.oauth2.client.registration.keycloak-service.authorization-grant-type=client_credentials",
+                            "spring.security.oauth2.client.provider.keycloak-service.token-uri=" + identityProvider.tokenUri(),
+                            "services.employee-service.url=" + employeeServiceUrl),
+                    options.outputDirectory()));
+
+            // Routes are given in full: a list property set here replaces the one from api-gateway.yaml
+            ServiceProcess gateway = register(started, ServiceProcess.start("api-gateway",
+                    gatewayJar, gatewayPort, options.serviceHeap(), List.of(
+                            "spring.profiles.active=default",
+                            "spring.config.import=optional:file:" + root.resolve("config/api-gateway.yaml"),
+                            "spring.security.oauth2.resourceserver.jwt.issuer-uri=" + identityProvider.issuer(),
+                            "spring.cloud.gateway.routes[0].id=employee-service",
+                            "spring.cloud.gateway.routes[0].uri=" + employeeServiceUrl,
+                            "spring.cloud.gateway.routes[0].predicates[0]=Path=/employee-service/**",
+                            "spring.cloud.gateway.routes[0].filters[0]=RewritePath=/employee-service/(?<segment>.*), /${segment}",
+                            "spring.cloud.gateway.routes[0].filters[1].name=CircuitBreaker",
+                            "spring.cloud.gateway.routes[0].filters[1].args.name=employeeCircuitBreaker",
+                            "spring.cloud.gateway.routes[0].filters[1].args.fallbackUri=forward:/fallback",
+                            "spring.cloud.gateway.routes[1].id=auth-service",
+                            "spring.cloud.gateway.routes[1].uri=" + authServiceUrl,
+                            "spring.cloud.gateway.routes[1].predicates[0]=Path=/auth/**"),
+                    options.outputDirectory()));
+
+            for (ServiceProcess service : List.of(employeeService, authService, gateway)) {
+                service.awaitStarted(client);
+                log(service.name() + " is up at " + service.baseUrl());
+            }
+
+            log("Seeding " + options.employees() + " employees");
+            List<UUID> employeeIds = new EmployeeSeeder(client)
+                    .seed(employeeServiceUrl, identityProvider.serviceToken(), options.employees());
+
+            log("Running " + options.users() + " users, mix " + options.mix() + ": "
+                    + options.warmup().toSeconds() + "s warm-up, " + options.duration().toSeconds() + "s measured");
+            LatencyReport report = new LoadDriver(client, gateway.baseUrl(), options.mix(), employeeIds)
+                    .run(options.users(), options.warmup(), options.duration());
+
+            report.print(System.out, options.duration());
+            Path results = options.outputDirectory().resolve("results.json");
+            report.writeJson(results, options);
+            log("Results written to " + results + ", service logs in " + options.outputDirectory());
+        } finally {
+            closeAll(started);
+            Runtime.getRuntime().removeShutdownHook(shutdownHook);
+        }
+    }
+
+    private static <T extends AutoCloseable> T register(List<AutoCloseable> started, T resource) {
+        synchronized (started) {
+            started.add(resource);
+        }
+        return resource;
+    }
+
+    /**
+     * Stops everything in reverse start order, so the gateway goes before the services and the database last
+     */
+    private static void closeAll(List<AutoCloseable> started) {
+        synchronized (started) {
+            for (int i = started.size() - 1; i >= 0; i--) {
+                try {
+                    started.get(i).close();
+                } catch (Exception e) {
+                    System.err.println("Failed to stop " + started.get(i) + ": " + e.getMessage());
+                }
+            }
+            started.clear();
+        }
+    }
+
+    private static void log(String message) {
+        System.out.println("[load-test] " + message);
+    }
+}
@@ -0,0 +1,62 @@
+package com.renzomendoza.loadtest;
+
+import org.testcontainers.containers.PostgreSQLContainer;
+
+/**
+ * Database employee-service runs against: either an existing local Postgres
+ * given on the command line, or a throwaway Testcontainers one. Flyway creates
+ * the schema either way when employee-service starts.
+ */
+final class LocalPostgres implements AutoCloseable {
+
+    private final PostgreSQLContainer<?> container;
+    private final String jdbcUrl;
+    private final String username;
+    private final String password;
+
+    private LocalPostgres(PostgreSQLContainer<?> container, String jdbcUrl, String username, String password) {
+        this.container = container;
+        this.jdbcUrl = jdbcUrl;
+        this.username = username;
+        this.password = password;
+    }
+
+    static LocalPostgres start(LoadTestOptions options) {
+        if (options.postgresUrl() != null) {
+            return new LocalPostgres(null, options.postgresUrl(), options.postgresUsername(), options.postgresPassword());
+        }
+        PostgreSQLContainer<?> container = new PostgreSQLContainer<>("postgres:15-alpine")
+                .withDatabaseName("employee_database")
+                .withUsername("postgres")
+                .withPassword("postgres")
+                // Closer to a real server than the image defaults, which assume a tiny machine
+                .withCommand("postgres", "-c", "max_connections=200", "-c", "shared_buffers=256MB");
+        container.start();
+        return new LocalPostgres(container, container.getJdbcUrl(), container.getUsername(), container.getPassword());
+    }
+
+    /**
+     * JDBC URL with the batching flag employee-service normally sets in its config
+     */
+    String jdbcUrl() {
+        if (jdbcUrl.contains("reWriteBatchedInserts")) {
+            return jdbcUrl;
+        }
+        return jdbcUrl + (jdbcUrl.contains("?") ? "&" : "?") + "reWriteBatchedInserts=true";
+    }
+
+    String username() {
+        return username;
+    }
+
+    String password() {
+        return password;
+    }
+
+    @Override
+    public void close() {
+        if (container != null) {
+            container.stop();
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.renzomendoza.loadtest;
+
+/**
+ * Scripted operations a virtual user performs, all sent through the gateway
+ */
+enum Route {
+
+    LOGIN("POST /auth/login"),
+    LIST("GET /employee-service/api/v1/employees"),
+    SEARCH("GET /employee-service/api/v1/employees/search"),
+    GET("GET /employee-service/api/v1/employees/{id}"),
+    PATCH("PATCH /employee-service/api/v1/employees/{id}/contact");
+
+    private final String label;
+
+    Route(String label) {
+        this.label = label;
+    }
+
+    String label() {
+        return label;
+    }
+}
@@ -0,0 +1,69 @@
+package com.renzomendoza.loadtest;
+
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Weighted choice of the next route a virtual user calls, e.g. {@code list:30,search:20,get:40,patch:10}
+ */
+final class ScenarioMix {
+
+    static final String DEFAULT = "login:2,list:25,search:20,get:43,patch:10";
+
+    private final Map<Route, Integer> weights;
+    private final Route[] routes;
+    private final int[] cumulative;
+
+    private ScenarioMix(Map<Route, Integer> weights) {
+        this.weights = weights;
+        this.routes = weights.keySet().toArray(Route[]::new);
+        this.cumulative = new int[routes.length];
+        int total = 0;
+        for (int i = 0; i < routes.length; i++) {
+            total += weights.get(routes[i]);
+            cumulative[i] = total;
+        }
+    }
+
+    static ScenarioMix parse(String spec) {
+        Map<Route, Integer> weights = new EnumMap<>(Route.class);
+        for (String entry : spec.split(",")) {
+            String[] parts = entry.trim().split(":");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Mix entries look like route:weight, got '" + entry + "'");
+            }
+            Route route = Route.valueOf(parts[0].trim().toUpperCase(Locale.ROOT));
+            int weight = Integer.parseInt(parts[1].trim());
+            if (weight < 0) {
+                throw new IllegalArgumentException("Weight of " + route + " must not be negative");
+            }
+            if (weight > 0) {
+                weights.put(route, weight);
+            }
+        }
+        if (weights.isEmpty()) {
+            throw new IllegalArgumentException("Mix '" + spec + "' selects no routes");
+        }
+        return new ScenarioMix(weights);
+    }
+
+    Route next() {
+        int pick = ThreadLocalRandom.current().nextInt(cumulative[cumulative.length - 1]);
+        for (int i = 0; i < cumulative.length; i++) {
+            if (pick < cumulative[i]) {
+                return routes[i];
+            }
+        }
+        throw new IllegalStateException("unreachable");
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder spec = new StringBuilder();
+        weights.forEach((route, weight) -> spec.append(spec.isEmpty() ? "" : ",")
+                .append(route.name().toLowerCase(Locale.ROOT)).append(':').append(weight));
+        return spec.toString();
+    }
+}
@@ -0,0 +1,141 @@
+package com.renzomendoza.loadtest;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * One service of the process group, started from its Boot jar in a child JVM.
+ * <p>
+ * Separate JVMs keep the gateway's WebFlux classpath apart from the two servlet
+ * services and give each its own heap and GC, as in a deployment. Output goes to
+ * {@code <name>.log} in the output directory.
+ */
+final class ServiceProcess implements AutoCloseable {
+
+    private static final Duration STARTUP_TIMEOUT = Duration.ofMinutes(3);
+    private static final Duration SHUTDOWN_TIMEOUT = Duration.ofSeconds(30);
+
+    private final String name;
+    private final int port;
+    private final Process process;
+    private final Path log;
+
+    private ServiceProcess(String name, int port, Process process, Path log) {
+        this.name = name;
+        this.port = port;
+        this.process = process;
+        this.log = log;
+    }
+
+    /**
+     * Starts the service with its config server and Eureka turned off, so it only needs the given properties
+     */
+    static ServiceProcess start(String name, Path jar, int port, String heap, List<String> properties, Path outputDirectory)
+            throws IOException {
+        List<String> command = new ArrayList<>();
+        command.add(ProcessHandle.current().info().command().orElse("java"));
+        command.add("-Xmx" + heap);
+        command.add("-jar");
+        command.add(jar.toString());
+        command.add("--server.port=" + port);
+        command.add("--spring.cloud.config.enabled=false");
+        command.add("--eureka.client.enabled=false");
+        properties.forEach(property -> command.add("--" + property));
+
+        Files.createDirectories(outputDirectory);
+        Path log = outputDirectory.resolve(name + ".log");
+        Process process = new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(log.toFile())
+                .start();
+        return new ServiceProcess(name, port, process, log);
+    }
+
+    /**
+     * Locates the runnable jar of a module under {@code <module>/target}, preferring the 'exec' classifier
+     */
+    static Path jarOf(Path repositoryRoot, String module) throws IOException {
+        Path target = repositoryRoot.resolve(module).resolve("target");
+        if (!Files.isDirectory(target)) {
+            throw new IllegalStateException("No " + target + ": run 'mvn -f " + module + "/pom.xml package' first");
+        }
+        try (Stream<Path> files = Files.list(target)) {
+            List<Path> jars = files
+                    .filter(path -> path.getFileName().toString().startsWith(module + "-"))
+                    .filter(path -> path.getFileName().toString().endsWith(".jar"))
+                    .filter(path -> !path.getFileName().toString().endsWith("-plain.jar"))
+                    .filter(path -> !path.getFileName().toString().endsWith("-sources.jar"))
+                    .sorted()
+                    .toList();
+            return jars.stream()
+                    .filter(path -> path.getFileName().toString().endsWith("-exec.jar"))
+                    .findFirst()
+                    .or(() -> jars.stream().findFirst())
+                    .orElseThrow(() -> new IllegalStateException("No runnable jar in " + target));
+        }
+    }
+
+    static int freePort() {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            socket.setReuseAddress(true);
+            return socket.getLocalPort();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Waits until the service answers HTTP at all. Any status counts, since the
+     * secured services answer 401 as soon as their web server is up.
+     */
+    void awaitStarted(HttpClient client) throws InterruptedException {
+        HttpRequest probe = HttpRequest.newBuilder(URI.create(baseUrl() + "/actuator/health"))
+                .timeout(Duration.ofSeconds(2))
+                .GET()
+                .build();
+        long deadline = System.nanoTime() + STARTUP_TIMEOUT.toNanos();
+        while (System.nanoTime() < deadline) {
+            if (!process.isAlive()) {
+                throw new IllegalStateException(name + " exited with " + process.exitValue() + ", see " + log);
+            }
+            try {
+                client.send(probe, HttpResponse.BodyHandlers.discarding());
+                return;
+            } catch (IOException notListeningYet) {
+                Thread.sleep(500);
+            }
+        }
+        throw new IllegalStateException(name + " did not start within " + STARTUP_TIMEOUT + ", see " + log);
+    }
+
+    String name() {
+        return name;
+    }
+
+    String baseUrl() {
+        return "http://127.0.0.1:" + port;
+    }
+
+    @Override
+    public void close() throws InterruptedException {
+        if (!process.isAlive()) {
+            return;
+        }
+        process.destroy();
+        if (!process.waitFor(SHUTDOWN_TIMEOUT.toSeconds(), TimeUnit.SECONDS)) {
+            process.destroyForcibly().waitFor();
+        }
+    }
+}
@@ -0,0 +1,227 @@
+package com.renzomendoza.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JOSEObjectType;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.crypto.RSASSASigner;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.KeyUse;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.jwk.gen.RSAKeyGenerator;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Minimal stand-in for the Keycloak realm the services trust. It serves the
+ * OpenID discovery document, the JWKS and a token endpoint for the password and
+ * client_credentials grants, and signs RS256 tokens carrying
+ * {@code realm_access.roles} the way the employee-service SecurityConfig reads them.
+ * <p>
+ * Any username is accepted with {@link #USER_PASSWORD}; the admin API used by
+ * registration is not emulated.
+ */
+final class StubIdentityProvider implements AutoCloseable {
+
+    static final String REALM = "myrealm";
+    static final String CLIENT_ID = "auth-service";
+    static final String CLIENT_SECRET = "load-test-secret";
+    static final String USER_PASSWORD = "load-test";
+
+    // Roles granted to every virtual user: enough for list, search, get and patch
+    static final List<String> USER_ROLES = List.of(
+            "VIEW_EMPLOYEE_LIST", "VIEW_EMPLOYEE_DETAIL", "VIEW_EMPLOYEE_UPDATE");
+    static final List<String> SERVICE_ROLES = List.of(
+            "VIEW_EMPLOYEE_LIST", "VIEW_EMPLOYEE_DETAIL", "VIEW_EMPLOYEE_UPDATE", "VIEW_EMPLOYEE_DELETE");
+
+    // Longer than any run, so virtual users only re-login when the mix says so
+    private static final Duration TOKEN_LIFETIME = Duration.ofHours(2);
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final RSAKey signingKey;
+    private final RSASSASigner signer;
+    private final HttpServer server;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final String issuer;
+
+    private StubIdentityProvider(RSAKey signingKey, HttpServer server) throws JOSEException {
+        this.signingKey = signingKey;
+        this.signer = new RSASSASigner(signingKey);
+        this.server = server;
+        this.issuer = "http://127.0.0.1:" + server.getAddress().getPort() + "/realms/" + REALM;
+    }
+
+    static StubIdentityProvider start() throws IOException, JOSEException {
+        RSAKey key = new RSAKeyGenerator(2048)
+                .keyID("load-test")
+                .keyUse(KeyUse.SIGNATURE)
+                .algorithm(JWSAlgorithm.RS256)
+                .generate();
+        HttpServer server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        StubIdentityProvider provider = new StubIdentityProvider(key, server);
+
+        String realmPath = "/realms/" + REALM;
+        server.createContext(realmPath + "/.well-known/openid-configuration", provider::discovery);
+        server.createContext(realmPath + "/protocol/openid-connect/certs", provider::jwks);
+        server.createContext(realmPath + "/protocol/openid-connect/token", provider::token);
+        server.setExecutor(provider.executor);
+        server.start();
+        return provider;
+    }
+
+    String issuer() {
+        return issuer;
+    }
+
+    String serverUri() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    String tokenUri() {
+        return issuer + "/protocol/openid-connect/token";
+    }
+
+    /**
+     * Access token for a service account, used to seed data directly against employee-service
+     */
+    String serviceToken() {
+        return sign(accessClaims("service-account-" + CLIENT_ID, CLIENT_ID, SERVICE_ROLES));
+    }
+
+    private void discovery(HttpExchange exchange) throws IOException {
+        Map<String, Object> document = new LinkedHashMap<>();
+        document.put("issuer", issuer);
+        document.put("authorization_endpoint", issuer + "/protocol/openid-connect/auth");
+        document.put("token_endpoint", tokenUri());
+        document.put("jwks_uri", issuer + "/protocol/openid-connect/certs");
+        document.put("grant_types_supported", List.of("password", "client_credentials", "refresh_token"));
+        document.put("response_types_supported", List.of("code", "token"));
+        document.put("subject_types_supported", List.of("public"));
+        document.put("id_token_signing_alg_values_supported", List.of("RS256"));
+        respond(exchange, 200, document);
+    }
+
+    private void jwks(HttpExchange exchange) throws IOException {
+        respond(exchange, 200, new JWKSet(signingKey.toPublicJWK()).toJSONObject());
+    }
+
+    private void token(HttpExchange exchange) throws IOException {
+        if (!"POST".equals(exchange.getRequestMethod())) {
+            respond(exchange, 405, Map.of("error", "invalid_request"));
+            return;
+        }
+        Map<String, String> form = parseForm(new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8));
+        String grantType = form.getOrDefault("grant_type", "");
+        switch (grantType) {
+            case "password" -> {
+                String username = form.get("username");
+                if (username == null || username.isBlank() || !USER_PASSWORD.equals(form.get("password"))) {
+                    respond(exchange, 401, Map.of("error", "invalid_grant",
+                            "error_description", "Invalid user credentials"));
+                    return;
+                }
+                respond(exchange, 200, tokenResponse(accessClaims(username,
+                        form.getOrDefault("client_id", CLIENT_ID), USER_ROLES), username));
+            }
+            case "client_credentials" -> {
+                String clientId = form.getOrDefault("client_id", CLIENT_ID);
+                respond(exchange, 200, tokenResponse(accessClaims("service-account-" + clientId, clientId,
+                        SERVICE_ROLES), null));
+            }
+            default -> respond(exchange, 400, Map.of("error", "unsupported_grant_type"));
+        }
+    }
+
+    private Map<String, Object> tokenResponse(JWTClaimsSet access, String username) {
+        Map<String, Object> response = new LinkedHashMap<>();
+        response.put("access_token", sign(access));
+        if (username != null) {
+            JWTClaimsSet refresh = new JWTClaimsSet.Builder(access)
+                    .jwtID(UUID.randomUUID().toString())
+                    .claim("typ", "Refresh")
+                    .build();
+            response.put("refresh_token", sign(refresh));
+            response.put("id_token", sign(new JWTClaimsSet.Builder(access).claim("typ", "ID").build()));
+            response.put("refresh_expires_in", TOKEN_LIFETIME.toSeconds());
+        }
+        response.put("token_type", "Bearer");
+        response.put("expires_in", TOKEN_LIFETIME.toSeconds());
+        response.put("scope", "openid email profile");
+        return response;
+    }
+
+    private JWTClaimsSet accessClaims(String username, String clientId, List<String> roles) {
+        Instant now = Instant.now();
+        return new JWTClaimsSet.Builder()
+                .issuer(issuer)
+                .subject(UUID.nameUUIDFromBytes(username.getBytes(StandardCharsets.UTF_8)).toString())
+                .audience("account")
+                .issueTime(Date.from(now))
+                .expirationTime(Date.from(now.plus(TOKEN_LIFETIME)))
+                .jwtID(UUID.randomUUID().toString())
+                .claim("typ", "Bearer")
+                .claim("azp", clientId)
+                .claim("scope", "openid email profile")
+                .claim("preferred_username", username)
+                .claim("email", username + "@load-test.local")
+                .claim("realm_access", Map.of("roles", roles))
+                .build();
+    }
+
+    private String sign(JWTClaimsSet claims) {
+        JWSHeader header = new JWSHeader.Builder(JWSAlgorithm.RS256)
+                .keyID(signingKey.getKeyID())
+                .type(JOSEObjectType.JWT)
+                .build();
+        SignedJWT jwt = new SignedJWT(header, claims);
+        try {
+            jwt.sign(signer);
+        } catch (JOSEException e) {
+            throw new IllegalStateException("Could not sign token", e);
+        }
+        return jwt.serialize();
+    }
+
+    private void respond(HttpExchange exchange, int status, Object body) throws IOException {
+        byte[] bytes = objectMapper.writeValueAsBytes(body);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private static Map<String, String> parseForm(String body) {
+        Map<String, String> form = new HashMap<>();
+        for (String pair : body.split("&")) {
+            if (pair.isEmpty()) {
+                continue;
+            }
+            int separator = pair.indexOf('=');
+            String name = separator < 0 ? pair : pair.substring(0, separator);
+            String value = separator < 0 ? "" : pair.substring(separator + 1);
+            form.put(URLDecoder.decode(name, StandardCharsets.UTF_8), URLDecoder.decode(value, StandardCharsets.UTF_8));
+        }
+        return form;
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+}